@@ -2,11 +2,15 @@ package com.simplecrm.Models.Entities;
 
 import jakarta.persistence.*;
 import lombok.*;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
 
 import java.time.LocalDateTime;
 
 @Entity
 @Table(name = "sellers")
+@Cacheable
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = "sellers")
 @Getter
 @Setter
 @ToString
@@ -15,7 +19,8 @@ import java.time.LocalDateTime;
 public class Seller {
 
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "seller_seq")
+    @SequenceGenerator(name = "seller_seq", sequenceName = "seller_seq", allocationSize = 50)
     private Long id;
 
     @Column(nullable = false, length = 255)
@@ -0,0 +1,25 @@
+package com.simplecrm.Models.Entities;
+
+import jakarta.persistence.*;
+import lombok.*;
+
+import java.math.BigDecimal;
+
+@Entity
+@Table(name = "seller_daily_totals")
+@Getter
+@Setter
+@ToString
+@EqualsAndHashCode
+@NoArgsConstructor
+public class SellerDailyTotal {
+
+    @EmbeddedId
+    private SellerDailyTotalId id;
+
+    @Column(name = "sum_amount", nullable = false, precision = 19, scale = 5)
+    private BigDecimal sumAmount = BigDecimal.ZERO;
+
+    @Column(name = "tx_count", nullable = false)
+    private Long txCount = 0L;
+}
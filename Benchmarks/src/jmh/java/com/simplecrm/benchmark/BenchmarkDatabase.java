@@ -0,0 +1,42 @@
+package com.simplecrm.benchmark;
+
+import com.simplecrm.Utils.Mapper;
+import org.springframework.boot.Banner;
+import org.springframework.boot.SpringBootConfiguration;
+import org.springframework.boot.WebApplicationType;
+import org.springframework.boot.autoconfigure.EnableAutoConfiguration;
+import org.springframework.boot.autoconfigure.domain.EntityScan;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.context.annotation.Import;
+import org.springframework.data.jpa.repository.config.EnableJpaRepositories;
+
+/**
+ * Repositories and Mapper over an in-memory H2 database, without the web layer, replicas or
+ * the second-level cache, so a benchmark measures the query and mapping work alone.
+ */
+@SpringBootConfiguration
+@EnableAutoConfiguration
+@EntityScan({"com.simplecrm.Models.Entities", "com.simplecrm.benchmark.ids"})
+@EnableJpaRepositories("com.simplecrm.Repositories")
+@Import(Mapper.class)
+public class BenchmarkDatabase {
+
+    public static ConfigurableApplicationContext start() {
+        return new SpringApplicationBuilder(BenchmarkDatabase.class)
+                .web(WebApplicationType.NONE)
+                .bannerMode(Banner.Mode.OFF)
+                .logStartupInfo(false)
+                .properties(
+                        "spring.datasource.url=jdbc:h2:mem:benchmark;DB_CLOSE_DELAY=-1;MODE=PostgreSQL;NON_KEYWORDS=DAY",
+                        "spring.datasource.username=sa",
+                        "spring.jpa.hibernate.ddl-auto=create-drop",
+                        "spring.jpa.open-in-view=false",
+                        "spring.jpa.properties.hibernate.jdbc.batch_size=500",
+                        "spring.jpa.properties.hibernate.order_inserts=true",
+                        "spring.jpa.properties.hibernate.id.optimizer.pooled.preferred=pooled-lo",
+                        "spring.flyway.enabled=false",
+                        "logging.level.root=WARN")
+                .run();
+    }
+}
@@ -0,0 +1,86 @@
+package com.simplecrm.benchmark;
+
+import com.simplecrm.AnalyticsDTO.BestPeriodWindow;
+import com.simplecrm.Models.Entities.Transaction;
+import com.simplecrm.Utils.BestPeriodCalculator;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.math.BigDecimal;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.SplittableRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Best-period search over one seller's history. {@code compute} is the sliding window alone;
+ * {@code fromEntities} adds the array extraction AnalyticsServiceImpl does before it.
+ * Gaps between transactions average five minutes, so an hour holds about a dozen rows.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@State(Scope.Benchmark)
+public class BestPeriodBenchmark {
+
+    @Param({"1000", "10000", "100000", "1000000"})
+    private int rows;
+
+    /** A {@link BestPeriodWindow} name, or {@code ALL} for the whole history. */
+    @Param({"HOUR", "WEEK", "ALL"})
+    private String window;
+
+    private Duration duration;
+    private List<Transaction> transactions;
+    private long[] epochMillis;
+    private BigDecimal[] amounts;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        duration = "ALL".equals(window) ? null : BestPeriodWindow.valueOf(window).getDuration();
+
+        SplittableRandom random = new SplittableRandom(42);
+        LocalDateTime date = LocalDateTime.of(2020, 1, 1, 0, 0);
+        transactions = new ArrayList<>(rows);
+        for (int i = 0; i < rows; i++) {
+            date = date.plusSeconds(random.nextLong(1, 600));
+            Transaction transaction = new Transaction();
+            transaction.setTransactionDate(date);
+            transaction.setAmount(BigDecimal.valueOf(random.nextLong(1, 1_000_000), 2));
+            transactions.add(transaction);
+        }
+        epochMillis = new long[rows];
+        amounts = new BigDecimal[rows];
+        extract(transactions, epochMillis, amounts);
+    }
+
+    @Benchmark
+    public BestPeriodCalculator.Result compute() {
+        return BestPeriodCalculator.compute(epochMillis, amounts, duration);
+    }
+
+    @Benchmark
+    public BestPeriodCalculator.Result fromEntities() {
+        long[] millis = new long[transactions.size()];
+        BigDecimal[] values = new BigDecimal[transactions.size()];
+        extract(transactions, millis, values);
+        return BestPeriodCalculator.compute(millis, values, duration);
+    }
+
+    private static void extract(List<Transaction> transactions, long[] epochMillis, BigDecimal[] amounts) {
+        for (int i = 0; i < transactions.size(); i++) {
+            Transaction transaction = transactions.get(i);
+            epochMillis[i] = transaction.getTransactionDate().toInstant(ZoneOffset.UTC).toEpochMilli();
+            amounts[i] = transaction.getAmount();
+        }
+    }
+}
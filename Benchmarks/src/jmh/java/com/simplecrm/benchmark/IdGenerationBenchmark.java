@@ -0,0 +1,96 @@
+package com.simplecrm.benchmark;
+
+import com.simplecrm.benchmark.ids.IdentityRow;
+import com.simplecrm.benchmark.ids.SequenceRow;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.EntityManagerFactory;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.orm.jpa.SharedEntityManagerCreator;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Insert throughput of IDENTITY ids against pooled-lo SEQUENCE ids in the same run, using two
+ * benchmark-only entities with the transaction columns. Each operation persists {@code rows}
+ * entities in one transaction, flushing every {@code flushEvery} like the batch create path.
+ * IDENTITY has to execute every insert immediately to learn its key, so JDBC batching is off;
+ * the sequence fetches one value per 50 ids and lets Hibernate batch the inserts.
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@State(Scope.Benchmark)
+public class IdGenerationBenchmark {
+
+    @Param({"1000", "10000"})
+    private int rows;
+
+    @Param({"500"})
+    private int flushEvery;
+
+    private ConfigurableApplicationContext context;
+    private TransactionTemplate writes;
+    private EntityManager entityManager;
+    private LocalDateTime base;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        context = BenchmarkDatabase.start();
+        writes = new TransactionTemplate(context.getBean(PlatformTransactionManager.class));
+        entityManager = SharedEntityManagerCreator.createSharedEntityManager(context.getBean(EntityManagerFactory.class));
+        base = LocalDateTime.of(2024, 1, 1, 0, 0);
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        context.close();
+    }
+
+    @Benchmark
+    public Long insert_identity() {
+        return writes.execute(status -> {
+            IdentityRow last = null;
+            for (int i = 0; i < rows; i++) {
+                last = new IdentityRow(BigDecimal.valueOf(i % 10_000, 2), base.plusMinutes(i));
+                entityManager.persist(last);
+                flushEvery(i);
+            }
+            entityManager.flush();
+            return last.getId();
+        });
+    }
+
+    @Benchmark
+    public Long insert_sequence() {
+        return writes.execute(status -> {
+            SequenceRow last = null;
+            for (int i = 0; i < rows; i++) {
+                last = new SequenceRow(BigDecimal.valueOf(i % 10_000, 2), base.plusMinutes(i));
+                entityManager.persist(last);
+                flushEvery(i);
+            }
+            entityManager.flush();
+            return last.getId();
+        });
+    }
+
+    private void flushEvery(int i) {
+        if ((i + 1) % flushEvery == 0) {
+            entityManager.flush();
+            entityManager.clear();
+        }
+    }
+}
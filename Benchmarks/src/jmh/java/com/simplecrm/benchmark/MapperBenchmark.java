@@ -0,0 +1,83 @@
+package com.simplecrm.benchmark;
+
+import com.simplecrm.Models.Entities.Seller;
+import com.simplecrm.Models.Entities.Transaction;
+import com.simplecrm.Models.Enums.PaymentType;
+import com.simplecrm.ResponseDTO.TransactionResponseDTO;
+import com.simplecrm.Utils.Mapper;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Per-row mapping, which builds a seller DTO for every transaction, against the batch API that
+ * builds one per seller. {@code sellers = 1} is the getTransactionsBySellerIdAndDateRange shape.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@State(Scope.Benchmark)
+public class MapperBenchmark {
+
+    @Param({"1000", "50000"})
+    private int rows;
+
+    @Param({"1", "100", "50000"})
+    private int sellers;
+
+    private final Mapper mapper = new Mapper();
+    private List<Transaction> transactions;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        LocalDateTime start = LocalDateTime.of(2024, 1, 1, 0, 0);
+        List<Seller> owners = new ArrayList<>(sellers);
+        for (int i = 0; i < sellers; i++) {
+            Seller seller = new Seller();
+            seller.setId((long) i + 1);
+            seller.setName("Seller " + i);
+            seller.setContactInfo("seller" + i + "@example.com");
+            seller.setRegistrationDate(start.minusDays(1));
+            seller.setVersion(0L);
+            owners.add(seller);
+        }
+
+        PaymentType[] paymentTypes = PaymentType.values();
+        transactions = new ArrayList<>(rows);
+        for (int i = 0; i < rows; i++) {
+            Transaction transaction = new Transaction();
+            transaction.setId((long) i + 1);
+            transaction.setSeller(owners.get(i % sellers));
+            transaction.setAmount(BigDecimal.valueOf(i % 10_000, 2));
+            transaction.setPaymentType(paymentTypes[i % paymentTypes.length]);
+            transaction.setTransactionDate(start.plusMinutes(i));
+            transaction.setVersion(0L);
+            transactions.add(transaction);
+        }
+    }
+
+    @Benchmark
+    public List<TransactionResponseDTO> perRow() {
+        List<TransactionResponseDTO> result = new ArrayList<>(transactions.size());
+        for (Transaction transaction : transactions) {
+            result.add(mapper.mapEntityToTransactionResponseDto(transaction));
+        }
+        return result;
+    }
+
+    @Benchmark
+    public List<TransactionResponseDTO> batch() {
+        return mapper.mapEntitiesToTransactionResponseDtos(transactions);
+    }
+}
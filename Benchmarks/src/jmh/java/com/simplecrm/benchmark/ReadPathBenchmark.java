@@ -0,0 +1,155 @@
+package com.simplecrm.benchmark;
+
+import com.simplecrm.Models.Entities.Seller;
+import com.simplecrm.Models.Entities.Transaction;
+import com.simplecrm.Models.Enums.PaymentType;
+import com.simplecrm.Repositories.SellerRepository;
+import com.simplecrm.Repositories.TransactionRepository;
+import com.simplecrm.ResponseDTO.SellerResponseDTO;
+import com.simplecrm.ResponseDTO.TransactionResponseDTO;
+import com.simplecrm.Utils.Mapper;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.EntityManagerFactory;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.orm.jpa.SharedEntityManagerCreator;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Listing read paths: managed entities copied by {@link Mapper} (the queries the services ran
+ * before) against DTO constructor projections. Both run in a read-only transaction like the
+ * services do. Compare {@code gc.alloc.rate.norm} from the GC profiler.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@State(Scope.Benchmark)
+public class ReadPathBenchmark {
+
+    private static final String ENTITIES_BY_DATE_RANGE =
+            "SELECT t FROM Transaction t JOIN FETCH t.seller WHERE t.deleted = false"
+                    + " AND t.transactionDate >= :start AND t.transactionDate <= :end ORDER BY t.transactionDate ASC";
+    private static final String ENTITIES_BY_SELLER_AND_DATE_RANGE =
+            "SELECT t FROM Transaction t JOIN FETCH t.seller WHERE t.seller.id = :sellerId AND t.deleted = false"
+                    + " AND t.transactionDate >= :start AND t.transactionDate <= :end ORDER BY t.transactionDate ASC";
+
+    @Param({"1000", "10000"})
+    private int rows;
+
+    private ConfigurableApplicationContext context;
+    private TransactionTemplate readOnly;
+    private EntityManager entityManager;
+    private SellerRepository sellerRepository;
+    private TransactionRepository transactionRepository;
+    private Mapper mapper;
+
+    private Long sellerId;
+    private LocalDateTime start;
+    private LocalDateTime end;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        context = BenchmarkDatabase.start();
+        sellerRepository = context.getBean(SellerRepository.class);
+        transactionRepository = context.getBean(TransactionRepository.class);
+        mapper = context.getBean(Mapper.class);
+        entityManager = SharedEntityManagerCreator.createSharedEntityManager(context.getBean(EntityManagerFactory.class));
+
+        TransactionTemplate writes = new TransactionTemplate(context.getBean(PlatformTransactionManager.class));
+        readOnly = new TransactionTemplate(context.getBean(PlatformTransactionManager.class));
+        readOnly.setReadOnly(true);
+
+        start = LocalDateTime.of(2024, 1, 1, 0, 0);
+        end = start.plusMinutes(rows);
+        sellerId = writes.execute(status -> seed());
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        context.close();
+    }
+
+    @Benchmark
+    public List<SellerResponseDTO> allSellers_entities() {
+        return readOnly.execute(status -> sellerRepository.findAllNotDeleted().stream()
+                .map(seller -> mapper.mapSellerEntityToResponseDto(seller, false))
+                .toList());
+    }
+
+    @Benchmark
+    public List<SellerResponseDTO> allSellers_projection() {
+        return readOnly.execute(status -> sellerRepository.findAllNotDeletedResponses());
+    }
+
+    @Benchmark
+    public List<TransactionResponseDTO> dateRange_entities() {
+        return readOnly.execute(status -> entityManager.createQuery(ENTITIES_BY_DATE_RANGE, Transaction.class)
+                .setParameter("start", start)
+                .setParameter("end", end)
+                .getResultStream()
+                .map(mapper::mapEntityToTransactionResponseDto)
+                .toList());
+    }
+
+    @Benchmark
+    public List<TransactionResponseDTO> dateRange_projection() {
+        return readOnly.execute(status -> transactionRepository.findResponsesByDateRange(start, end));
+    }
+
+    @Benchmark
+    public List<TransactionResponseDTO> sellerDateRange_entities() {
+        return readOnly.execute(status -> entityManager.createQuery(ENTITIES_BY_SELLER_AND_DATE_RANGE, Transaction.class)
+                .setParameter("sellerId", sellerId)
+                .setParameter("start", start)
+                .setParameter("end", end)
+                .getResultStream()
+                .map(mapper::mapEntityToTransactionResponseDto)
+                .toList());
+    }
+
+    @Benchmark
+    public List<TransactionResponseDTO> sellerDateRange_projection() {
+        return readOnly.execute(status -> transactionRepository.findResponsesBySellerIdAndDateRange(sellerId, start, end));
+    }
+
+    /** One seller per ten transactions; the first seller owns half of all transactions. */
+    private Long seed() {
+        List<Seller> sellers = new ArrayList<>();
+        for (int i = 0; i < Math.max(1, rows / 10); i++) {
+            Seller seller = new Seller();
+            seller.setName("Seller " + i);
+            seller.setContactInfo("seller" + i + "@example.com");
+            seller.setRegistrationDate(start.minusDays(1));
+            sellers.add(seller);
+        }
+        sellerRepository.saveAll(sellers);
+
+        List<Transaction> transactions = new ArrayList<>(rows);
+        PaymentType[] paymentTypes = PaymentType.values();
+        for (int i = 0; i < rows; i++) {
+            Transaction transaction = new Transaction();
+            transaction.setSeller(i % 2 == 0 ? sellers.getFirst() : sellers.get(i % sellers.size()));
+            transaction.setAmount(BigDecimal.valueOf(i % 10_000, 2));
+            transaction.setPaymentType(paymentTypes[i % paymentTypes.length]);
+            transaction.setTransactionDate(start.plusMinutes(i));
+            transactions.add(transaction);
+        }
+        transactionRepository.saveAll(transactions);
+        return sellers.getFirst().getId();
+    }
+}
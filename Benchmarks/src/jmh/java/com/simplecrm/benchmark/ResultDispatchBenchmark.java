@@ -0,0 +1,113 @@
+package com.simplecrm.benchmark;
+
+import com.simplecrm.ErrorTypes.SellerError;
+import com.simplecrm.ErrorTypes.TransactionError;
+import com.simplecrm.ResponseDTO.SellerResponseDTO;
+import com.simplecrm.ResponseDTO.TransactionResponseDTO;
+import com.simplecrm.ResultTypes.SellerResult;
+import com.simplecrm.ResultTypes.TransactionResult;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.util.SplittableRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Pattern-matching switches over the sealed result types: the status switch the controllers
+ * run on every response, and the {@code getErrorType()} default method. {@code SUCCESS} keeps
+ * every call site monomorphic; {@code MIXED} spreads results over all permitted records.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@State(Scope.Benchmark)
+public class ResultDispatchBenchmark {
+
+    private static final int RESULTS = 1024;
+
+    @Param({"SUCCESS", "MIXED"})
+    private String distribution;
+
+    private SellerResult[] sellerResults;
+    private TransactionResult[] transactionResults;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        SplittableRandom random = new SplittableRandom(42);
+        boolean mixed = "MIXED".equals(distribution);
+        SellerResponseDTO seller = new SellerResponseDTO();
+        TransactionResponseDTO transaction = new TransactionResponseDTO();
+
+        sellerResults = new SellerResult[RESULTS];
+        transactionResults = new TransactionResult[RESULTS];
+        for (int i = 0; i < RESULTS; i++) {
+            int kind = mixed ? random.nextInt(5) : 0;
+            sellerResults[i] = switch (kind % 4) {
+                case 0 -> new SellerResult.Success(seller);
+                case 1 -> new SellerResult.ValidationError("invalid");
+                case 2 -> new SellerResult.NotFoundError("missing");
+                default -> new SellerResult.GenericError("failed");
+            };
+            transactionResults[i] = switch (kind) {
+                case 0 -> new TransactionResult.Success(transaction);
+                case 1 -> new TransactionResult.ValidationError("invalid");
+                case 2 -> new TransactionResult.NotFoundError("missing");
+                case 3 -> new TransactionResult.SellerNotFoundError("missing seller");
+                default -> new TransactionResult.GenericError("failed");
+            };
+        }
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(RESULTS)
+    public void sellerStatus(Blackhole blackhole) {
+        for (SellerResult result : sellerResults) {
+            blackhole.consume(switch (result) {
+                case SellerResult.NotFoundError e -> 404;
+                case SellerResult.ValidationError e -> 400;
+                case SellerResult.GenericError e -> 500;
+                case SellerResult.Success s -> 200;
+            });
+        }
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(RESULTS)
+    public void sellerErrorType(Blackhole blackhole) {
+        for (SellerResult result : sellerResults) {
+            SellerError errorType = result.getErrorType();
+            blackhole.consume(errorType);
+        }
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(RESULTS)
+    public void transactionStatus(Blackhole blackhole) {
+        for (TransactionResult result : transactionResults) {
+            blackhole.consume(switch (result) {
+                case TransactionResult.NotFoundError e -> 404;
+                case TransactionResult.SellerNotFoundError e -> 404;
+                case TransactionResult.ValidationError e -> 400;
+                case TransactionResult.GenericError e -> 500;
+                case TransactionResult.Success s -> 200;
+            });
+        }
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(RESULTS)
+    public void transactionErrorType(Blackhole blackhole) {
+        for (TransactionResult result : transactionResults) {
+            TransactionError errorType = result.getErrorType();
+            blackhole.consume(errorType);
+        }
+    }
+}
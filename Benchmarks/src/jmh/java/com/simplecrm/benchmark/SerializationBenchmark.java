@@ -0,0 +1,100 @@
+package com.simplecrm.benchmark;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.fasterxml.jackson.databind.json.JsonMapper;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import com.simplecrm.AnalyticsDTO.SellerRankDTO;
+import com.simplecrm.Models.Enums.PaymentType;
+import com.simplecrm.ResponseDTO.SellerResponseDTO;
+import com.simplecrm.ResponseDTO.TransactionPageDTO;
+import com.simplecrm.ResponseDTO.TransactionResponseDTO;
+import com.simplecrm.Utils.TransactionCursor;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Jackson serialization of response DTOs with the mapper settings Spring Boot applies
+ * (java.time module, ISO dates). {@code *_stream} writes to a discarding stream, so the
+ * difference to {@code *_bytes} is the cost of buffering the whole body.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@State(Scope.Benchmark)
+public class SerializationBenchmark {
+
+    @Param({"100", "10000"})
+    private int rows;
+
+    private ObjectMapper objectMapper;
+    private List<TransactionResponseDTO> transactions;
+    private TransactionPageDTO page;
+    private List<SellerRankDTO> ranking;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        objectMapper = JsonMapper.builder()
+                .addModule(new JavaTimeModule())
+                .disable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS)
+                .build();
+
+        LocalDateTime start = LocalDateTime.of(2024, 1, 1, 0, 0);
+        PaymentType[] paymentTypes = PaymentType.values();
+        List<SellerResponseDTO> sellers = new ArrayList<>();
+        for (int i = 0; i < Math.max(1, rows / 10); i++) {
+            sellers.add(new SellerResponseDTO((long) i + 1, "Seller " + i, "seller" + i + "@example.com",
+                    start.minusDays(1), 0L));
+        }
+
+        transactions = new ArrayList<>(rows);
+        for (int i = 0; i < rows; i++) {
+            SellerResponseDTO seller = sellers.get(i % sellers.size());
+            transactions.add(new TransactionResponseDTO((long) i + 1, BigDecimal.valueOf(i % 10_000, 2),
+                    paymentTypes[i % paymentTypes.length], start.plusMinutes(i), 0L,
+                    seller.getId(), seller.getName(), seller.getContactInfo(), seller.getRegistrationDate(), seller.getVersion()));
+        }
+        List<TransactionResponseDTO> items = transactions.subList(0, Math.min(100, rows));
+        TransactionResponseDTO last = items.get(items.size() - 1);
+        page = new TransactionPageDTO(items, new TransactionCursor(last.getTransactionDate(), last.getId()).encode());
+
+        ranking = new ArrayList<>(sellers.size());
+        for (SellerResponseDTO seller : sellers) {
+            ranking.add(new SellerRankDTO(seller, BigDecimal.valueOf(seller.getId() * 1_000, 2), seller.getId()));
+        }
+    }
+
+    @Benchmark
+    public byte[] transactions_bytes() throws IOException {
+        return objectMapper.writeValueAsBytes(transactions);
+    }
+
+    @Benchmark
+    public void transactions_stream() throws IOException {
+        objectMapper.writeValue(OutputStream.nullOutputStream(), transactions);
+    }
+
+    @Benchmark
+    public byte[] transactionPage_bytes() throws IOException {
+        return objectMapper.writeValueAsBytes(page);
+    }
+
+    @Benchmark
+    public byte[] sellerRanking_bytes() throws IOException {
+        return objectMapper.writeValueAsBytes(ranking);
+    }
+}
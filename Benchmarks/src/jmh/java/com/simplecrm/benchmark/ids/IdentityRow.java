@@ -0,0 +1,36 @@
+package com.simplecrm.benchmark.ids;
+
+import jakarta.persistence.Entity;
+import jakarta.persistence.GeneratedValue;
+import jakarta.persistence.GenerationType;
+import jakarta.persistence.Id;
+import jakarta.persistence.Table;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+
+/** Transaction-shaped row keyed by an IDENTITY column, the id strategy the entities used before. */
+@Entity
+@Table(name = "bench_identity_rows")
+public class IdentityRow {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    private BigDecimal amount;
+
+    private LocalDateTime transactionDate;
+
+    public IdentityRow() {
+    }
+
+    public IdentityRow(BigDecimal amount, LocalDateTime transactionDate) {
+        this.amount = amount;
+        this.transactionDate = transactionDate;
+    }
+
+    public Long getId() {
+        return id;
+    }
+}
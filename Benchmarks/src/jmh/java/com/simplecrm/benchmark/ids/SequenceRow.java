@@ -0,0 +1,38 @@
+package com.simplecrm.benchmark.ids;
+
+import jakarta.persistence.Entity;
+import jakarta.persistence.GeneratedValue;
+import jakarta.persistence.GenerationType;
+import jakarta.persistence.Id;
+import jakarta.persistence.SequenceGenerator;
+import jakarta.persistence.Table;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+
+/** Transaction-shaped row keyed the way {@code Transaction} is now: a pooled-lo sequence stepping by 50. */
+@Entity
+@Table(name = "bench_sequence_rows")
+public class SequenceRow {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "bench_sequence_row_seq")
+    @SequenceGenerator(name = "bench_sequence_row_seq", sequenceName = "bench_sequence_row_seq", allocationSize = 50)
+    private Long id;
+
+    private BigDecimal amount;
+
+    private LocalDateTime transactionDate;
+
+    public SequenceRow() {
+    }
+
+    public SequenceRow(BigDecimal amount, LocalDateTime transactionDate) {
+        this.amount = amount;
+        this.transactionDate = transactionDate;
+    }
+
+    public Long getId() {
+        return id;
+    }
+}
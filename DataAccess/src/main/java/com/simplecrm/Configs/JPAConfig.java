@@ -1,11 +1,42 @@
 package com.simplecrm.Configs;
 
+import org.hibernate.cache.jcache.ConfigSettings;
+import org.hibernate.cfg.AvailableSettings;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.orm.jpa.HibernatePropertiesCustomizer;
+import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.data.jpa.repository.config.EnableJpaRepositories;
 import org.springframework.boot.autoconfigure.domain.EntityScan;
 
+/**
+ * Second-level cache is a local Caffeine JCache: only entities annotated with
+ * {@link org.hibernate.annotations.Cache} (sellers) and queries hinted as cacheable use it.
+ * Regions are sized in {@code hibernate-jcache.conf}; statistics are on so per-region
+ * hit/miss/put counters reach Micrometer through {@code HibernateMetrics}.
+ */
 @Configuration
 @EnableJpaRepositories(basePackages = "com.simplecrm.Repositories")
 @EntityScan(basePackages = "com.simplecrm.Models.Entities")
 public class JPAConfig {
-}
\ No newline at end of file
+
+    public static final String SELLER_REGION = "sellers";
+    public static final String SELLER_QUERY_REGION = "seller-queries";
+
+    @Bean
+    public HibernatePropertiesCustomizer secondLevelCacheCustomizer(
+            @Value("${jpa.second-level-cache.enabled:true}") boolean enabled,
+            @Value("${jpa.second-level-cache.config:classpath:hibernate-jcache.conf}") String config) {
+        return properties -> {
+            properties.put(AvailableSettings.USE_SECOND_LEVEL_CACHE, enabled);
+            properties.put(AvailableSettings.USE_QUERY_CACHE, enabled);
+            properties.put(AvailableSettings.GENERATE_STATISTICS, true);
+            if (enabled) {
+                properties.put(AvailableSettings.CACHE_REGION_FACTORY, "jcache");
+                properties.put(ConfigSettings.PROVIDER, "com.github.benmanes.caffeine.jcache.spi.CaffeineCachingProvider");
+                properties.put(ConfigSettings.CONFIG_URI, config);
+                properties.put(ConfigSettings.MISSING_CACHE_STRATEGY, "create-warn");
+            }
+        };
+    }
+}
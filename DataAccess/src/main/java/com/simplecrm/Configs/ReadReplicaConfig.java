@@ -0,0 +1,104 @@
+package com.simplecrm.Configs;
+
+import com.zaxxer.hikari.HikariDataSource;
+import com.zaxxer.hikari.metrics.micrometer.MicrometerMetricsTrackerFactory;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.boot.context.properties.bind.Binder;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.Ordered;
+import org.springframework.core.env.Environment;
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+
+import javax.sql.DataSource;
+import java.util.List;
+import java.util.stream.IntStream;
+
+/**
+ * Wraps the application's {@code dataSource} in {@link ReplicaRoutingDataSource} when
+ * {@code datasource.replicas.urls} is set; otherwise the primary is used as is.
+ */
+@Configuration
+public class ReadReplicaConfig {
+
+    @Bean
+    public static BeanPostProcessor readReplicaRoutingPostProcessor(Environment environment,
+                                                                    ObjectProvider<MeterRegistry> meterRegistry) {
+        return new RoutingPostProcessor(environment, meterRegistry);
+    }
+
+    static DataSource routingDataSource(DataSource primary, ReplicaProperties properties, MeterRegistry meterRegistry) {
+        List<String> urls = properties.getUrls();
+        List<DataSource> replicas = IntStream.range(0, urls.size())
+                .mapToObj(index -> replicaDataSource("replica-" + index, urls.get(index), properties, meterRegistry))
+                .toList();
+        ReplicaRoutingDataSource routing = new ReplicaRoutingDataSource(primary, replicas, properties);
+        routing.startLagChecks(properties.getLagCheckInterval());
+        return new ClosingLazyConnectionDataSourceProxy(routing);
+    }
+
+    // Replica pools are not beans, so Boot's Hikari metrics binder never sees them.
+    private static DataSource replicaDataSource(String poolName, String url, ReplicaProperties properties,
+                                                MeterRegistry meterRegistry) {
+        HikariDataSource dataSource = new HikariDataSource();
+        dataSource.setPoolName(poolName);
+        if (meterRegistry != null) {
+            dataSource.setMetricsTrackerFactory(new MicrometerMetricsTrackerFactory(meterRegistry));
+        }
+        dataSource.setJdbcUrl(url);
+        dataSource.setUsername(properties.getUsername());
+        dataSource.setPassword(properties.getPassword());
+        dataSource.setDriverClassName(properties.getDriverClassName());
+        dataSource.setMaximumPoolSize(properties.getMaximumPoolSize());
+        dataSource.setReadOnly(true);
+        return dataSource;
+    }
+
+    // Ordered ahead of the SQL metrics proxy (SqlMetricsConfig), which must wrap the routed data source.
+    static class RoutingPostProcessor implements BeanPostProcessor, Ordered {
+
+        private final Environment environment;
+        private final ObjectProvider<MeterRegistry> meterRegistry;
+
+        RoutingPostProcessor(Environment environment, ObjectProvider<MeterRegistry> meterRegistry) {
+            this.environment = environment;
+            this.meterRegistry = meterRegistry;
+        }
+
+        @Override
+        public Object postProcessAfterInitialization(Object bean, String beanName) {
+            if (!"dataSource".equals(beanName) || !(bean instanceof DataSource primary)) {
+                return bean;
+            }
+            ReplicaProperties properties = Binder.get(environment)
+                    .bind("datasource.replicas", ReplicaProperties.class)
+                    .orElseGet(ReplicaProperties::new);
+            if (properties.getUrls().isEmpty()) {
+                return bean;
+            }
+            return routingDataSource(primary, properties, meterRegistry.getIfAvailable());
+        }
+
+        @Override
+        public int getOrder() {
+            return 0;
+        }
+    }
+
+    static class ClosingLazyConnectionDataSourceProxy extends LazyConnectionDataSourceProxy implements AutoCloseable {
+
+        private final ReplicaRoutingDataSource routing;
+
+        ClosingLazyConnectionDataSourceProxy(ReplicaRoutingDataSource routing) {
+            super(routing);
+            this.routing = routing;
+        }
+
+        @Override
+        public void close() throws Exception {
+            routing.close();
+        }
+    }
+}
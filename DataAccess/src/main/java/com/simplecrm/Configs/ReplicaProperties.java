@@ -0,0 +1,30 @@
+package com.simplecrm.Configs;
+
+import lombok.Data;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+
+@Data
+public class ReplicaProperties {
+
+    public enum Balancing {
+        ROUND_ROBIN,
+        LEAST_CONNECTIONS
+    }
+
+    private List<String> urls = new ArrayList<>();
+    private String username;
+    private String password;
+    private String driverClassName = "org.postgresql.Driver";
+    private int maximumPoolSize = 10;
+    private Balancing balancing = Balancing.ROUND_ROBIN;
+    private Duration maxLag = Duration.ofSeconds(5);
+    private Duration lagCheckInterval = Duration.ofSeconds(2);
+    private String lagQuery = """
+            SELECT CASE
+                WHEN NOT pg_is_in_recovery() OR pg_last_wal_receive_lsn() = pg_last_wal_replay_lsn() THEN 0
+                ELSE COALESCE(EXTRACT(EPOCH FROM now() - pg_last_xact_replay_timestamp()), 0)
+            END""";
+}
@@ -0,0 +1,142 @@
+package com.simplecrm.Configs;
+
+import com.zaxxer.hikari.HikariDataSource;
+import com.zaxxer.hikari.HikariPoolMXBean;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.jdbc.datasource.lookup.AbstractRoutingDataSource;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Sends connections opened inside a read-only transaction to a replica and everything else to
+ * the primary. Only replicas whose last lag check came in under {@code maxLag} are eligible; with
+ * none left, reads fall back to the primary. Must sit behind a
+ * {@link org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy} so the target is
+ * chosen after the transaction's read-only flag is known.
+ */
+@Slf4j
+public class ReplicaRoutingDataSource extends AbstractRoutingDataSource implements AutoCloseable {
+
+    static final String PRIMARY = "primary";
+
+    private final DataSource primary;
+    private final List<Replica> replicas = new ArrayList<>();
+    private final ReplicaProperties.Balancing balancing;
+    private final double maxLagSeconds;
+    private final String lagQuery;
+    private final AtomicInteger nextReplica = new AtomicInteger();
+    private ScheduledExecutorService lagChecker;
+
+    public ReplicaRoutingDataSource(DataSource primary, List<DataSource> replicaDataSources, ReplicaProperties properties) {
+        this.primary = primary;
+        this.balancing = properties.getBalancing();
+        this.maxLagSeconds = properties.getMaxLag().toMillis() / 1000.0;
+        this.lagQuery = properties.getLagQuery();
+
+        Map<Object, Object> targets = new HashMap<>();
+        targets.put(PRIMARY, primary);
+        for (int i = 0; i < replicaDataSources.size(); i++) {
+            Replica replica = new Replica("replica-" + i, replicaDataSources.get(i));
+            replicas.add(replica);
+            targets.put(replica.key, replica.dataSource);
+        }
+        setTargetDataSources(targets);
+        setDefaultTargetDataSource(primary);
+        afterPropertiesSet();
+    }
+
+    @Override
+    protected Object determineCurrentLookupKey() {
+        if (!TransactionSynchronizationManager.isCurrentTransactionReadOnly()) {
+            return PRIMARY;
+        }
+        Replica replica = selectReplica();
+        return replica != null ? replica.key : PRIMARY;
+    }
+
+    public void checkReplicaLag() {
+        for (Replica replica : replicas) {
+            boolean healthy;
+            try (Connection connection = replica.dataSource.getConnection();
+                 Statement statement = connection.createStatement();
+                 ResultSet resultSet = statement.executeQuery(lagQuery)) {
+                healthy = resultSet.next() && resultSet.getDouble(1) <= maxLagSeconds;
+            } catch (SQLException e) {
+                healthy = false;
+            }
+            if (replica.healthy != healthy) {
+                log.warn("Replica {} is now {}", replica.key, healthy ? "in sync, routing reads to it" : "lagging or down, reads fall back");
+            }
+            replica.healthy = healthy;
+        }
+    }
+
+    public void startLagChecks(Duration interval) {
+        lagChecker = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "replica-lag-check");
+            thread.setDaemon(true);
+            return thread;
+        });
+        lagChecker.scheduleWithFixedDelay(this::checkReplicaLag, 0, interval.toMillis(), TimeUnit.MILLISECONDS);
+    }
+
+    @Override
+    public void close() throws Exception {
+        if (lagChecker != null) {
+            lagChecker.shutdownNow();
+        }
+        for (Replica replica : replicas) {
+            if (replica.dataSource instanceof AutoCloseable closeable) {
+                closeable.close();
+            }
+        }
+        if (primary instanceof AutoCloseable closeable) {
+            closeable.close();
+        }
+    }
+
+    private Replica selectReplica() {
+        List<Replica> healthy = replicas.stream().filter(replica -> replica.healthy).toList();
+        if (healthy.isEmpty()) {
+            return null;
+        }
+        if (balancing == ReplicaProperties.Balancing.LEAST_CONNECTIONS) {
+            return healthy.stream().min(Comparator.comparingInt(Replica::activeConnections)).orElseThrow();
+        }
+        return healthy.get(Math.floorMod(nextReplica.getAndIncrement(), healthy.size()));
+    }
+
+    private static final class Replica {
+        private final String key;
+        private final DataSource dataSource;
+        private volatile boolean healthy;
+
+        private Replica(String key, DataSource dataSource) {
+            this.key = key;
+            this.dataSource = dataSource;
+        }
+
+        private int activeConnections() {
+            if (dataSource instanceof HikariDataSource hikari) {
+                HikariPoolMXBean pool = hikari.getHikariPoolMXBean();
+                return pool != null ? pool.getActiveConnections() : 0;
+            }
+            return 0;
+        }
+    }
+}
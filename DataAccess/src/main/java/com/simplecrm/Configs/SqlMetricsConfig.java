@@ -0,0 +1,88 @@
+package com.simplecrm.Configs;
+
+import com.simplecrm.Utils.RepositoryMethodInterceptor;
+import com.simplecrm.Utils.SqlMetricsListener;
+import io.micrometer.core.instrument.MeterRegistry;
+import net.ttddyy.dsproxy.support.ProxyDataSourceBuilder;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.boot.context.properties.bind.Binder;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.Ordered;
+import org.springframework.core.env.Environment;
+import org.springframework.data.repository.core.support.RepositoryFactoryBeanSupport;
+
+import javax.sql.DataSource;
+
+/**
+ * Puts a datasource-proxy {@link SqlMetricsListener} in front of the application's
+ * {@code dataSource} and tags every repository proxy with {@link RepositoryMethodInterceptor},
+ * unless {@code sql-metrics.enabled} is false.
+ */
+@Configuration
+public class SqlMetricsConfig {
+
+    @Bean
+    public static BeanPostProcessor sqlMetricsDataSourcePostProcessor(Environment environment,
+                                                                      ObjectProvider<MeterRegistry> meterRegistry) {
+        return new DataSourcePostProcessor(environment, meterRegistry);
+    }
+
+    @Bean
+    public static BeanPostProcessor repositoryMethodPostProcessor(Environment environment) {
+        return new BeanPostProcessor() {
+            // Before initialization: the factory bean creates the repository in afterPropertiesSet.
+            @Override
+            public Object postProcessBeforeInitialization(Object bean, String beanName) {
+                if (bean instanceof RepositoryFactoryBeanSupport<?, ?, ?> factoryBean && properties(environment).isEnabled()) {
+                    factoryBean.addRepositoryFactoryCustomizer(factory -> factory.addRepositoryProxyPostProcessor(
+                            (proxyFactory, information) -> proxyFactory.addAdvice(
+                                    new RepositoryMethodInterceptor(information.getRepositoryInterface()))));
+                }
+                return bean;
+            }
+        };
+    }
+
+    private static SqlMetricsProperties properties(Environment environment) {
+        return Binder.get(environment)
+                .bind("sql-metrics", SqlMetricsProperties.class)
+                .orElseGet(SqlMetricsProperties::new);
+    }
+
+    // Runs after the replica routing post-processor, so replica statements are measured too.
+    static class DataSourcePostProcessor implements BeanPostProcessor, Ordered {
+
+        private final Environment environment;
+        private final ObjectProvider<MeterRegistry> meterRegistry;
+
+        DataSourcePostProcessor(Environment environment, ObjectProvider<MeterRegistry> meterRegistry) {
+            this.environment = environment;
+            this.meterRegistry = meterRegistry;
+        }
+
+        @Override
+        public Object postProcessAfterInitialization(Object bean, String beanName) {
+            if (!"dataSource".equals(beanName) || !(bean instanceof DataSource dataSource)) {
+                return bean;
+            }
+            SqlMetricsProperties properties = properties(environment);
+            if (!properties.isEnabled()) {
+                return bean;
+            }
+            SqlMetricsListener listener = new SqlMetricsListener(meterRegistry, properties.getSlowQueryThreshold());
+            return ProxyDataSourceBuilder.create(dataSource)
+                    .name(beanName)
+                    .listener(listener)
+                    .methodListener(listener)
+                    .proxyResultSet()
+                    .build();
+        }
+
+        @Override
+        public int getOrder() {
+            return Ordered.LOWEST_PRECEDENCE;
+        }
+    }
+}
@@ -0,0 +1,13 @@
+package com.simplecrm.Configs;
+
+import lombok.Data;
+
+import java.time.Duration;
+
+@Data
+public class SqlMetricsProperties {
+
+    private boolean enabled = true;
+    private Duration slowQueryThreshold = Duration.ofMillis(500);
+    private int maxStatementsPerCall = 20;
+}
@@ -0,0 +1,42 @@
+package com.simplecrm.Repositories;
+
+import com.simplecrm.Models.Entities.SellerDailyTotal;
+import com.simplecrm.Models.Entities.SellerDailyTotalId;
+import com.simplecrm.Projections.SellerDayTotalView;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.List;
+
+@Repository
+public interface SellerDailyTotalRepository extends JpaRepository<SellerDailyTotal, SellerDailyTotalId> {
+
+    @Modifying
+    @Query(value = """
+            INSERT INTO seller_daily_totals (seller_id, day, payment_type, sum_amount, tx_count)
+            VALUES (:sellerId, :day, :paymentType, :amount, :count)
+            ON CONFLICT (seller_id, day, payment_type) DO UPDATE
+            SET sum_amount = seller_daily_totals.sum_amount + EXCLUDED.sum_amount,
+                tx_count = seller_daily_totals.tx_count + EXCLUDED.tx_count
+            """, nativeQuery = true)
+    void applyDelta(@Param("sellerId") Long sellerId,
+                    @Param("day") LocalDate day,
+                    @Param("paymentType") String paymentType,
+                    @Param("amount") BigDecimal amount,
+                    @Param("count") long count);
+
+    @Query("""
+            SELECT d.id.sellerId AS sellerId, d.id.day AS bucketDay,
+                SUM(d.sumAmount) AS totalAmount, SUM(d.txCount) AS transactionCount
+            FROM SellerDailyTotal d
+            WHERE d.id.day >= :firstDay AND d.id.day < :lastDayExclusive
+            GROUP BY d.id.sellerId, d.id.day
+            """)
+    List<SellerDayTotalView> sumBySellerAndDay(@Param("firstDay") LocalDate firstDay,
+                                               @Param("lastDayExclusive") LocalDate lastDayExclusive);
+}
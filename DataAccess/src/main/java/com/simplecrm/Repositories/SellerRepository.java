@@ -1,44 +1,112 @@
 package com.simplecrm.Repositories;
 
+import com.simplecrm.Configs.JPAConfig;
 import com.simplecrm.Models.Entities.Seller;
+import com.simplecrm.Projections.SellerRankView;
+import com.simplecrm.ResponseDTO.SellerResponseDTO;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.AvailableHints;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.JpaSpecificationExecutor;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.time.LocalDate;
 import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
 @Repository
 public interface SellerRepository extends JpaRepository<Seller, Long>, JpaSpecificationExecutor<Seller> {
 
+    @QueryHints({
+            @QueryHint(name = AvailableHints.HINT_CACHEABLE, value = "true"),
+            @QueryHint(name = AvailableHints.HINT_CACHE_REGION, value = JPAConfig.SELLER_QUERY_REGION)
+    })
     @Query("SELECT s FROM Seller s WHERE s.id = :id AND s.deleted = false")
     Optional<Seller> findNotDeletedById(@Param("id") Long id);
 
     @Query("SELECT s FROM Seller s WHERE s.deleted = false")
     List<Seller> findAllNotDeleted();
 
+    @Query("""
+            SELECT new com.simplecrm.ResponseDTO.SellerResponseDTO(s.id, s.name, s.contactInfo, s.registrationDate)
+            FROM Seller s
+            WHERE s.deleted = false
+            """)
+    List<SellerResponseDTO> findAllNotDeletedResponses();
+
+    @QueryHints({
+            @QueryHint(name = AvailableHints.HINT_CACHEABLE, value = "true"),
+            @QueryHint(name = AvailableHints.HINT_CACHE_REGION, value = JPAConfig.SELLER_QUERY_REGION)
+    })
+    @Query("SELECT s FROM Seller s WHERE s.id IN :ids AND s.deleted = false")
+    List<Seller> findAllNotDeletedByIdIn(@Param("ids") Collection<Long> ids);
+
     @Query("SELECT s FROM Seller s WHERE s.name = :name AND s.deleted = false")
     Optional<Seller> findByNameAndNotDeleted(@Param("name") String name);
 
-    @Query("""
-            SELECT s FROM Seller s
-            JOIN Transaction t ON t.seller.id = s.id
-            WHERE s.deleted = false AND t.deleted = false
-            AND t.transactionDate >= :start AND t.transactionDate <= :end
-            GROUP BY s.id
-            ORDER BY SUM(t.amount) DESC
-            """)
-    List<Seller> findTopSellerByPeriod(@Param("start") LocalDateTime start, @Param("end") LocalDateTime end);
+    @Query(value = """
+            SELECT s.id AS "id", s.name AS "name", s.contact_info AS "contactInfo",
+                s.registration_date AS "registrationDate",
+                totals.total AS "totalAmount", totals.cnt AS "transactionCount"
+            FROM sellers s
+            JOIN (
+                SELECT parts.seller_id, SUM(parts.total) AS total, SUM(parts.cnt) AS cnt
+                FROM (
+                    SELECT d.seller_id, d.sum_amount AS total, d.tx_count AS cnt
+                    FROM seller_daily_totals d
+                    WHERE d.day >= :firstFullDay AND d.day < :lastFullDayExclusive
+                    UNION ALL
+                    SELECT t.seller_id, t.amount AS total, 1 AS cnt
+                    FROM transactions t
+                    WHERE t.deleted = false
+                    AND ((t.transaction_date >= :start AND t.transaction_date < :headEnd)
+                        OR (t.transaction_date >= :tailStart AND t.transaction_date <= :end))
+                ) parts
+                GROUP BY parts.seller_id
+                HAVING SUM(parts.cnt) > 0
+            ) totals ON totals.seller_id = s.id
+            WHERE s.deleted = false
+            ORDER BY totals.total DESC, s.id
+            LIMIT :limit
+            """, nativeQuery = true)
+    List<SellerRankView> findSellerRankingFromRollup(@Param("start") LocalDateTime start,
+                                                     @Param("headEnd") LocalDateTime headEnd,
+                                                     @Param("tailStart") LocalDateTime tailStart,
+                                                     @Param("end") LocalDateTime end,
+                                                     @Param("firstFullDay") LocalDate firstFullDay,
+                                                     @Param("lastFullDayExclusive") LocalDate lastFullDayExclusive,
+                                                     @Param("limit") int limit);
 
-    @Query("""
-            SELECT s FROM Seller s
-            LEFT JOIN Transaction t ON t.seller.id = s.id AND t.transactionDate >= :start AND t.transactionDate <= :end AND t.deleted = false
+    @Query(value = """
+            SELECT s.* FROM sellers s
+            LEFT JOIN (
+                SELECT parts.seller_id, SUM(parts.total) AS total
+                FROM (
+                    SELECT d.seller_id, d.sum_amount AS total
+                    FROM seller_daily_totals d
+                    WHERE d.day >= :firstFullDay AND d.day < :lastFullDayExclusive
+                    UNION ALL
+                    SELECT t.seller_id, t.amount AS total
+                    FROM transactions t
+                    WHERE t.deleted = false
+                    AND ((t.transaction_date >= :start AND t.transaction_date < :headEnd)
+                        OR (t.transaction_date >= :tailStart AND t.transaction_date <= :end))
+                ) parts
+                GROUP BY parts.seller_id
+            ) totals ON totals.seller_id = s.id
             WHERE s.deleted = false
-            GROUP BY s.id
-            HAVING SUM(COALESCE(t.amount, 0)) < :amount
-            """)
-    List<Seller> findSellersWithAmountLessThan(@Param("amount") java.math.BigDecimal amount, @Param("start") LocalDateTime start, @Param("end") LocalDateTime end);
-}
\ No newline at end of file
+            AND COALESCE(totals.total, 0) < :amount
+            """, nativeQuery = true)
+    List<Seller> findSellersWithAmountLessThanFromRollup(@Param("amount") java.math.BigDecimal amount,
+                                                         @Param("start") LocalDateTime start,
+                                                         @Param("headEnd") LocalDateTime headEnd,
+                                                         @Param("tailStart") LocalDateTime tailStart,
+                                                         @Param("end") LocalDateTime end,
+                                                         @Param("firstFullDay") LocalDate firstFullDay,
+                                                         @Param("lastFullDayExclusive") LocalDate lastFullDayExclusive);
+}
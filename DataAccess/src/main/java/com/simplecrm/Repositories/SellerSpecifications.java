@@ -0,0 +1,78 @@
+package com.simplecrm.Repositories;
+
+import com.simplecrm.Models.Entities.Seller;
+import com.simplecrm.Utils.SellerCursor;
+import jakarta.persistence.criteria.CriteriaBuilder;
+import jakarta.persistence.criteria.Expression;
+import jakarta.persistence.criteria.Path;
+import jakarta.persistence.criteria.Predicate;
+import org.springframework.data.jpa.domain.Specification;
+
+import java.time.LocalDateTime;
+import java.util.Locale;
+
+/**
+ * Building blocks of the filtered seller listing. The predicates mirror the indexes of the V9
+ * migration: {@code lower(name) LIKE 'prefix%'} is served by the trigram index, the keyset
+ * seeks by the {@code (name, id)} and {@code (registration_date, id)} indexes over live sellers.
+ */
+public final class SellerSpecifications {
+
+    private static final char LIKE_ESCAPE = '\\';
+
+    private SellerSpecifications() {
+    }
+
+    public static Specification<Seller> notDeleted() {
+        return (root, query, cb) -> cb.isFalse(root.get("deleted"));
+    }
+
+    public static Specification<Seller> nameStartsWith(String prefix) {
+        String pattern = escapeLike(prefix.toLowerCase(Locale.ROOT)) + "%";
+        return (root, query, cb) -> cb.like(cb.lower(root.get("name")), pattern, LIKE_ESCAPE);
+    }
+
+    public static Specification<Seller> registeredFrom(LocalDateTime from) {
+        return (root, query, cb) -> cb.greaterThanOrEqualTo(root.get("registrationDate"), from);
+    }
+
+    public static Specification<Seller> registeredTo(LocalDateTime to) {
+        return (root, query, cb) -> cb.lessThanOrEqualTo(root.get("registrationDate"), to);
+    }
+
+    public static Specification<Seller> after(SellerCursor cursor) {
+        return (root, query, cb) -> {
+            Path<Long> id = root.get("id");
+            boolean descending = cursor.sort().descending();
+            return switch (cursor.sort().attribute()) {
+                case "name" -> seek(cb, root.get("name"), cursor.key(), id, cursor.id(), descending);
+                case "registrationDate" ->
+                        seek(cb, root.get("registrationDate"), cursor.registrationDate(), id, cursor.id(), descending);
+                default -> descending ? cb.lessThan(id, cursor.id()) : cb.greaterThan(id, cursor.id());
+            };
+        };
+    }
+
+    // (key, id) > (lastKey, lastId), spelled out because JPA has no row value comparison.
+    private static <T extends Comparable<? super T>> Predicate seek(CriteriaBuilder cb, Expression<T> key, T lastKey,
+                                                                    Path<Long> id, Long lastId, boolean descending) {
+        // The leading bound is redundant with the OR but lets the (key, id) index start at the cursor.
+        return descending
+                ? cb.and(cb.lessThanOrEqualTo(key, lastKey),
+                        cb.or(cb.lessThan(key, lastKey), cb.and(cb.equal(key, lastKey), cb.lessThan(id, lastId))))
+                : cb.and(cb.greaterThanOrEqualTo(key, lastKey),
+                        cb.or(cb.greaterThan(key, lastKey), cb.and(cb.equal(key, lastKey), cb.greaterThan(id, lastId))));
+    }
+
+    private static String escapeLike(String value) {
+        StringBuilder escaped = new StringBuilder(value.length());
+        for (int i = 0; i < value.length(); i++) {
+            char c = value.charAt(i);
+            if (c == '%' || c == '_' || c == LIKE_ESCAPE) {
+                escaped.append(LIKE_ESCAPE);
+            }
+            escaped.append(c);
+        }
+        return escaped.toString();
+    }
+}
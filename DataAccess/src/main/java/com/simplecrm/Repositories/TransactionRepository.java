@@ -1,16 +1,32 @@
 package com.simplecrm.Repositories;
 
 import com.simplecrm.Models.Entities.Transaction;
+import com.simplecrm.Projections.AgedTransactionView;
+import com.simplecrm.Projections.ArchivedTransactionView;
+import com.simplecrm.Projections.BestPeriodView;
+import com.simplecrm.Projections.SellerHourTotalView;
+import com.simplecrm.Projections.TransactionAmountView;
+import com.simplecrm.Projections.SellerTotalView;
+import com.simplecrm.Projections.TransactionExportView;
 import com.simplecrm.Projections.TransactionFlatView;
+import com.simplecrm.ResponseDTO.TransactionResponseDTO;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.AvailableHints;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.JpaSpecificationExecutor;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.time.LocalDate;
 import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
+import java.util.stream.Stream;
 
 @Repository
 public interface TransactionRepository extends JpaRepository<Transaction, Long>, JpaSpecificationExecutor<Transaction> {
@@ -21,14 +37,47 @@ public interface TransactionRepository extends JpaRepository<Transaction, Long>,
     @Query("SELECT t FROM Transaction t JOIN FETCH t.seller WHERE t.deleted = false ORDER BY t.transactionDate ASC")
     List<Transaction> findAllNotDeleted();
 
+    @Query("SELECT t FROM Transaction t JOIN FETCH t.seller WHERE t.deleted = false ORDER BY t.transactionDate ASC, t.id ASC")
+    List<Transaction> findPageNotDeleted(Pageable pageable);
+
+    @Query("""
+            SELECT t FROM Transaction t JOIN FETCH t.seller
+            WHERE t.deleted = false
+            AND t.transactionDate >= :transactionDate
+            AND (t.transactionDate > :transactionDate OR t.id > :id)
+            ORDER BY t.transactionDate ASC, t.id ASC
+            """)
+    List<Transaction> findPageNotDeletedAfter(@Param("transactionDate") LocalDateTime transactionDate,
+                                              @Param("id") Long id,
+                                              Pageable pageable);
+
     @Query("SELECT t FROM Transaction t JOIN FETCH t.seller WHERE t.seller.id = :sellerId AND t.deleted = false ORDER BY t.transactionDate ASC")
     List<Transaction> findBySellerIdAndNotDeleted(@Param("sellerId") Long sellerId);
 
-    @Query("SELECT t FROM Transaction t JOIN FETCH t.seller WHERE t.seller.id = :sellerId AND t.deleted = false AND t.transactionDate >= :start AND t.transactionDate <= :end ORDER BY t.transactionDate ASC")
-    List<Transaction> findBySellerIdAndDateRange(@Param("sellerId") Long sellerId, @Param("start") LocalDateTime start, @Param("end") LocalDateTime end);
+    @Query("""
+            SELECT new com.simplecrm.ResponseDTO.TransactionResponseDTO(
+                t.id, t.amount, t.paymentType, t.transactionDate, t.version,
+                s.id, s.name, s.contactInfo, s.registrationDate, s.version)
+            FROM Transaction t
+            JOIN t.seller s
+            WHERE s.id = :sellerId AND t.deleted = false
+            AND t.transactionDate >= :start AND t.transactionDate <= :end
+            ORDER BY t.transactionDate ASC
+            """)
+    List<TransactionResponseDTO> findResponsesBySellerIdAndDateRange(@Param("sellerId") Long sellerId,
+                                                                     @Param("start") LocalDateTime start,
+                                                                     @Param("end") LocalDateTime end);
 
-    @Query("SELECT t FROM Transaction t JOIN FETCH t.seller WHERE t.deleted = false AND t.transactionDate >= :start AND t.transactionDate <= :end ORDER BY t.transactionDate ASC")
-    List<Transaction> findByDateRange(@Param("start") LocalDateTime start, @Param("end") LocalDateTime end);
+    @Query("""
+            SELECT new com.simplecrm.ResponseDTO.TransactionResponseDTO(
+                t.id, t.amount, t.paymentType, t.transactionDate, t.version,
+                s.id, s.name, s.contactInfo, s.registrationDate, s.version)
+            FROM Transaction t
+            JOIN t.seller s
+            WHERE t.deleted = false AND t.transactionDate >= :start AND t.transactionDate <= :end
+            ORDER BY t.transactionDate ASC
+            """)
+    List<TransactionResponseDTO> findResponsesByDateRange(@Param("start") LocalDateTime start, @Param("end") LocalDateTime end);
 
     @Query("""
             SELECT 
@@ -48,4 +97,185 @@ public interface TransactionRepository extends JpaRepository<Transaction, Long>,
             ORDER BY t.transactionDate ASC
             """)
     List<TransactionFlatView> findFlatBySellerId(@Param("sellerId") Long sellerId);
-}
\ No newline at end of file
+
+    @QueryHints({
+            @QueryHint(name = AvailableHints.HINT_FETCH_SIZE, value = "1000"),
+            @QueryHint(name = AvailableHints.HINT_READ_ONLY, value = "true")
+    })
+    @Query("""
+            SELECT
+                t.id AS id,
+                s.id AS sellerId,
+                s.name AS sellerName,
+                t.amount AS amount,
+                t.paymentType AS paymentType,
+                t.transactionDate AS transactionDate,
+                t.version AS version
+            FROM Transaction t
+            JOIN t.seller s
+            WHERE t.deleted = false
+            ORDER BY t.transactionDate ASC, t.id ASC
+            """)
+    Stream<TransactionExportView> streamAllForExport();
+
+    @QueryHints({
+            @QueryHint(name = AvailableHints.HINT_FETCH_SIZE, value = "1000"),
+            @QueryHint(name = AvailableHints.HINT_READ_ONLY, value = "true")
+    })
+    @Query("""
+            SELECT t.id AS id, t.seller.id AS sellerId, t.amount AS amount,
+                t.transactionDate AS transactionDate, t.version AS version
+            FROM Transaction t
+            WHERE t.deleted = false AND t.transactionDate >= :since
+            """)
+    Stream<TransactionAmountView> streamAmountsSince(@Param("since") LocalDateTime since);
+
+    @Query("""
+            SELECT t.seller.id AS sellerId,
+                extract(date from t.transactionDate) AS bucketDay,
+                extract(hour from t.transactionDate) AS bucketHour,
+                SUM(t.amount) AS totalAmount,
+                COUNT(t) AS transactionCount
+            FROM Transaction t
+            WHERE t.deleted = false AND t.transactionDate >= :start AND t.transactionDate < :endExclusive
+            GROUP BY t.seller.id, extract(date from t.transactionDate), extract(hour from t.transactionDate)
+            """)
+    List<SellerHourTotalView> sumBySellerAndHour(@Param("start") LocalDateTime start,
+                                                 @Param("endExclusive") LocalDateTime endExclusive);
+
+    @Query("""
+            SELECT t.seller.id AS sellerId, SUM(t.amount) AS totalAmount, COUNT(t) AS transactionCount
+            FROM Transaction t
+            WHERE t.deleted = false AND t.transactionDate >= :start AND t.transactionDate < :endExclusive
+            GROUP BY t.seller.id
+            """)
+    List<SellerTotalView> sumBySellerBefore(@Param("start") LocalDateTime start,
+                                            @Param("endExclusive") LocalDateTime endExclusive);
+
+    @Query("""
+            SELECT t.seller.id AS sellerId, SUM(t.amount) AS totalAmount, COUNT(t) AS transactionCount
+            FROM Transaction t
+            WHERE t.deleted = false AND t.transactionDate >= :start AND t.transactionDate <= :end
+            GROUP BY t.seller.id
+            """)
+    List<SellerTotalView> sumBySellerThrough(@Param("start") LocalDateTime start,
+                                             @Param("end") LocalDateTime end);
+
+    @Query("SELECT COUNT(t) FROM Transaction t WHERE t.seller.id = :sellerId AND t.deleted = false")
+    long countBySellerIdAndNotDeleted(@Param("sellerId") Long sellerId);
+
+    @Query("""
+            SELECT
+                MIN(t.transactionDate) AS startDate,
+                MAX(t.transactionDate) AS endDate,
+                COUNT(t) AS transactionCount,
+                SUM(t.amount) AS totalAmount,
+                MIN(t.transactionDate) AS amountStartDate,
+                MAX(t.transactionDate) AS amountEndDate,
+                COUNT(t) AS amountTransactionCount,
+                SUM(t.amount) AS amountTotal
+            FROM Transaction t
+            WHERE t.seller.id = :sellerId AND t.deleted = false
+            """)
+    Optional<BestPeriodView> findFullSpanBySellerId(@Param("sellerId") Long sellerId);
+
+    @Query(value = """
+            WITH frames AS (
+                SELECT
+                    t.transaction_date AS window_start,
+                    MAX(t.transaction_date) OVER w AS window_end,
+                    COUNT(*) OVER w AS tx_count,
+                    SUM(t.amount) OVER w AS total_amount
+                FROM transactions t
+                WHERE t.seller_id = :sellerId AND t.deleted = false
+                WINDOW w AS (ORDER BY t.transaction_date RANGE BETWEEN CURRENT ROW AND make_interval(secs => :windowSeconds) FOLLOWING)
+            ),
+            by_count AS (
+                SELECT * FROM frames ORDER BY tx_count DESC, window_start ASC LIMIT 1
+            ),
+            by_amount AS (
+                SELECT * FROM frames ORDER BY total_amount DESC, window_start ASC LIMIT 1
+            )
+            SELECT
+                c.window_start AS "startDate",
+                c.window_end AS "endDate",
+                c.tx_count AS "transactionCount",
+                c.total_amount AS "totalAmount",
+                a.window_start AS "amountStartDate",
+                a.window_end AS "amountEndDate",
+                a.tx_count AS "amountTransactionCount",
+                a.total_amount AS "amountTotal"
+            FROM by_count c CROSS JOIN by_amount a
+            """, nativeQuery = true)
+    Optional<BestPeriodView> findBestPeriodBySellerId(@Param("sellerId") Long sellerId, @Param("windowSeconds") double windowSeconds);
+
+    @Query(value = "SELECT create_transaction_partitions(:monthsAhead)", nativeQuery = true)
+    int createTransactionPartitions(@Param("monthsAhead") int monthsAhead);
+
+    @Query(value = "SELECT archive_transaction_partitions(:cutoff)", nativeQuery = true)
+    int archiveTransactionPartitions(@Param("cutoff") LocalDate cutoff);
+
+    @Modifying
+    @Query(value = """
+            WITH moved AS (
+                DELETE FROM transactions
+                WHERE (id, transaction_date) IN (
+                    SELECT id, transaction_date FROM transactions
+                    WHERE deleted = TRUE
+                    LIMIT :batchSize
+                    FOR UPDATE SKIP LOCKED)
+                RETURNING id, seller_id, amount, payment_type, transaction_date, deleted, version
+            )
+            INSERT INTO transactions_archive (id, seller_id, amount, payment_type, transaction_date, deleted, version)
+            SELECT id, seller_id, amount, payment_type, transaction_date, deleted, version FROM moved
+            """, nativeQuery = true)
+    int archiveDeletedBatch(@Param("batchSize") int batchSize);
+
+    @Query(value = """
+            SELECT t.id AS "id", t.seller_id AS "sellerId", t.amount AS "amount",
+                   t.payment_type AS "paymentType", t.transaction_date AS "transactionDate"
+            FROM transactions t
+            WHERE t.deleted = FALSE AND t.transaction_date < :cutoff
+            ORDER BY t.transaction_date
+            LIMIT :batchSize
+            FOR UPDATE SKIP LOCKED
+            """, nativeQuery = true)
+    List<AgedTransactionView> lockActiveOlderThan(@Param("cutoff") LocalDateTime cutoff, @Param("batchSize") int batchSize);
+
+    // The cutoff bound prunes the partitions the ids can live in.
+    @Modifying
+    @Query(value = """
+            WITH moved AS (
+                DELETE FROM transactions
+                WHERE id IN (:ids) AND transaction_date < :cutoff
+                RETURNING id, seller_id, amount, payment_type, transaction_date, deleted, version
+            )
+            INSERT INTO transactions_archive (id, seller_id, amount, payment_type, transaction_date, deleted, version)
+            SELECT id, seller_id, amount, payment_type, transaction_date, deleted, version FROM moved
+            """, nativeQuery = true)
+    int archiveByIds(@Param("ids") Collection<Long> ids, @Param("cutoff") LocalDateTime cutoff);
+
+    @Query(value = """
+            SELECT a.seller_id AS "sellerId", a.amount AS "amount", a.payment_type AS "paymentType",
+                   a.transaction_date AS "transactionDate"
+            FROM transactions_archive a
+            WHERE a.id = :id
+            """, nativeQuery = true)
+    Optional<ArchivedTransactionView> findArchivedById(@Param("id") Long id);
+
+    // Comes back active with a new version, so the leaderboard treats it as newer than the delete.
+    @Modifying
+    @Query(value = """
+            WITH restored AS (
+                DELETE FROM transactions_archive WHERE id = :id
+                RETURNING id, seller_id, amount, payment_type, transaction_date, version
+            )
+            INSERT INTO transactions (id, seller_id, amount, payment_type, transaction_date, deleted, version)
+            SELECT id, seller_id, amount, payment_type, transaction_date, FALSE, version + 1 FROM restored
+            """, nativeQuery = true)
+    int restoreArchivedById(@Param("id") Long id);
+
+    @Modifying
+    @Query(value = "DELETE FROM transactions_archive WHERE id = :id", nativeQuery = true)
+    int deleteArchivedById(@Param("id") Long id);
+}
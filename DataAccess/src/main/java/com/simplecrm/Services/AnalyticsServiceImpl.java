@@ -1,14 +1,33 @@
 package com.simplecrm.Services;
 
 import com.simplecrm.AnalyticsDTO.BestPeriodResultDTO;
+import com.simplecrm.AnalyticsDTO.LiveWindow;
+import com.simplecrm.AnalyticsDTO.SellerRankDTO;
 import com.simplecrm.Models.Entities.Seller;
 import com.simplecrm.Models.Entities.Transaction;
+import com.simplecrm.Projections.BestPeriodView;
+import com.simplecrm.Projections.SellerDayTotalView;
+import com.simplecrm.Projections.SellerHourTotalView;
+import com.simplecrm.Projections.SellerTotalView;
+import com.simplecrm.Projections.TransactionAmountView;
+import com.simplecrm.Repositories.SellerDailyTotalRepository;
 import com.simplecrm.Repositories.SellerRepository;
 import com.simplecrm.Repositories.TransactionRepository;
 import com.simplecrm.ResponseDTO.SellerResponseDTO;
 import com.simplecrm.Services.Interfaces.AnalyticsService;
+import com.simplecrm.Utils.AnalyticsBucketCache;
+import com.simplecrm.Utils.AnalyticsBucketCache.SellerTotal;
+import com.simplecrm.Utils.BestPeriodCalculator;
+import com.simplecrm.Utils.BucketRange;
+import com.simplecrm.Utils.BucketRange.Bucket;
+import com.simplecrm.Utils.LiveLeaderboard;
 import com.simplecrm.Utils.Mapper;
+import com.simplecrm.Utils.RollupRange;
+import com.simplecrm.Utils.SellerCache;
 import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
 import org.springframework.scheduling.annotation.Async;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Isolation;
@@ -16,10 +35,19 @@ import org.springframework.transaction.annotation.Transactional;
 import org.springframework.validation.annotation.Validated;
 
 import java.math.BigDecimal;
+import java.time.Duration;
 import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
 import java.util.Comparator;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.Optional;
 import java.util.concurrent.CompletableFuture;
+import java.util.function.Function;
+import java.util.stream.Stream;
 import java.util.stream.Collectors;
 
 @Service
@@ -27,22 +55,32 @@ import java.util.stream.Collectors;
 @RequiredArgsConstructor
 public class AnalyticsServiceImpl implements AnalyticsService {
 
+    private static final Comparator<Map.Entry<Long, SellerTotal>> BY_AMOUNT_DESC = Comparator
+            .comparing((Map.Entry<Long, SellerTotal> entry) -> entry.getValue().amount()).reversed()
+            .thenComparing(Map.Entry::getKey);
+
     private final SellerRepository sellerRepository;
     private final TransactionRepository transactionRepository;
+    private final SellerDailyTotalRepository sellerDailyTotalRepository;
     private final Mapper mapper;
+    private final AnalyticsBucketCache analyticsBucketCache;
+    private final LiveLeaderboard liveLeaderboard;
+    private final SellerCache sellerCache;
+
+    @Value("${analytics.best-period.in-memory-threshold:20000}")
+    private long inMemoryThreshold = 20_000;
 
     @Override
-    @Async
-    @Transactional(readOnly = true, isolation = Isolation.READ_COMMITTED)
+    @Async("analyticsExecutor")
+    @Transactional(readOnly = true, isolation = Isolation.READ_COMMITTED,
+            timeoutString = "${analytics.query-timeout-seconds:30}")
     public CompletableFuture<List<SellerResponseDTO>> findTopSellerByPeriod(LocalDateTime start, LocalDateTime end) {
         if (start == null || end == null || start.isAfter(end)) {
             return CompletableFuture.completedFuture(List.of());
         }
         try {
-            List<Seller> topSellers = sellerRepository.findTopSellerByPeriod(start, end);
-            List<SellerResponseDTO> result = topSellers.stream()
-                    .limit(1)
-                    .map(mapper::mapEntityToSellerResponseDto)
+            List<SellerResponseDTO> result = rankSellers(start, end, 1).stream()
+                    .map(SellerRankDTO::getSeller)
                     .collect(Collectors.toList());
             return CompletableFuture.completedFuture(result);
         } catch (Exception e) {
@@ -50,17 +88,90 @@ public class AnalyticsServiceImpl implements AnalyticsService {
         }
     }
 
+    @Override
+    @Async("analyticsExecutor")
+    @Transactional(readOnly = true, isolation = Isolation.READ_COMMITTED,
+            timeoutString = "${analytics.query-timeout-seconds:30}")
+    public CompletableFuture<List<SellerRankDTO>> findTopSellers(LocalDateTime start, LocalDateTime end, int limit) {
+        if (start == null || end == null || start.isAfter(end) || limit <= 0) {
+            return CompletableFuture.completedFuture(List.of());
+        }
+        try {
+            return CompletableFuture.completedFuture(rankSellers(start, end, limit));
+        } catch (Exception e) {
+            return CompletableFuture.completedFuture(List.of());
+        }
+    }
+
     @Override
     @Async
+    public CompletableFuture<List<SellerRankDTO>> findLiveTopSellers(LiveWindow window, int limit) {
+        if (window == null || limit <= 0 || !liveLeaderboard.isEnabled()) {
+            return CompletableFuture.completedFuture(List.of());
+        }
+        try {
+            LocalDateTime now = LocalDateTime.now();
+            int fetch = limit;
+            while (true) {
+                List<LiveLeaderboard.Rank> ranks = liveLeaderboard.top(window, fetch, now);
+                List<SellerRankDTO> result = new ArrayList<>(limit);
+                for (LiveLeaderboard.Rank rank : ranks) {
+                    SellerResponseDTO seller = resolveLiveSeller(rank.sellerId());
+                    if (seller != null) {
+                        result.add(new SellerRankDTO(seller, rank.amount(), rank.count()));
+                        if (result.size() == limit) {
+                            break;
+                        }
+                    }
+                }
+                // Deleted sellers were skipped; widen the read until enough live ones are found.
+                if (result.size() == limit || ranks.size() < fetch) {
+                    return CompletableFuture.completedFuture(result);
+                }
+                fetch *= 2;
+            }
+        } catch (Exception e) {
+            return CompletableFuture.completedFuture(List.of());
+        }
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
     @Transactional(readOnly = true, isolation = Isolation.READ_COMMITTED)
+    public void bootstrapLiveLeaderboard() {
+        if (!liveLeaderboard.isEnabled()) {
+            return;
+        }
+        LocalDateTime now = LocalDateTime.now();
+        try (Stream<TransactionAmountView> rows = transactionRepository.streamAmountsSince(liveLeaderboard.horizon(now))) {
+            rows.forEach(row -> liveLeaderboard.upsert(row.getId(),
+                    row.getVersion() != null ? row.getVersion() : 0L,
+                    row.getSellerId(), row.getAmount(), row.getTransactionDate(), now));
+        }
+    }
+
+    @Override
+    @Async("analyticsExecutor")
+    @Transactional(readOnly = true, isolation = Isolation.READ_COMMITTED,
+            timeoutString = "${analytics.query-timeout-seconds:30}")
     public CompletableFuture<List<SellerResponseDTO>> findSellersWithTotalAmountLessThan(BigDecimal amount, LocalDateTime start, LocalDateTime end) {
         if (amount == null || amount.compareTo(BigDecimal.ZERO) < 0 || start == null || end == null || start.isAfter(end)) {
             return CompletableFuture.completedFuture(List.of());
         }
         try {
-            List<Seller> sellers = sellerRepository.findSellersWithAmountLessThan(amount, start, end);
+            if (analyticsBucketCache.covers(start, end)) {
+                Map<Long, SellerTotal> totals = totalsBySeller(start, end);
+                List<SellerResponseDTO> result = sellerRepository.findAllNotDeleted().stream()
+                        .filter(seller -> amountOf(totals, seller.getId()).compareTo(amount) < 0)
+                        .map(seller -> mapper.mapSellerEntityToResponseDto(seller, false))
+                        .collect(Collectors.toList());
+                return CompletableFuture.completedFuture(result);
+            }
+            RollupRange range = RollupRange.of(start, end);
+            List<Seller> sellers = sellerRepository.findSellersWithAmountLessThanFromRollup(amount,
+                    range.start(), range.headEnd(), range.tailStart(), range.end(),
+                    range.firstFullDay(), range.lastFullDayExclusive());
             List<SellerResponseDTO> result = sellers.stream()
-                    .map(mapper::mapEntityToSellerResponseDto)
+                    .map(seller -> mapper.mapSellerEntityToResponseDto(seller, false))
                     .collect(Collectors.toList());
             return CompletableFuture.completedFuture(result);
         } catch (Exception e) {
@@ -69,43 +180,191 @@ public class AnalyticsServiceImpl implements AnalyticsService {
     }
 
     @Override
-    @Async
-    @Transactional(readOnly = true, isolation = Isolation.READ_COMMITTED)
+    @Async("analyticsExecutor")
+    @Transactional(readOnly = true, isolation = Isolation.READ_COMMITTED,
+            timeoutString = "${analytics.query-timeout-seconds:30}")
     public CompletableFuture<BestPeriodResultDTO> findBestTransactionPeriodForSeller(Long sellerId) {
-        if (sellerId == null || sellerId <= 0) {
+        return findBestTransactionPeriodForSeller(sellerId, null);
+    }
+
+    @Override
+    @Async("analyticsExecutor")
+    @Transactional(readOnly = true, isolation = Isolation.READ_COMMITTED,
+            timeoutString = "${analytics.query-timeout-seconds:30}")
+    public CompletableFuture<BestPeriodResultDTO> findBestTransactionPeriodForSeller(Long sellerId, Duration window) {
+        if (sellerId == null || sellerId <= 0 || (window != null && (window.isNegative() || window.isZero()))) {
             return CompletableFuture.completedFuture(new BestPeriodResultDTO());
         }
 
         try {
-            List<Transaction> transactions = transactionRepository.findBySellerIdAndNotDeleted(sellerId)
-                    .stream()
-                    .sorted(Comparator.comparing(Transaction::getTransactionDate))
-                    .toList();
+            if (transactionRepository.countBySellerIdAndNotDeleted(sellerId) > inMemoryThreshold) {
+                Optional<BestPeriodView> view = window == null
+                        ? transactionRepository.findFullSpanBySellerId(sellerId)
+                        : transactionRepository.findBestPeriodBySellerId(sellerId, window.toMillis() / 1000.0);
+                return CompletableFuture.completedFuture(view
+                        .filter(v -> v.getTransactionCount() != null && v.getTransactionCount() > 0)
+                        .map(this::toBestPeriodResult)
+                        .orElseGet(BestPeriodResultDTO::new));
+            }
+
+            List<Transaction> transactions = transactionRepository.findBySellerIdAndNotDeleted(sellerId);
 
             if (transactions.isEmpty()) {
                 return CompletableFuture.completedFuture(new BestPeriodResultDTO());
             }
 
-            int maxCount = 0;
-            LocalDateTime bestStart = null;
-            LocalDateTime bestEnd = null;
-
-            for (int i = 0; i < transactions.size(); i++) {
-                for (int j = i; j < transactions.size(); j++) {
-                    int count = j - i + 1;
-                    if (count > maxCount) {
-                        maxCount = count;
-                        bestStart = transactions.get(i).getTransactionDate();
-                        bestEnd = transactions.get(j).getTransactionDate();
-                    }
-                }
+            int size = transactions.size();
+            long[] epochMillis = new long[size];
+            BigDecimal[] amounts = new BigDecimal[size];
+            for (int i = 0; i < size; i++) {
+                Transaction transaction = transactions.get(i);
+                epochMillis[i] = transaction.getTransactionDate().toInstant(ZoneOffset.UTC).toEpochMilli();
+                amounts[i] = transaction.getAmount();
             }
 
-            BestPeriodResultDTO result = new BestPeriodResultDTO(bestStart, bestEnd, maxCount);
+            BestPeriodCalculator.Result best = BestPeriodCalculator.compute(epochMillis, amounts, window);
+
+            BestPeriodResultDTO result = new BestPeriodResultDTO(
+                    transactions.get(best.countStartIndex()).getTransactionDate(),
+                    transactions.get(best.countEndIndex()).getTransactionDate(),
+                    best.transactionCount(),
+                    best.totalAmount(),
+                    transactions.get(best.amountStartIndex()).getTransactionDate(),
+                    transactions.get(best.amountEndIndex()).getTransactionDate(),
+                    best.amountTransactionCount(),
+                    best.amountTotal()
+            );
             return CompletableFuture.completedFuture(result);
 
         } catch (Exception e) {
             return CompletableFuture.failedFuture(new RuntimeException("Error finding best transaction period", e));
         }
     }
+
+    private List<SellerRankDTO> rankSellers(LocalDateTime start, LocalDateTime end, int limit) {
+        if (analyticsBucketCache.covers(start, end)) {
+            return rankSellersFromBuckets(start, end, limit);
+        }
+        RollupRange range = RollupRange.of(start, end);
+        return sellerRepository.findSellerRankingFromRollup(
+                        range.start(), range.headEnd(), range.tailStart(), range.end(),
+                        range.firstFullDay(), range.lastFullDayExclusive(), limit).stream()
+                .map(mapper::mapSellerRankViewToDto)
+                .collect(Collectors.toList());
+    }
+
+    // Sellers are looked up a page of `limit` ids at a time, so deleted sellers near the top only
+    // cost another page rather than loading every ranked seller.
+    private List<SellerRankDTO> rankSellersFromBuckets(LocalDateTime start, LocalDateTime end, int limit) {
+        List<Map.Entry<Long, SellerTotal>> ranked = totalsBySeller(start, end).entrySet().stream()
+                .filter(entry -> entry.getValue().count() > 0)
+                .sorted(BY_AMOUNT_DESC)
+                .toList();
+
+        List<SellerRankDTO> result = new ArrayList<>(Math.min(limit, ranked.size()));
+        for (int from = 0; from < ranked.size() && result.size() < limit; from += limit) {
+            List<Map.Entry<Long, SellerTotal>> page = ranked.subList(from, Math.min(from + limit, ranked.size()));
+            Map<Long, Seller> live = sellerRepository.findAllNotDeletedByIdIn(
+                            page.stream().map(Map.Entry::getKey).toList()).stream()
+                    .collect(Collectors.toMap(Seller::getId, Function.identity()));
+            for (Map.Entry<Long, SellerTotal> entry : page) {
+                Seller seller = live.get(entry.getKey());
+                if (seller != null && result.size() < limit) {
+                    result.add(new SellerRankDTO(mapper.mapSellerEntityToResponseDto(seller, false),
+                            entry.getValue().amount(), entry.getValue().count()));
+                }
+            }
+        }
+        return result;
+    }
+
+    // Sub-hour edges are always read raw; whole hours and days go through the bucket cache,
+    // which only reloads buckets that are still open or were evicted by a write.
+    private Map<Long, SellerTotal> totalsBySeller(LocalDateTime start, LocalDateTime end) {
+        LocalDateTime now = LocalDateTime.now();
+        BucketRange range = BucketRange.of(start, end);
+
+        Map<Long, SellerTotal> totals = new HashMap<>();
+        if (range.hasHead()) {
+            addRows(totals, transactionRepository.sumBySellerBefore(range.start(), range.headEnd()));
+        }
+        addRows(totals, transactionRepository.sumBySellerThrough(range.tailStart(), range.end()));
+        AnalyticsBucketCache.addAll(totals, analyticsBucketCache.sum(range.hours(), now, this::loadHourBuckets));
+        AnalyticsBucketCache.addAll(totals, analyticsBucketCache.sum(range.days(), now, this::loadDayBuckets));
+        return totals;
+    }
+
+    private Map<Bucket, Map<Long, SellerTotal>> loadHourBuckets(List<Bucket> buckets) {
+        Map<Bucket, Map<Long, SellerTotal>> loaded = new HashMap<>();
+        for (List<Bucket> run : BucketRange.contiguousRuns(buckets)) {
+            List<SellerHourTotalView> rows = transactionRepository.sumBySellerAndHour(
+                    run.get(0).start(), run.get(run.size() - 1).end());
+            for (SellerHourTotalView row : rows) {
+                Bucket bucket = new Bucket(row.getBucketDay().atTime(row.getBucketHour(), 0), ChronoUnit.HOURS);
+                loaded.computeIfAbsent(bucket, key -> new HashMap<>()).put(row.getSellerId(), totalOf(row));
+            }
+        }
+        return loaded;
+    }
+
+    private Map<Bucket, Map<Long, SellerTotal>> loadDayBuckets(List<Bucket> buckets) {
+        Map<Bucket, Map<Long, SellerTotal>> loaded = new HashMap<>();
+        for (List<Bucket> run : BucketRange.contiguousRuns(buckets)) {
+            List<SellerDayTotalView> rows = sellerDailyTotalRepository.sumBySellerAndDay(
+                    run.get(0).day(), run.get(run.size() - 1).end().toLocalDate());
+            for (SellerDayTotalView row : rows) {
+                Bucket bucket = new Bucket(row.getBucketDay().atStartOfDay(), ChronoUnit.DAYS);
+                loaded.computeIfAbsent(bucket, key -> new HashMap<>()).put(row.getSellerId(), totalOf(row));
+            }
+        }
+        return loaded;
+    }
+
+    private SellerResponseDTO resolveLiveSeller(long sellerId) {
+        SellerCache.CachedSeller cached = sellerCache.getIfPresent(sellerId);
+        if (cached != null) {
+            if (cached.isDeleted()) {
+                return null;
+            }
+            SellerResponseDTO seller = cached.copy();
+            seller.setVersion(null);
+            return seller;
+        }
+        return sellerRepository.findNotDeletedById(sellerId)
+                .map(seller -> {
+                    sellerCache.put(seller);
+                    return mapper.mapSellerEntityToResponseDto(seller, false);
+                })
+                .orElse(null);
+    }
+
+    private static void addRows(Map<Long, SellerTotal> totals, List<? extends SellerTotalView> rows) {
+        for (SellerTotalView row : rows) {
+            totals.merge(row.getSellerId(), totalOf(row), SellerTotal::plus);
+        }
+    }
+
+    private static SellerTotal totalOf(SellerTotalView row) {
+        return new SellerTotal(
+                row.getTotalAmount() != null ? row.getTotalAmount() : BigDecimal.ZERO,
+                row.getTransactionCount() != null ? row.getTransactionCount() : 0L);
+    }
+
+    private static BigDecimal amountOf(Map<Long, SellerTotal> totals, Long sellerId) {
+        SellerTotal total = totals.get(sellerId);
+        return total != null ? total.amount() : BigDecimal.ZERO;
+    }
+
+    private BestPeriodResultDTO toBestPeriodResult(BestPeriodView view) {
+        return new BestPeriodResultDTO(
+                view.getStartDate(),
+                view.getEndDate(),
+                view.getTransactionCount().intValue(),
+                view.getTotalAmount(),
+                view.getAmountStartDate(),
+                view.getAmountEndDate(),
+                view.getAmountTransactionCount().intValue(),
+                view.getAmountTotal()
+        );
+    }
 }
@@ -1,9 +1,12 @@
 package com.simplecrm.Services.Interfaces;
 
 import com.simplecrm.AnalyticsDTO.BestPeriodResultDTO;
+import com.simplecrm.AnalyticsDTO.LiveWindow;
+import com.simplecrm.AnalyticsDTO.SellerRankDTO;
 import com.simplecrm.ResponseDTO.SellerResponseDTO;
 
 import java.math.BigDecimal;
+import java.time.Duration;
 import java.time.LocalDateTime;
 import java.util.List;
 import java.util.concurrent.CompletableFuture;
@@ -11,7 +14,13 @@ import java.util.concurrent.CompletableFuture;
 public interface AnalyticsService {
     CompletableFuture<List<SellerResponseDTO>> findTopSellerByPeriod(LocalDateTime start, LocalDateTime end);
 
+    CompletableFuture<List<SellerRankDTO>> findTopSellers(LocalDateTime start, LocalDateTime end, int limit);
+
+    CompletableFuture<List<SellerRankDTO>> findLiveTopSellers(LiveWindow window, int limit);
+
     CompletableFuture<List<SellerResponseDTO>> findSellersWithTotalAmountLessThan(BigDecimal amount, LocalDateTime start, LocalDateTime end);
 
     CompletableFuture<BestPeriodResultDTO> findBestTransactionPeriodForSeller(Long sellerId);
+
+    CompletableFuture<BestPeriodResultDTO> findBestTransactionPeriodForSeller(Long sellerId, Duration window);
 }
@@ -1,7 +1,9 @@
 package com.simplecrm.Services.Interfaces;
 
 import com.simplecrm.RequestDTO.Seller.SellerCreateRequestDTO;
+import com.simplecrm.RequestDTO.Seller.SellerFilterDTO;
 import com.simplecrm.RequestDTO.Seller.SellerUpdateRequestDTO;
+import com.simplecrm.ResponseDTO.SellerPageDTO;
 import com.simplecrm.ResponseDTO.SellerResponseDTO;
 import com.simplecrm.ResultTypes.SellerResult;
 import jakarta.validation.Valid;
@@ -16,6 +18,8 @@ public interface SellerService {
 
     CompletableFuture<List<SellerResponseDTO>> getAllSellers();
 
+    CompletableFuture<SellerPageDTO> getSellersPage(SellerFilterDTO filter, String sort, String cursor, int limit);
+
     CompletableFuture<SellerResult> updateSeller(Long id, @Valid SellerUpdateRequestDTO requestDto);
 
     CompletableFuture<SellerResult> deleteSellerByIdSoft(Long id);
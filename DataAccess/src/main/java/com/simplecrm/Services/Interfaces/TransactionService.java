@@ -1,8 +1,10 @@
 package com.simplecrm.Services.Interfaces;
 
+import com.simplecrm.Projections.TransactionExportView;
 import com.simplecrm.Projections.TransactionFlatView;
 import com.simplecrm.RequestDTO.Transaction.TransactionCreateRequestDTO;
 import com.simplecrm.RequestDTO.Transaction.TransactionUpdateRequestDTO;
+import com.simplecrm.ResponseDTO.TransactionPageDTO;
 import com.simplecrm.ResponseDTO.TransactionResponseDTO;
 import com.simplecrm.ResultTypes.TransactionResult;
 import jakarta.validation.Valid;
@@ -10,11 +12,14 @@ import jakarta.validation.Valid;
 import java.time.LocalDateTime;
 import java.util.List;
 import java.util.concurrent.CompletableFuture;
+import java.util.function.Consumer;
 
 public interface TransactionService {
 
     CompletableFuture<TransactionResult> createTransaction(@Valid TransactionCreateRequestDTO requestDto);
 
+    CompletableFuture<List<TransactionResult>> createTransactions(List<TransactionCreateRequestDTO> requests);
+
     CompletableFuture<TransactionResult> getTransactionById(Long id);
 
     CompletableFuture<TransactionResult> updateTransactionById(Long id, @Valid TransactionUpdateRequestDTO requestDto);
@@ -23,8 +28,14 @@ public interface TransactionService {
 
     CompletableFuture<TransactionResult> deleteTransactionByIdHard(Long id);
 
+    CompletableFuture<TransactionResult> restoreTransactionById(Long id);
+
     CompletableFuture<List<TransactionResponseDTO>> getAllTransactions();
 
+    CompletableFuture<TransactionPageDTO> getTransactionsPage(String cursor, int limit);
+
+    void exportTransactions(Consumer<TransactionExportView> consumer);
+
     CompletableFuture<List<TransactionFlatView>> getTransactionsBySellerId(Long sellerId);
 
     CompletableFuture<List<TransactionResponseDTO>> getTransactionsBySellerIdAndDateRange(Long sellerId, LocalDateTime start, LocalDateTime end);
@@ -1,14 +1,22 @@
 package com.simplecrm.Services;
 
+import com.simplecrm.Exceptions.SellerValidationException;
 import com.simplecrm.Models.Entities.Seller;
 import com.simplecrm.Repositories.SellerRepository;
+import com.simplecrm.Repositories.SellerSpecifications;
 import com.simplecrm.RequestDTO.Seller.SellerCreateRequestDTO;
+import com.simplecrm.RequestDTO.Seller.SellerFilterDTO;
 import com.simplecrm.RequestDTO.Seller.SellerUpdateRequestDTO;
+import com.simplecrm.ResponseDTO.SellerPageDTO;
 import com.simplecrm.ResponseDTO.SellerResponseDTO;
 import com.simplecrm.ResultTypes.SellerResult;
 import com.simplecrm.Services.Interfaces.SellerService;
 import com.simplecrm.Utils.Mapper;
+import com.simplecrm.Utils.SellerCache;
+import com.simplecrm.Utils.SellerCursor;
+import com.simplecrm.Utils.SellerSort;
 import lombok.RequiredArgsConstructor;
+import org.springframework.data.jpa.domain.Specification;
 import org.springframework.orm.ObjectOptimisticLockingFailureException;
 import org.springframework.scheduling.annotation.Async;
 import org.springframework.stereotype.Service;
@@ -21,15 +29,17 @@ import jakarta.validation.Valid;
 import java.time.LocalDateTime;
 import java.util.List;
 import java.util.concurrent.CompletableFuture;
-import java.util.stream.Collectors;
 
 @Service
 @Validated
 @RequiredArgsConstructor
 public class SellerServiceImpl implements SellerService {
 
+    private static final int MAX_PAGE_SIZE = 1000;
+
     private final SellerRepository sellerRepository;
     private final Mapper mapper;
+    private final SellerCache sellerCache;
 
     @Override
     @Async
@@ -42,7 +52,7 @@ public class SellerServiceImpl implements SellerService {
             seller.setRegistrationDate(LocalDateTime.now());
 
             Seller savedEntity = sellerRepository.save(seller);
-            SellerResponseDTO responseDto = mapper.mapEntityToSellerResponseDto(savedEntity);
+            SellerResponseDTO responseDto = mapper.mapSellerEntityToResponseDto(savedEntity, false);
 
             return CompletableFuture.completedFuture(new SellerResult.Success(responseDto));
         } catch (Exception e) {
@@ -60,9 +70,22 @@ public class SellerServiceImpl implements SellerService {
             return CompletableFuture.completedFuture(new SellerResult.ValidationError("Seller ID must be positive"));
         }
 
+        SellerCache.CachedSeller cached = sellerCache.getIfPresent(id);
+        if (cached != null) {
+            if (cached.isDeleted()) {
+                return CompletableFuture.completedFuture(new SellerResult.NotFoundError("Seller not found with id: " + id));
+            }
+            SellerResponseDTO responseDto = cached.copy();
+            responseDto.setVersion(null);
+            return CompletableFuture.completedFuture(new SellerResult.Success(responseDto));
+        }
+
         return CompletableFuture.completedFuture(
                 sellerRepository.findNotDeletedById(id)
-                        .map(seller -> (SellerResult) new SellerResult.Success(mapper.mapEntityToSellerResponseDto(seller)))
+                        .map(seller -> {
+                            sellerCache.put(seller);
+                            return (SellerResult) new SellerResult.Success(mapper.mapSellerEntityToResponseDto(seller, false));
+                        })
                         .orElse(new SellerResult.NotFoundError("Seller not found with id: " + id))
         );
     }
@@ -72,15 +95,49 @@ public class SellerServiceImpl implements SellerService {
     @Transactional(readOnly = true, isolation = Isolation.READ_COMMITTED)
     public CompletableFuture<List<SellerResponseDTO>> getAllSellers() {
         try {
-            List<SellerResponseDTO> sellers = sellerRepository.findAllNotDeleted().stream()
-                    .map(mapper::mapEntityToSellerResponseDto)
-                    .collect(Collectors.toList());
+            List<SellerResponseDTO> sellers = sellerRepository.findAllNotDeletedResponses();
             return CompletableFuture.completedFuture(sellers);
         } catch (Exception e) {
             return CompletableFuture.completedFuture(List.of());
         }
     }
 
+    @Override
+    @Async
+    @Transactional(readOnly = true, isolation = Isolation.READ_COMMITTED)
+    public CompletableFuture<SellerPageDTO> getSellersPage(SellerFilterDTO filter, String sort, String cursor, int limit) {
+        if (limit <= 0 || limit > MAX_PAGE_SIZE) {
+            return CompletableFuture.failedFuture(
+                    new SellerValidationException("Limit must be between 1 and " + MAX_PAGE_SIZE));
+        }
+
+        try {
+            SellerSort order = SellerSort.parse(sort);
+            Specification<Seller> specification = toSpecification(filter);
+            if (cursor != null && !cursor.isBlank()) {
+                SellerCursor position = SellerCursor.decode(cursor);
+                if (position.sort() != order) {
+                    throw new SellerValidationException("Cursor was issued for sort " + position.sort().param());
+                }
+                specification = specification.and(SellerSpecifications.after(position));
+            }
+
+            List<Seller> rows = sellerRepository.findBy(specification,
+                    query -> query.sortBy(order.toSort()).limit(limit + 1).all());
+
+            boolean hasNext = rows.size() > limit;
+            List<Seller> page = hasNext ? rows.subList(0, limit) : rows;
+            String nextCursor = hasNext ? SellerCursor.after(order, page.get(page.size() - 1)).encode() : null;
+
+            List<SellerResponseDTO> items = page.stream()
+                    .map(seller -> mapper.mapSellerEntityToResponseDto(seller, false))
+                    .toList();
+            return CompletableFuture.completedFuture(new SellerPageDTO(items, nextCursor));
+        } catch (Exception e) {
+            return CompletableFuture.failedFuture(e);
+        }
+    }
+
     @Override
     @Async
     @Transactional(isolation = Isolation.READ_COMMITTED)
@@ -104,7 +161,8 @@ public class SellerServiceImpl implements SellerService {
                                 existingSeller.setContactInfo(requestDto.getContactInfo());
 
                                 Seller updatedEntity = sellerRepository.save(existingSeller);
-                                SellerResponseDTO responseDto = mapper.mapEntityToSellerResponseDto(updatedEntity);
+                                sellerCache.putAfterCommit(updatedEntity);
+                                SellerResponseDTO responseDto = mapper.mapSellerEntityToResponseDto(updatedEntity, false);
                                 return new SellerResult.Success(responseDto);
 
                             } catch (ObjectOptimisticLockingFailureException e) {
@@ -131,7 +189,8 @@ public class SellerServiceImpl implements SellerService {
                             try {
                                 seller.setDeleted(true);
                                 sellerRepository.save(seller);
-                                return new SellerResult.Success(mapper.mapEntityToSellerResponseDto(seller));
+                                sellerCache.markDeletedAfterCommit(seller);
+                                return new SellerResult.Success(mapper.mapSellerEntityToResponseDto(seller, false));
                             } catch (Exception e) {
                                 return new SellerResult.GenericError("Error deleting seller: " + e.getMessage());
                             }
@@ -149,24 +208,44 @@ public class SellerServiceImpl implements SellerService {
                 return CompletableFuture.completedFuture(new SellerResult.ValidationError("Seller ID must be positive"));
             }
 
-            return CompletableFuture.supplyAsync(() -> {
-                var optionalSeller = sellerRepository.findById(id);
-                if (optionalSeller.isEmpty()) {
-                    return new SellerResult.NotFoundError("Seller not found with id: " + id);
-                }
+            var optionalSeller = sellerRepository.findById(id);
+            if (optionalSeller.isEmpty()) {
+                return CompletableFuture.completedFuture(new SellerResult.NotFoundError("Seller not found with id: " + id));
+            }
 
-                try {
-                    sellerRepository.delete(optionalSeller.get());
-                    return new SellerResult.Success(null);
-                } catch (Exception e) {
-                    return new SellerResult.GenericError("Error performing hard delete: " + e.getMessage());
-                }
-            });
+            try {
+                sellerRepository.delete(optionalSeller.get());
+                sellerCache.markRemovedAfterCommit(id);
+                return CompletableFuture.completedFuture(new SellerResult.Success(null));
+            } catch (Exception e) {
+                return CompletableFuture.completedFuture(
+                        new SellerResult.GenericError("Error performing hard delete: " + e.getMessage()));
+            }
         } catch (Exception e) {
             return CompletableFuture.completedFuture(
                     new SellerResult.GenericError("Error deleting seller: " + e.getMessage())
             );
         }
     }
-}
 
+    private static Specification<Seller> toSpecification(SellerFilterDTO filter) {
+        Specification<Seller> specification = SellerSpecifications.notDeleted();
+        if (filter == null) {
+            return specification;
+        }
+        if (filter.getRegisteredFrom() != null && filter.getRegisteredTo() != null
+                && filter.getRegisteredFrom().isAfter(filter.getRegisteredTo())) {
+            throw new SellerValidationException("registeredFrom must not be after registeredTo");
+        }
+        if (filter.getNamePrefix() != null && !filter.getNamePrefix().isBlank()) {
+            specification = specification.and(SellerSpecifications.nameStartsWith(filter.getNamePrefix().strip()));
+        }
+        if (filter.getRegisteredFrom() != null) {
+            specification = specification.and(SellerSpecifications.registeredFrom(filter.getRegisteredFrom()));
+        }
+        if (filter.getRegisteredTo() != null) {
+            specification = specification.and(SellerSpecifications.registeredTo(filter.getRegisteredTo()));
+        }
+        return specification;
+    }
+}
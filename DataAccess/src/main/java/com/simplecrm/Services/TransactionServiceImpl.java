@@ -1,18 +1,34 @@
 package com.simplecrm.Services;
 
+import com.simplecrm.Exceptions.TransactionValidationException;
+import com.simplecrm.Models.Entities.Seller;
 import com.simplecrm.Models.Entities.Transaction;
+import com.simplecrm.Projections.ArchivedTransactionView;
+import com.simplecrm.Projections.TransactionExportView;
 import com.simplecrm.Projections.TransactionFlatView;
+import com.simplecrm.Repositories.SellerDailyTotalRepository;
 import com.simplecrm.Repositories.SellerRepository;
 import com.simplecrm.Repositories.TransactionRepository;
 import com.simplecrm.RequestDTO.Transaction.TransactionCreateRequestDTO;
 import com.simplecrm.RequestDTO.Transaction.TransactionUpdateRequestDTO;
+import com.simplecrm.ResponseDTO.SellerResponseDTO;
+import com.simplecrm.ResponseDTO.TransactionPageDTO;
 import com.simplecrm.ResponseDTO.TransactionResponseDTO;
 import com.simplecrm.ResultTypes.TransactionResult;
 import com.simplecrm.Services.Interfaces.TransactionService;
+import com.simplecrm.Utils.AnalyticsBucketCache;
+import com.simplecrm.Utils.DailyTotalDeltas;
+import com.simplecrm.Utils.LiveLeaderboard;
 import com.simplecrm.Utils.Mapper;
+import com.simplecrm.Utils.SellerCache;
+import com.simplecrm.Utils.TransactionCursor;
+import jakarta.persistence.EntityManager;
 import jakarta.persistence.EntityNotFoundException;
+import jakarta.validation.ConstraintViolation;
 import jakarta.validation.Valid;
+import jakarta.validation.Validator;
 import lombok.RequiredArgsConstructor;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.orm.ObjectOptimisticLockingFailureException;
 import org.springframework.scheduling.annotation.Async;
 import org.springframework.stereotype.Service;
@@ -20,29 +36,51 @@ import org.springframework.transaction.annotation.Isolation;
 import org.springframework.transaction.annotation.Transactional;
 import org.springframework.validation.annotation.Validated;
 
+import java.math.BigDecimal;
 import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Iterator;
 import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.Set;
 import java.util.concurrent.CompletableFuture;
+import java.util.function.Consumer;
+import java.util.function.Function;
 import java.util.stream.Collectors;
+import java.util.stream.Stream;
 
 @Service
 @Validated
 @RequiredArgsConstructor
 public class TransactionServiceImpl implements TransactionService {
 
+    private static final int MAX_PAGE_SIZE = 1000;
+    private static final int EXPORT_CLEAR_INTERVAL = 1000;
+    private static final int MAX_BATCH_SIZE = 10_000;
+    private static final int INSERT_CHUNK_SIZE = 500;
+
     private final TransactionRepository transactionRepository;
     private final SellerRepository sellerRepository;
+    private final SellerDailyTotalRepository sellerDailyTotalRepository;
     private final Mapper mapper;
+    private final EntityManager entityManager;
+    private final SellerCache sellerCache;
+    private final AnalyticsBucketCache analyticsBucketCache;
+    private final LiveLeaderboard liveLeaderboard;
+    private final Validator validator;
 
     @Override
     @Async
     @Transactional(isolation = Isolation.READ_COMMITTED)
     public CompletableFuture<TransactionResult> createTransaction(@Valid TransactionCreateRequestDTO requestDto) {
         try {
-            return sellerRepository.findNotDeletedById(requestDto.getSellerId())
+            return resolveSeller(requestDto.getSellerId())
                     .map(seller -> {
                         Transaction transaction = new Transaction();
-                        transaction.setSeller(seller);
+                        transaction.setSeller(seller.entity());
                         transaction.setAmount(requestDto.getAmount());
                         transaction.setPaymentType(requestDto.getPaymentType());
                         transaction.setTransactionDate(requestDto.getTransactionDate() != null
@@ -50,7 +88,9 @@ public class TransactionServiceImpl implements TransactionService {
                                 : LocalDateTime.now());
 
                         Transaction savedEntity = transactionRepository.save(transaction);
-                        TransactionResponseDTO responseDto = mapper.mapEntityToTransactionResponseDto(savedEntity);
+                        addToDailyTotals(savedEntity);
+                        liveLeaderboard.recordAfterCommit(savedEntity);
+                        TransactionResponseDTO responseDto = toResponseDto(savedEntity, seller);
 
                         return CompletableFuture.completedFuture((TransactionResult) new TransactionResult.Success(responseDto));
                     })
@@ -65,6 +105,74 @@ public class TransactionServiceImpl implements TransactionService {
     }
 
 
+    @Override
+    @Async
+    @Transactional(isolation = Isolation.READ_COMMITTED)
+    public CompletableFuture<List<TransactionResult>> createTransactions(List<TransactionCreateRequestDTO> requests) {
+        if (requests == null || requests.isEmpty() || requests.size() > MAX_BATCH_SIZE) {
+            return CompletableFuture.failedFuture(
+                    new TransactionValidationException("Batch size must be between 1 and " + MAX_BATCH_SIZE));
+        }
+
+        Set<Long> sellerIds = requests.stream()
+                .filter(Objects::nonNull)
+                .map(TransactionCreateRequestDTO::getSellerId)
+                .filter(Objects::nonNull)
+                .collect(Collectors.toSet());
+        Map<Long, Seller> sellers = sellerIds.isEmpty()
+                ? Map.of()
+                : sellerRepository.findAllNotDeletedByIdIn(sellerIds).stream()
+                        .collect(Collectors.toMap(Seller::getId, Function.identity()));
+
+        TransactionResult[] results = new TransactionResult[requests.size()];
+        List<Transaction> pending = new ArrayList<>();
+        List<Integer> pendingIndexes = new ArrayList<>();
+
+        for (int i = 0; i < requests.size(); i++) {
+            TransactionCreateRequestDTO requestDto = requests.get(i);
+            String validationError = validateCreateRequest(requestDto);
+            if (validationError != null) {
+                results[i] = new TransactionResult.ValidationError(validationError);
+                continue;
+            }
+            Seller seller = sellers.get(requestDto.getSellerId());
+            if (seller == null) {
+                results[i] = new TransactionResult.SellerNotFoundError("Seller not found with id: " + requestDto.getSellerId());
+                continue;
+            }
+
+            Transaction transaction = new Transaction();
+            transaction.setSeller(seller);
+            transaction.setAmount(requestDto.getAmount());
+            transaction.setPaymentType(requestDto.getPaymentType());
+            transaction.setTransactionDate(requestDto.getTransactionDate());
+            pending.add(transaction);
+            pendingIndexes.add(i);
+        }
+
+        DailyTotalDeltas dailyTotals = new DailyTotalDeltas();
+        for (int from = 0; from < pending.size(); from += INSERT_CHUNK_SIZE) {
+            int to = Math.min(from + INSERT_CHUNK_SIZE, pending.size());
+            List<Transaction> saved = transactionRepository.saveAll(pending.subList(from, to));
+            entityManager.flush();
+
+            for (int j = 0; j < saved.size(); j++) {
+                Transaction savedEntity = saved.get(j);
+                results[pendingIndexes.get(from + j)] =
+                        new TransactionResult.Success(mapper.mapEntityToTransactionResponseDto(savedEntity));
+                dailyTotals.add(savedEntity.getSeller().getId(), savedEntity.getTransactionDate(),
+                        savedEntity.getPaymentType(), savedEntity.getAmount(), 1);
+            }
+            entityManager.clear();
+        }
+        dailyTotals.applyTo(sellerDailyTotalRepository);
+        analyticsBucketCache.evictAfterCommit(pending.stream().map(Transaction::getTransactionDate).toList());
+        liveLeaderboard.recordAllAfterCommit(pending);
+
+        return CompletableFuture.completedFuture(Arrays.asList(results));
+    }
+
+
     @Override
     @Async
     @Transactional(readOnly = true, isolation = Isolation.READ_COMMITTED)
@@ -85,15 +193,63 @@ public class TransactionServiceImpl implements TransactionService {
     @Transactional(readOnly = true, isolation = Isolation.READ_COMMITTED)
     public CompletableFuture<List<TransactionResponseDTO>> getAllTransactions() {
         try {
-            List<TransactionResponseDTO> transactions = transactionRepository.findAllNotDeleted().stream()
-                    .map(mapper::mapEntityToTransactionResponseDto)
-                    .collect(Collectors.toList());
+            List<TransactionResponseDTO> transactions = mapper.mapEntitiesToTransactionResponseDtos(
+                    transactionRepository.findAllNotDeleted());
             return CompletableFuture.completedFuture(transactions);
         } catch (Exception e) {
             return CompletableFuture.completedFuture(List.of());
         }
     }
 
+    @Override
+    @Async
+    @Transactional(readOnly = true, isolation = Isolation.READ_COMMITTED)
+    public CompletableFuture<TransactionPageDTO> getTransactionsPage(String cursor, int limit) {
+        if (limit <= 0 || limit > MAX_PAGE_SIZE) {
+            return CompletableFuture.failedFuture(
+                    new TransactionValidationException("Limit must be between 1 and " + MAX_PAGE_SIZE));
+        }
+
+        try {
+            PageRequest pageRequest = PageRequest.ofSize(limit + 1);
+            List<Transaction> rows;
+            if (cursor == null || cursor.isBlank()) {
+                rows = transactionRepository.findPageNotDeleted(pageRequest);
+            } else {
+                TransactionCursor position = TransactionCursor.decode(cursor);
+                rows = transactionRepository.findPageNotDeletedAfter(position.transactionDate(), position.id(), pageRequest);
+            }
+
+            boolean hasNext = rows.size() > limit;
+            List<Transaction> page = hasNext ? rows.subList(0, limit) : rows;
+            String nextCursor = null;
+            if (hasNext) {
+                Transaction last = page.get(page.size() - 1);
+                nextCursor = new TransactionCursor(last.getTransactionDate(), last.getId()).encode();
+            }
+
+            List<TransactionResponseDTO> items = mapper.mapEntitiesToTransactionResponseDtos(page);
+            return CompletableFuture.completedFuture(new TransactionPageDTO(items, nextCursor));
+        } catch (Exception e) {
+            return CompletableFuture.failedFuture(e);
+        }
+    }
+
+    @Override
+    @Transactional(readOnly = true, isolation = Isolation.READ_COMMITTED)
+    public void exportTransactions(Consumer<TransactionExportView> consumer) {
+        try (Stream<TransactionExportView> rows = transactionRepository.streamAllForExport()) {
+            Iterator<TransactionExportView> iterator = rows.iterator();
+            long written = 0;
+            while (iterator.hasNext()) {
+                consumer.accept(iterator.next());
+                if (++written % EXPORT_CLEAR_INTERVAL == 0) {
+                    entityManager.clear();
+                }
+            }
+        }
+    }
+
     @Override
     @Async
     @Transactional(isolation = Isolation.READ_COMMITTED)
@@ -113,15 +269,19 @@ public class TransactionServiceImpl implements TransactionService {
                                     );
                                 }
 
+                                Transaction previousState = snapshotOf(existingTransaction);
+
                                 if (requestDto.getSellerId() != null) {
-                                    return sellerRepository.findNotDeletedById(requestDto.getSellerId())
+                                    return resolveSeller(requestDto.getSellerId())
                                             .map(newSeller -> {
-                                                existingTransaction.setSeller(newSeller);
+                                                existingTransaction.setSeller(newSeller.entity());
                                                 existingTransaction.setAmount(requestDto.getAmount());
                                                 existingTransaction.setPaymentType(requestDto.getPaymentType());
                                                 existingTransaction.setTransactionDate(requestDto.getTransactionDate());
                                                 Transaction updatedEntity = transactionRepository.save(existingTransaction);
-                                                TransactionResponseDTO responseDto = mapper.mapEntityToTransactionResponseDto(updatedEntity);
+                                                moveDailyTotals(previousState, existingTransaction);
+                                                liveLeaderboard.recordAfterCommit(existingTransaction);
+                                                TransactionResponseDTO responseDto = toResponseDto(updatedEntity, newSeller);
                                                 return (TransactionResult) new TransactionResult.Success(responseDto);
                                             })
                                             .orElse(new TransactionResult.SellerNotFoundError("Seller not found with id: " + requestDto.getSellerId()));
@@ -130,6 +290,8 @@ public class TransactionServiceImpl implements TransactionService {
                                     existingTransaction.setPaymentType(requestDto.getPaymentType());
                                     existingTransaction.setTransactionDate(requestDto.getTransactionDate());
                                     Transaction updatedEntity = transactionRepository.save(existingTransaction);
+                                    moveDailyTotals(previousState, existingTransaction);
+                                    liveLeaderboard.recordAfterCommit(existingTransaction);
                                     TransactionResponseDTO responseDto = mapper.mapEntityToTransactionResponseDto(updatedEntity);
                                     return new TransactionResult.Success(responseDto);
                                 }
@@ -157,6 +319,8 @@ public class TransactionServiceImpl implements TransactionService {
                             try {
                                 transaction.setDeleted(true);
                                 transactionRepository.save(transaction);
+                                subtractFromDailyTotals(transaction);
+                                liveLeaderboard.recordAfterCommit(transaction);
                                 return new TransactionResult.Success(mapper.mapEntityToTransactionResponseDto(transaction));
                             } catch (Exception e) {
                                 return new TransactionResult.GenericError("Error deleting transaction: " + e.getMessage());
@@ -168,25 +332,54 @@ public class TransactionServiceImpl implements TransactionService {
 
     @Override
     @Async
-    @Transactional
+    @Transactional(isolation = Isolation.READ_COMMITTED)
     public CompletableFuture<TransactionResult> deleteTransactionByIdHard(Long id) {
-        return CompletableFuture.supplyAsync(() -> {
-            try {
-                if (id == null || id <= 0) {
-                    return new TransactionResult.ValidationError("Invalid transaction ID: " + id);
-                }
+        try {
+            if (id == null || id <= 0) {
+                return CompletableFuture.completedFuture(new TransactionResult.ValidationError("Invalid transaction ID: " + id));
+            }
 
-                if (!transactionRepository.existsById(id)) {
-                    return new TransactionResult.NotFoundError("Transaction not found with id: " + id);
-                }
+            Optional<Transaction> transaction = transactionRepository.findById(id);
+            if (transaction.isEmpty()) {
+                return CompletableFuture.completedFuture(deleteArchivedTransaction(id));
+            }
+
+            if (!Boolean.TRUE.equals(transaction.get().getDeleted())) {
+                subtractFromDailyTotals(transaction.get());
+            }
+            transactionRepository.delete(transaction.get());
+            liveLeaderboard.removeAfterCommit(id);
+            return CompletableFuture.completedFuture(new TransactionResult.Success(null));
+
+        } catch (Exception e) {
+            return CompletableFuture.completedFuture(
+                    new TransactionResult.GenericError("Error deleting transaction: " + e.getMessage()));
+        }
+    }
 
-                transactionRepository.deleteById(id);
-                return new TransactionResult.Success(null);
+    @Override
+    @Async
+    @Transactional(isolation = Isolation.READ_COMMITTED)
+    public CompletableFuture<TransactionResult> restoreTransactionById(Long id) {
+        if (id == null || id <= 0) {
+            return CompletableFuture.completedFuture(new TransactionResult.ValidationError("Transaction ID must be positive"));
+        }
 
-            } catch (Exception e) {
-                return new TransactionResult.GenericError("Error deleting transaction: " + e.getMessage());
+        try {
+            Optional<Transaction> hot = transactionRepository.findById(id);
+            if (hot.isPresent()) {
+                return CompletableFuture.completedFuture(restoreHotTransaction(hot.get()));
             }
-        });
+
+            return CompletableFuture.completedFuture(
+                    transactionRepository.findArchivedById(id)
+                            .map(archived -> restoreArchivedTransaction(id, archived))
+                            .orElse(new TransactionResult.NotFoundError("Transaction not found with id: " + id))
+            );
+        } catch (Exception e) {
+            return CompletableFuture.completedFuture(
+                    new TransactionResult.GenericError("Error restoring transaction: " + e.getMessage()));
+        }
     }
 
     @Override
@@ -215,9 +408,7 @@ public class TransactionServiceImpl implements TransactionService {
         }
 
         try {
-            List<TransactionResponseDTO> transactions = transactionRepository.findBySellerIdAndDateRange(sellerId, start, end).stream()
-                    .map(mapper::mapEntityToTransactionResponseDto)
-                    .collect(Collectors.toList());
+            List<TransactionResponseDTO> transactions = transactionRepository.findResponsesBySellerIdAndDateRange(sellerId, start, end);
             return CompletableFuture.completedFuture(transactions);
         } catch (Exception e) {
             return CompletableFuture.completedFuture(List.of());
@@ -233,12 +424,121 @@ public class TransactionServiceImpl implements TransactionService {
         }
 
         try {
-            List<TransactionResponseDTO> transactions = transactionRepository.findByDateRange(start, end).stream()
-                    .map(mapper::mapEntityToTransactionResponseDto)
-                    .collect(Collectors.toList());
+            List<TransactionResponseDTO> transactions = transactionRepository.findResponsesByDateRange(start, end);
             return CompletableFuture.completedFuture(transactions);
         } catch (Exception e) {
             return CompletableFuture.completedFuture(List.of());
         }
     }
+
+    private TransactionResult restoreHotTransaction(Transaction transaction) {
+        if (!Boolean.TRUE.equals(transaction.getDeleted())) {
+            return new TransactionResult.Success(mapper.mapEntityToTransactionResponseDto(transaction));
+        }
+        Long sellerId = transaction.getSeller().getId();
+        if (resolveSeller(sellerId).isEmpty()) {
+            return new TransactionResult.SellerNotFoundError("Seller not found with id: " + sellerId);
+        }
+
+        transaction.setDeleted(false);
+        transactionRepository.save(transaction);
+        addToDailyTotals(transaction);
+        liveLeaderboard.recordAfterCommit(transaction);
+        return new TransactionResult.Success(mapper.mapEntityToTransactionResponseDto(transaction));
+    }
+
+    // Archived rows are never counted in the daily rollups, so a restored row is added back.
+    private TransactionResult restoreArchivedTransaction(Long id, ArchivedTransactionView archived) {
+        if (resolveSeller(archived.getSellerId()).isEmpty()) {
+            return new TransactionResult.SellerNotFoundError("Seller not found with id: " + archived.getSellerId());
+        }
+        if (transactionRepository.restoreArchivedById(id) == 0) {
+            return new TransactionResult.NotFoundError("Transaction not found with id: " + id);
+        }
+
+        Transaction restored = transactionRepository.findNotDeletedById(id)
+                .orElseThrow(() -> new IllegalStateException("Restored transaction " + id + " is not visible"));
+        addToDailyTotals(restored);
+        liveLeaderboard.recordAfterCommit(restored);
+        return new TransactionResult.Success(mapper.mapEntityToTransactionResponseDto(restored));
+    }
+
+    private TransactionResult deleteArchivedTransaction(Long id) {
+        if (transactionRepository.deleteArchivedById(id) == 0) {
+            return new TransactionResult.NotFoundError("Transaction not found with id: " + id);
+        }
+        return new TransactionResult.Success(null);
+    }
+
+    private void addToDailyTotals(Transaction transaction) {
+        applyDailyTotalsDelta(transaction, transaction.getAmount(), 1);
+    }
+
+    private void subtractFromDailyTotals(Transaction transaction) {
+        applyDailyTotalsDelta(transaction, transaction.getAmount().negate(), -1);
+    }
+
+    private void moveDailyTotals(Transaction previousState, Transaction currentState) {
+        subtractFromDailyTotals(previousState);
+        addToDailyTotals(currentState);
+    }
+
+    private void applyDailyTotalsDelta(Transaction transaction, BigDecimal amount, long count) {
+        sellerDailyTotalRepository.applyDelta(
+                transaction.getSeller().getId(),
+                transaction.getTransactionDate().toLocalDate(),
+                transaction.getPaymentType().name(),
+                amount,
+                count
+        );
+        analyticsBucketCache.evictAfterCommit(List.of(transaction.getTransactionDate()));
+    }
+
+    // A cache hit yields an uninitialized reference plus the cached response, so neither the
+    // existence check nor the response mapping touches the database.
+    private Optional<ResolvedSeller> resolveSeller(Long sellerId) {
+        SellerCache.CachedSeller cached = sellerCache.getIfPresent(sellerId);
+        if (cached != null) {
+            return cached.isDeleted()
+                    ? Optional.empty()
+                    : Optional.of(new ResolvedSeller(sellerRepository.getReferenceById(sellerId), cached.copy()));
+        }
+        return sellerRepository.findNotDeletedById(sellerId)
+                .map(seller -> {
+                    sellerCache.put(seller);
+                    return new ResolvedSeller(seller, null);
+                });
+    }
+
+    private TransactionResponseDTO toResponseDto(Transaction transaction, ResolvedSeller seller) {
+        return seller.cachedResponse() != null
+                ? mapper.mapEntityToTransactionResponseDto(transaction, seller.cachedResponse())
+                : mapper.mapEntityToTransactionResponseDto(transaction);
+    }
+
+    private record ResolvedSeller(Seller entity, SellerResponseDTO cachedResponse) {
+    }
+
+    private String validateCreateRequest(TransactionCreateRequestDTO requestDto) {
+        if (requestDto == null) {
+            return "Transaction cannot be null";
+        }
+        Set<ConstraintViolation<TransactionCreateRequestDTO>> violations = validator.validate(requestDto);
+        if (violations.isEmpty()) {
+            return null;
+        }
+        return violations.stream()
+                .map(ConstraintViolation::getMessage)
+                .sorted()
+                .collect(Collectors.joining("; "));
+    }
+
+    private Transaction snapshotOf(Transaction transaction) {
+        Transaction snapshot = new Transaction();
+        snapshot.setSeller(transaction.getSeller());
+        snapshot.setAmount(transaction.getAmount());
+        snapshot.setPaymentType(transaction.getPaymentType());
+        snapshot.setTransactionDate(transaction.getTransactionDate());
+        return snapshot;
+    }
 }
@@ -0,0 +1,137 @@
+package com.simplecrm.Utils;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.simplecrm.Utils.BucketRange.Bucket;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.math.BigDecimal;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Function;
+
+/**
+ * Per-seller totals of closed hour and day buckets. A closed bucket only changes when a
+ * transaction dated inside it is written, so entries never expire; writers evict exactly the
+ * buckets they touch after commit, and once more after the replica lag bound so a reload served
+ * by a lagging replica does not stick. A load that overlaps any eviction is not kept.
+ * Eviction is local to this instance.
+ */
+@Component
+public class AnalyticsBucketCache {
+
+    private final Cache<Bucket, Map<Long, SellerTotal>> cache;
+    private final AtomicLong evictions = new AtomicLong();
+    private final boolean enabled;
+    private final long maxDays;
+    private final Duration replicaLag;
+
+    public AnalyticsBucketCache(ObjectProvider<MeterRegistry> meterRegistry,
+                                @Value("${analytics.bucket-cache.enabled:true}") boolean enabled,
+                                @Value("${analytics.bucket-cache.maximum-weight:1000000}") long maximumWeight,
+                                @Value("${analytics.bucket-cache.max-days:3660}") long maxDays,
+                                @Value("${datasource.replicas.max-lag:5s}") Duration replicaLag) {
+        this.enabled = enabled;
+        this.maxDays = maxDays;
+        this.replicaLag = replicaLag;
+        this.cache = Caffeine.newBuilder()
+                .maximumWeight(maximumWeight)
+                .weigher((Bucket bucket, Map<Long, SellerTotal> totals) -> totals.size() + 1)
+                .recordStats()
+                .build();
+        meterRegistry.ifAvailable(registry -> CaffeineCacheMetrics.monitor(registry, cache, "analytics-buckets"));
+    }
+
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    /** Ranges longer than this are answered straight from the rollup instead of bucket by bucket. */
+    public boolean covers(LocalDateTime start, LocalDateTime end) {
+        return enabled && Duration.between(start, end).toDays() <= maxDays;
+    }
+
+    /**
+     * Sums the given buckets. Closed buckets come from the cache; the rest, along with every
+     * open bucket, are passed to {@code loader} in one call, and only the closed ones are kept.
+     */
+    public Map<Long, SellerTotal> sum(List<Bucket> buckets,
+                                      LocalDateTime now,
+                                      Function<List<Bucket>, Map<Bucket, Map<Long, SellerTotal>>> loader) {
+        Map<Long, SellerTotal> totals = new HashMap<>();
+        List<Bucket> missing = new ArrayList<>();
+        for (Bucket bucket : buckets) {
+            Map<Long, SellerTotal> cached = bucket.isClosedAt(now) ? cache.getIfPresent(bucket) : null;
+            if (cached != null) {
+                addAll(totals, cached);
+            } else {
+                missing.add(bucket);
+            }
+        }
+        if (missing.isEmpty()) {
+            return totals;
+        }
+
+        long evictionsBeforeLoad = evictions.get();
+        Map<Bucket, Map<Long, SellerTotal>> loaded = loader.apply(missing);
+        for (Bucket bucket : missing) {
+            Map<Long, SellerTotal> bucketTotals = Map.copyOf(loaded.getOrDefault(bucket, Map.of()));
+            addAll(totals, bucketTotals);
+            if (bucket.isClosedAt(now)) {
+                cache.put(bucket, bucketTotals);
+                if (evictions.get() != evictionsBeforeLoad) {
+                    cache.asMap().remove(bucket, bucketTotals);
+                }
+            }
+        }
+        return totals;
+    }
+
+    public void evictAfterCommit(Collection<LocalDateTime> transactionDates) {
+        Set<Bucket> buckets = new HashSet<>();
+        for (LocalDateTime date : transactionDates) {
+            if (date != null) {
+                buckets.addAll(BucketRange.containing(date));
+            }
+        }
+        if (buckets.isEmpty()) {
+            return;
+        }
+        Runnable evict = () -> {
+            evictions.incrementAndGet();
+            cache.invalidateAll(buckets);
+        };
+        AfterCommit.run(() -> {
+            evict.run();
+            if (!replicaLag.isZero() && !replicaLag.isNegative()) {
+                CompletableFuture.runAsync(evict,
+                        CompletableFuture.delayedExecutor(replicaLag.toMillis(), TimeUnit.MILLISECONDS));
+            }
+        });
+    }
+
+    public static void addAll(Map<Long, SellerTotal> target, Map<Long, SellerTotal> source) {
+        source.forEach((sellerId, total) -> target.merge(sellerId, total, SellerTotal::plus));
+    }
+
+    public record SellerTotal(BigDecimal amount, long count) {
+
+        public SellerTotal plus(SellerTotal other) {
+            return new SellerTotal(amount.add(other.amount), count + other.count);
+        }
+    }
+}
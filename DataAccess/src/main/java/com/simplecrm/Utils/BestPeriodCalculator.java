@@ -0,0 +1,82 @@
+package com.simplecrm.Utils;
+
+import java.math.BigDecimal;
+import java.time.Duration;
+
+/**
+ * Two-pointer sliding window over timestamps sorted ascending. A window covers every
+ * transaction at most {@code window} after its first one (both ends inclusive);
+ * a {@code null} window spans the whole history.
+ */
+public final class BestPeriodCalculator {
+
+    private BestPeriodCalculator() {
+    }
+
+    public static Result compute(long[] epochMillis, BigDecimal[] amounts, Duration window) {
+        int size = epochMillis.length;
+        if (size == 0) {
+            return Result.EMPTY;
+        }
+
+        long windowMillis = window == null ? Long.MAX_VALUE : window.toMillis();
+
+        int bestCountStart = 0;
+        int bestCountEnd = 0;
+        int bestCount = 0;
+        BigDecimal bestCountAmount = BigDecimal.ZERO;
+
+        int bestAmountStart = 0;
+        int bestAmountEnd = 0;
+        BigDecimal bestAmount = null;
+
+        int left = 0;
+        BigDecimal windowAmount = BigDecimal.ZERO;
+
+        for (int right = 0; right < size; right++) {
+            windowAmount = windowAmount.add(amountAt(amounts, right));
+
+            while (epochMillis[right] - epochMillis[left] > windowMillis) {
+                windowAmount = windowAmount.subtract(amountAt(amounts, left));
+                left++;
+            }
+
+            int count = right - left + 1;
+            if (count > bestCount) {
+                bestCount = count;
+                bestCountStart = left;
+                bestCountEnd = right;
+                bestCountAmount = windowAmount;
+            }
+            if (bestAmount == null || windowAmount.compareTo(bestAmount) > 0) {
+                bestAmount = windowAmount;
+                bestAmountStart = left;
+                bestAmountEnd = right;
+            }
+        }
+
+        return new Result(bestCountStart, bestCountEnd, bestCount, bestCountAmount,
+                bestAmountStart, bestAmountEnd, bestAmountEnd - bestAmountStart + 1, bestAmount);
+    }
+
+    private static BigDecimal amountAt(BigDecimal[] amounts, int index) {
+        BigDecimal amount = amounts[index];
+        return amount != null ? amount : BigDecimal.ZERO;
+    }
+
+    public record Result(int countStartIndex,
+                         int countEndIndex,
+                         int transactionCount,
+                         BigDecimal totalAmount,
+                         int amountStartIndex,
+                         int amountEndIndex,
+                         int amountTransactionCount,
+                         BigDecimal amountTotal) {
+
+        public static final Result EMPTY = new Result(-1, -1, 0, BigDecimal.ZERO, -1, -1, 0, BigDecimal.ZERO);
+
+        public boolean isEmpty() {
+            return transactionCount == 0;
+        }
+    }
+}
@@ -0,0 +1,97 @@
+package com.simplecrm.Utils;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Aligns an inclusive {@code [start, end]} range to immutable buckets: whole hours up to the
+ * first midnight, whole days, whole hours after the last midnight, and the sub-hour raw edges
+ * {@code [start, headEnd)} and {@code [tailStart, end]} that no bucket covers.
+ */
+public record BucketRange(LocalDateTime start,
+                          LocalDateTime end,
+                          LocalDateTime headEnd,
+                          LocalDateTime tailStart,
+                          List<Bucket> hours,
+                          List<Bucket> days) {
+
+    public static BucketRange of(LocalDateTime start, LocalDateTime end) {
+        LocalDateTime firstHour = ceil(start, ChronoUnit.HOURS);
+        LocalDateTime lastHour = end.truncatedTo(ChronoUnit.HOURS);
+
+        if (!firstHour.isBefore(lastHour)) {
+            return new BucketRange(start, end, start, start, List.of(), List.of());
+        }
+
+        LocalDateTime firstDay = ceil(firstHour, ChronoUnit.DAYS);
+        LocalDateTime lastDay = lastHour.truncatedTo(ChronoUnit.DAYS);
+
+        List<Bucket> hours = new ArrayList<>();
+        List<Bucket> days = new ArrayList<>();
+        if (firstDay.isBefore(lastDay)) {
+            addBuckets(hours, firstHour, firstDay, ChronoUnit.HOURS);
+            addBuckets(days, firstDay, lastDay, ChronoUnit.DAYS);
+            addBuckets(hours, lastDay, lastHour, ChronoUnit.HOURS);
+        } else {
+            addBuckets(hours, firstHour, lastHour, ChronoUnit.HOURS);
+        }
+        return new BucketRange(start, end, firstHour, lastHour, List.copyOf(hours), List.copyOf(days));
+    }
+
+    /** Hour and day buckets that hold a transaction made at {@code date}. */
+    public static List<Bucket> containing(LocalDateTime date) {
+        return List.of(new Bucket(date.truncatedTo(ChronoUnit.HOURS), ChronoUnit.HOURS),
+                new Bucket(date.truncatedTo(ChronoUnit.DAYS), ChronoUnit.DAYS));
+    }
+
+    /** Splits buckets of one unit, in ascending order, into runs without gaps. */
+    public static List<List<Bucket>> contiguousRuns(List<Bucket> buckets) {
+        List<List<Bucket>> runs = new ArrayList<>();
+        List<Bucket> run = new ArrayList<>();
+        for (Bucket bucket : buckets) {
+            if (!run.isEmpty() && !run.get(run.size() - 1).end().equals(bucket.start())) {
+                runs.add(run);
+                run = new ArrayList<>();
+            }
+            run.add(bucket);
+        }
+        if (!run.isEmpty()) {
+            runs.add(run);
+        }
+        return runs;
+    }
+
+    public boolean hasHead() {
+        return start.isBefore(headEnd);
+    }
+
+    private static LocalDateTime ceil(LocalDateTime date, ChronoUnit unit) {
+        LocalDateTime floor = date.truncatedTo(unit);
+        return floor.equals(date) ? floor : floor.plus(1, unit);
+    }
+
+    private static void addBuckets(List<Bucket> target, LocalDateTime from, LocalDateTime toExclusive, ChronoUnit unit) {
+        for (LocalDateTime bucket = from; bucket.isBefore(toExclusive); bucket = bucket.plus(1, unit)) {
+            target.add(new Bucket(bucket, unit));
+        }
+    }
+
+    public record Bucket(LocalDateTime start, ChronoUnit unit) {
+
+        public LocalDateTime end() {
+            return start.plus(1, unit);
+        }
+
+        public LocalDate day() {
+            return start.toLocalDate();
+        }
+
+        /** A bucket is closed once it lies entirely in the past; only closed buckets are cacheable. */
+        public boolean isClosedAt(LocalDateTime now) {
+            return !end().isAfter(now);
+        }
+    }
+}
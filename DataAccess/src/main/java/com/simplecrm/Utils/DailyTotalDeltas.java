@@ -0,0 +1,42 @@
+package com.simplecrm.Utils;
+
+import com.simplecrm.Models.Entities.SellerDailyTotalId;
+import com.simplecrm.Models.Enums.PaymentType;
+import com.simplecrm.Repositories.SellerDailyTotalRepository;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.Comparator;
+import java.util.Map;
+import java.util.TreeMap;
+
+/**
+ * Net change to {@code seller_daily_totals} per (seller, day, payment type) for a batch of rows.
+ * Deltas are applied in key order, so concurrent batches lock the rollup rows in the same order
+ * and cannot deadlock each other.
+ */
+public final class DailyTotalDeltas {
+
+    private static final Comparator<SellerDailyTotalId> ORDER = Comparator
+            .comparing(SellerDailyTotalId::getSellerId)
+            .thenComparing(SellerDailyTotalId::getDay)
+            .thenComparing(SellerDailyTotalId::getPaymentType);
+
+    private final Map<SellerDailyTotalId, Delta> deltas = new TreeMap<>(ORDER);
+
+    public void add(Long sellerId, LocalDateTime transactionDate, PaymentType paymentType, BigDecimal amount, long count) {
+        deltas.merge(new SellerDailyTotalId(sellerId, transactionDate.toLocalDate(), paymentType),
+                new Delta(amount, count), Delta::plus);
+    }
+
+    public void applyTo(SellerDailyTotalRepository repository) {
+        deltas.forEach((id, delta) -> repository.applyDelta(
+                id.getSellerId(), id.getDay(), id.getPaymentType().name(), delta.amount(), delta.count()));
+    }
+
+    private record Delta(BigDecimal amount, long count) {
+        Delta plus(Delta other) {
+            return new Delta(amount.add(other.amount), count + other.count);
+        }
+    }
+}
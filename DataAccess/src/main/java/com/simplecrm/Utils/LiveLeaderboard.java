@@ -0,0 +1,270 @@
+package com.simplecrm.Utils;
+
+import com.simplecrm.AnalyticsDTO.LiveWindow;
+import com.simplecrm.Models.Entities.Transaction;
+import it.unimi.dsi.fastutil.longs.Long2ObjectOpenHashMap;
+import it.unimi.dsi.fastutil.longs.LongIterator;
+import it.unimi.dsi.fastutil.longs.LongOpenHashSet;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.EnumMap;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.NavigableMap;
+import java.util.TreeMap;
+import java.util.TreeSet;
+
+/**
+ * Per-seller totals for every {@link LiveWindow}, kept sorted so a top-N read is a walk over the
+ * head of an ordered set. The last applied state of each transaction is remembered by id with
+ * its @Version: the startup bootstrap and after-commit events may arrive in any order, and an
+ * update or delete subtracts exactly what the transaction added before. As the clock moves,
+ * minutes leaving a window are subtracted and minutes entering it are added; transactions
+ * older than every window are forgotten.
+ */
+@Component
+public class LiveLeaderboard {
+
+    private static final Comparator<Rank> RANK_ORDER = Comparator
+            .comparing(Rank::amount).reversed()
+            .thenComparingLong(Rank::sellerId);
+
+    private final boolean enabled;
+    private final Long2ObjectOpenHashMap<Contribution> contributions = new Long2ObjectOpenHashMap<>();
+    private final TreeMap<LocalDateTime, LongOpenHashSet> byMinute = new TreeMap<>();
+    private final Map<LiveWindow, WindowRanking> windows = new EnumMap<>(LiveWindow.class);
+
+    public LiveLeaderboard(@Value("${analytics.live-leaderboard.enabled:true}") boolean enabled) {
+        this.enabled = enabled;
+        for (LiveWindow window : LiveWindow.values()) {
+            windows.put(window, new WindowRanking(window));
+        }
+    }
+
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    /** Earliest transaction date any window can still include. */
+    public LocalDateTime horizon(LocalDateTime now) {
+        LocalDateTime horizon = null;
+        for (LiveWindow window : LiveWindow.values()) {
+            LocalDateTime start = window.start(now);
+            if (horizon == null || start.isBefore(horizon)) {
+                horizon = start;
+            }
+        }
+        return horizon;
+    }
+
+    public synchronized List<Rank> top(LiveWindow window, int limit, LocalDateTime now) {
+        if (!enabled || limit <= 0) {
+            return List.of();
+        }
+        advance(now);
+        List<Rank> result = new ArrayList<>(limit);
+        Iterator<Rank> ranks = windows.get(window).ranking.iterator();
+        while (ranks.hasNext() && result.size() < limit) {
+            result.add(ranks.next());
+        }
+        return result;
+    }
+
+    public synchronized void upsert(long transactionId, long version, long sellerId, BigDecimal amount,
+                                    LocalDateTime transactionDate, LocalDateTime now) {
+        if (enabled) {
+            advance(now);
+            apply(transactionId, new Contribution(version, sellerId, amount, transactionDate.truncatedTo(ChronoUnit.MINUTES)), now);
+        }
+    }
+
+    public synchronized void remove(long transactionId, long version, LocalDateTime now) {
+        if (enabled) {
+            advance(now);
+            apply(transactionId, new Contribution(version, 0L, null, now.truncatedTo(ChronoUnit.MINUTES)), now);
+        }
+    }
+
+    public void recordAfterCommit(Transaction transaction) {
+        recordAllAfterCommit(List.of(transaction));
+    }
+
+    public void recordAllAfterCommit(List<Transaction> transactions) {
+        if (enabled && !transactions.isEmpty()) {
+            AfterCommit.run(() -> {
+                LocalDateTime now = LocalDateTime.now();
+                for (Transaction transaction : transactions) {
+                    record(transaction, now);
+                }
+            });
+        }
+    }
+
+    public void removeAfterCommit(Long transactionId) {
+        if (transactionId != null) {
+            removeAllAfterCommit(List.of(transactionId));
+        }
+    }
+
+    public void removeAllAfterCommit(List<Long> transactionIds) {
+        if (enabled && !transactionIds.isEmpty()) {
+            AfterCommit.run(() -> {
+                LocalDateTime now = LocalDateTime.now();
+                for (Long transactionId : transactionIds) {
+                    remove(transactionId, Long.MAX_VALUE, now);
+                }
+            });
+        }
+    }
+
+    private void record(Transaction transaction, LocalDateTime now) {
+        long version = transaction.getVersion() != null ? transaction.getVersion() : 0L;
+        if (Boolean.TRUE.equals(transaction.getDeleted())) {
+            remove(transaction.getId(), version, now);
+        } else {
+            upsert(transaction.getId(), version, transaction.getSeller().getId(), transaction.getAmount(),
+                    transaction.getTransactionDate(), now);
+        }
+    }
+
+    private void apply(long transactionId, Contribution next, LocalDateTime now) {
+        Contribution current = contributions.get(transactionId);
+        if (current != null) {
+            if (current.version() >= next.version()) {
+                return;
+            }
+            unindex(transactionId, current.minute());
+            addToWindows(current, -1);
+        }
+        if (next.minute().isBefore(horizon(now))) {
+            contributions.remove(transactionId);
+            return;
+        }
+        contributions.put(transactionId, next);
+        byMinute.computeIfAbsent(next.minute(), minute -> new LongOpenHashSet()).add(transactionId);
+        addToWindows(next, 1);
+    }
+
+    private void addToWindows(Contribution contribution, int sign) {
+        if (!contribution.isLive()) {
+            return;
+        }
+        for (WindowRanking window : windows.values()) {
+            if (window.contains(contribution.minute())) {
+                window.add(contribution, sign);
+            }
+        }
+    }
+
+    private void advance(LocalDateTime now) {
+        for (WindowRanking window : windows.values()) {
+            window.advance(now);
+        }
+        NavigableMap<LocalDateTime, LongOpenHashSet> expired = byMinute.headMap(horizon(now), false);
+        for (LongOpenHashSet ids : expired.values()) {
+            LongIterator iterator = ids.iterator();
+            while (iterator.hasNext()) {
+                contributions.remove(iterator.nextLong());
+            }
+        }
+        expired.clear();
+    }
+
+    private void unindex(long transactionId, LocalDateTime minute) {
+        LongOpenHashSet ids = byMinute.get(minute);
+        if (ids != null && ids.remove(transactionId) && ids.isEmpty()) {
+            byMinute.remove(minute);
+        }
+    }
+
+    public record Rank(long sellerId, BigDecimal amount, long count) {
+    }
+
+    /** A transaction's applied state; a {@code null} amount marks a deleted transaction. */
+    private record Contribution(long version, long sellerId, BigDecimal amount, LocalDateTime minute) {
+
+        boolean isLive() {
+            return amount != null;
+        }
+    }
+
+    private final class WindowRanking {
+
+        private final LiveWindow window;
+        private final Long2ObjectOpenHashMap<Rank> totals = new Long2ObjectOpenHashMap<>();
+        private final TreeSet<Rank> ranking = new TreeSet<>(RANK_ORDER);
+        private LocalDateTime start = LocalDateTime.MIN;
+        private LocalDateTime end = LocalDateTime.MIN;
+
+        private WindowRanking(LiveWindow window) {
+            this.window = window;
+        }
+
+        boolean contains(LocalDateTime minute) {
+            return !minute.isBefore(start) && minute.isBefore(end);
+        }
+
+        void advance(LocalDateTime now) {
+            LocalDateTime nextStart = window.start(now);
+            LocalDateTime nextEnd = window.end(now);
+            if (nextStart.equals(start) && nextEnd.equals(end)) {
+                return;
+            }
+            // Subtract what only the old window covered, then add what only the new one covers.
+            addMinutes(start, min(end, nextStart), -1);
+            addMinutes(max(start, nextEnd), end, -1);
+            addMinutes(nextStart, min(nextEnd, start), 1);
+            addMinutes(max(nextStart, end), nextEnd, 1);
+            start = nextStart;
+            end = nextEnd;
+        }
+
+        void add(Contribution contribution, int sign) {
+            long sellerId = contribution.sellerId();
+            Rank current = totals.get(sellerId);
+            BigDecimal delta = sign > 0 ? contribution.amount() : contribution.amount().negate();
+            Rank next = current == null
+                    ? new Rank(sellerId, delta, sign)
+                    : new Rank(sellerId, current.amount().add(delta), current.count() + sign);
+            if (current != null) {
+                ranking.remove(current);
+            }
+            if (next.count() > 0) {
+                totals.put(sellerId, next);
+                ranking.add(next);
+            } else {
+                totals.remove(sellerId);
+            }
+        }
+
+        private void addMinutes(LocalDateTime from, LocalDateTime toExclusive, int sign) {
+            if (!from.isBefore(toExclusive)) {
+                return;
+            }
+            for (LongOpenHashSet ids : byMinute.subMap(from, true, toExclusive, false).values()) {
+                LongIterator iterator = ids.iterator();
+                while (iterator.hasNext()) {
+                    Contribution contribution = contributions.get(iterator.nextLong());
+                    if (contribution != null && contribution.isLive()) {
+                        add(contribution, sign);
+                    }
+                }
+            }
+        }
+
+        private static LocalDateTime min(LocalDateTime a, LocalDateTime b) {
+            return a.isBefore(b) ? a : b;
+        }
+
+        private static LocalDateTime max(LocalDateTime a, LocalDateTime b) {
+            return a.isAfter(b) ? a : b;
+        }
+    }
+}
@@ -1,22 +1,35 @@
 package com.simplecrm.Utils;
 
+import com.simplecrm.AnalyticsDTO.SellerRankDTO;
 import com.simplecrm.Models.Entities.Seller;
 import com.simplecrm.Models.Entities.Transaction;
+import com.simplecrm.Projections.SellerRankView;
 import com.simplecrm.ResponseDTO.SellerResponseDTO;
 import com.simplecrm.ResponseDTO.TransactionResponseDTO;
+import it.unimi.dsi.fastutil.longs.Long2ObjectOpenHashMap;
 import org.springframework.stereotype.Component;
 
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+
 @Component
 public class Mapper {
     public TransactionResponseDTO mapEntityToTransactionResponseDto(Transaction transaction) {
+        if (transaction == null) {
+            return null;
+        }
+        return mapEntityToTransactionResponseDto(transaction,
+                mapSellerEntityToResponseDto(transaction.getSeller(), true));
+    }
+
+    public TransactionResponseDTO mapEntityToTransactionResponseDto(Transaction transaction, SellerResponseDTO seller) {
         if (transaction == null) {
             return null;
         }
         TransactionResponseDTO dto = new TransactionResponseDTO();
         dto.setId(transaction.getId());
-        if (transaction.getSeller() != null) {
-            dto.setSeller(mapSellerEntityToResponseDto(transaction.getSeller()));
-        }
+        dto.setSeller(seller);
         dto.setAmount(transaction.getAmount());
         dto.setPaymentType(transaction.getPaymentType());
         dto.setTransactionDate(transaction.getTransactionDate());
@@ -24,7 +37,38 @@ public class Mapper {
         return dto;
     }
 
-    public SellerResponseDTO mapSellerEntityToResponseDto(Seller seller) {
+    /**
+     * Maps a batch of transactions, building one seller DTO per seller id and sharing it between
+     * that seller's rows. The shared seller DTOs must be treated as read-only by the caller.
+     */
+    public List<TransactionResponseDTO> mapEntitiesToTransactionResponseDtos(Collection<Transaction> transactions) {
+        List<TransactionResponseDTO> result = new ArrayList<>(transactions.size());
+        Long2ObjectOpenHashMap<SellerResponseDTO> sellers = new Long2ObjectOpenHashMap<>();
+        for (Transaction transaction : transactions) {
+            if (transaction == null) {
+                continue;
+            }
+            Seller seller = transaction.getSeller();
+            SellerResponseDTO sellerDto;
+            if (seller == null || seller.getId() == null) {
+                sellerDto = mapSellerEntityToResponseDto(seller, true);
+            } else {
+                sellerDto = sellers.get(seller.getId().longValue());
+                if (sellerDto == null) {
+                    sellerDto = mapSellerEntityToResponseDto(seller, true);
+                    sellers.put(seller.getId().longValue(), sellerDto);
+                }
+            }
+            result.add(mapEntityToTransactionResponseDto(transaction, sellerDto));
+        }
+        return result;
+    }
+
+    /**
+     * Seller responses omit the version unless the caller needs it for optimistic locking
+     * (transaction responses and the seller cache do; seller endpoints do not).
+     */
+    public SellerResponseDTO mapSellerEntityToResponseDto(Seller seller, boolean includeVersion) {
         if (seller == null) {
             return null;
         }
@@ -33,19 +77,22 @@ public class Mapper {
         dto.setName(seller.getName());
         dto.setContactInfo(seller.getContactInfo());
         dto.setRegistrationDate(seller.getRegistrationDate());
-        dto.setVersion(seller.getVersion());
+        if (includeVersion) {
+            dto.setVersion(seller.getVersion());
+        }
         return dto;
     }
 
-    public SellerResponseDTO mapEntityToSellerResponseDto(Seller seller) {
-        if (seller == null) {
+    public SellerRankDTO mapSellerRankViewToDto(SellerRankView view) {
+        if (view == null) {
             return null;
         }
-        SellerResponseDTO dto = new SellerResponseDTO();
-        dto.setId(seller.getId());
-        dto.setName(seller.getName());
-        dto.setContactInfo(seller.getContactInfo());
-        dto.setRegistrationDate(seller.getRegistrationDate());
-        return dto;
+        SellerResponseDTO seller = new SellerResponseDTO();
+        seller.setId(view.getId());
+        seller.setName(view.getName());
+        seller.setContactInfo(view.getContactInfo());
+        seller.setRegistrationDate(view.getRegistrationDate());
+        return new SellerRankDTO(seller, view.getTotalAmount(),
+                view.getTransactionCount() != null ? view.getTransactionCount() : 0L);
     }
 }
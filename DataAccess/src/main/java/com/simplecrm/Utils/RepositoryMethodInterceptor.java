@@ -0,0 +1,42 @@
+package com.simplecrm.Utils;
+
+import org.aopalliance.intercept.MethodInterceptor;
+import org.aopalliance.intercept.MethodInvocation;
+
+/**
+ * Added to every Spring Data repository proxy so SQL metrics can attribute a statement to
+ * the repository method that issued it. Statements run outside any repository call (lazy
+ * association loads, flushes at commit, rows pulled from a returned Stream) are
+ * {@value #UNATTRIBUTED}.
+ */
+public class RepositoryMethodInterceptor implements MethodInterceptor {
+
+    public static final String UNATTRIBUTED = "unattributed";
+
+    private static final ThreadLocal<String> CURRENT = new ThreadLocal<>();
+
+    private final String repository;
+
+    public RepositoryMethodInterceptor(Class<?> repositoryInterface) {
+        this.repository = repositoryInterface.getSimpleName();
+    }
+
+    public static String current() {
+        String method = CURRENT.get();
+        return method == null ? UNATTRIBUTED : method;
+    }
+
+    @Override
+    public Object invoke(MethodInvocation invocation) throws Throwable {
+        // A default method calling another repository method keeps the outer name.
+        if (CURRENT.get() != null) {
+            return invocation.proceed();
+        }
+        CURRENT.set(repository + "." + invocation.getMethod().getName());
+        try {
+            return invocation.proceed();
+        } finally {
+            CURRENT.remove();
+        }
+    }
+}
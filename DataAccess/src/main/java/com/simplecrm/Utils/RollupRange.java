@@ -0,0 +1,37 @@
+package com.simplecrm.Utils;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+
+/**
+ * Splits an inclusive {@code [start, end]} range into whole days served from
+ * {@code seller_daily_totals} ({@code [firstFullDay, lastFullDayExclusive)}) and the raw
+ * transaction edges {@code [start, headEnd)} and {@code [tailStart, end]}.
+ */
+public record RollupRange(LocalDateTime start,
+                          LocalDateTime end,
+                          LocalDateTime headEnd,
+                          LocalDateTime tailStart,
+                          LocalDate firstFullDay,
+                          LocalDate lastFullDayExclusive) {
+
+    public static RollupRange of(LocalDateTime start, LocalDateTime end) {
+        LocalDate firstFullDay = start.toLocalTime().equals(LocalTime.MIDNIGHT)
+                ? start.toLocalDate()
+                : start.toLocalDate().plusDays(1);
+        LocalDate lastFullDayExclusive = end.toLocalDate();
+
+        if (!firstFullDay.isBefore(lastFullDayExclusive)) {
+            return new RollupRange(start, end, start, start, firstFullDay, firstFullDay);
+        }
+
+        return new RollupRange(start, end,
+                firstFullDay.atStartOfDay(), lastFullDayExclusive.atStartOfDay(),
+                firstFullDay, lastFullDayExclusive);
+    }
+
+    public boolean hasFullDays() {
+        return firstFullDay.isBefore(lastFullDayExclusive);
+    }
+}
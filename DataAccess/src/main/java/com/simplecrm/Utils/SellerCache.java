@@ -0,0 +1,85 @@
+package com.simplecrm.Utils;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.simplecrm.Models.Entities.Seller;
+import com.simplecrm.ResponseDTO.SellerResponseDTO;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+
+/**
+ * Id-keyed snapshots of live sellers, plus tombstones for deleted ones. Every entry carries the
+ * seller's @Version and an entry is only ever replaced by a higher version, so a reader that
+ * loaded a row just before a concurrent update cannot put the older state back. Writers publish
+ * after their transaction commits.
+ */
+@Component
+public class SellerCache {
+
+    private final Cache<Long, CachedSeller> cache;
+    private final Mapper mapper;
+
+    public SellerCache(Mapper mapper,
+                       ObjectProvider<MeterRegistry> meterRegistry,
+                       @Value("${seller-cache.maximum-size:10000}") long maximumSize,
+                       @Value("${seller-cache.ttl:PT10M}") Duration ttl) {
+        this.mapper = mapper;
+        this.cache = Caffeine.newBuilder()
+                .maximumSize(maximumSize)
+                .expireAfterWrite(ttl)
+                .recordStats()
+                .build();
+        meterRegistry.ifAvailable(registry -> CaffeineCacheMetrics.monitor(registry, cache, "sellers"));
+    }
+
+    public CachedSeller getIfPresent(Long id) {
+        return id != null ? cache.getIfPresent(id) : null;
+    }
+
+    public void put(Seller seller) {
+        SellerResponseDTO snapshot = mapper.mapSellerEntityToResponseDto(seller, true);
+        if (snapshot == null || snapshot.getId() == null || snapshot.getVersion() == null) {
+            return;
+        }
+        store(snapshot.getId(), new CachedSeller(snapshot.getVersion(), snapshot));
+    }
+
+    public void putAfterCommit(Seller seller) {
+        AfterCommit.run(() -> put(seller));
+    }
+
+    public void markDeletedAfterCommit(Seller seller) {
+        AfterCommit.run(() -> store(seller.getId(), new CachedSeller(seller.getVersion(), null)));
+    }
+
+    public void markRemovedAfterCommit(Long id) {
+        AfterCommit.run(() -> store(id, new CachedSeller(Long.MAX_VALUE, null)));
+    }
+
+    private void store(Long id, CachedSeller candidate) {
+        cache.asMap().merge(id, candidate,
+                (current, next) -> next.version() > current.version() ? next : current);
+    }
+
+    public record CachedSeller(long version, SellerResponseDTO seller) {
+
+        public boolean isDeleted() {
+            return seller == null;
+        }
+
+        public SellerResponseDTO copy() {
+            SellerResponseDTO dto = new SellerResponseDTO();
+            dto.setId(seller.getId());
+            dto.setName(seller.getName());
+            dto.setContactInfo(seller.getContactInfo());
+            dto.setRegistrationDate(seller.getRegistrationDate());
+            dto.setVersion(seller.getVersion());
+            return dto;
+        }
+    }
+}
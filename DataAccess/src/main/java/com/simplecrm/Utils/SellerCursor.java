@@ -0,0 +1,59 @@
+package com.simplecrm.Utils;
+
+import com.simplecrm.Exceptions.SellerValidationException;
+import com.simplecrm.Models.Entities.Seller;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeParseException;
+import java.util.Base64;
+
+/**
+ * Opaque keyset position after the last returned seller: the sort it was issued for, the value
+ * of the sort attribute and the id. A cursor is only valid with the sort it was issued for.
+ */
+public record SellerCursor(SellerSort sort, String key, Long id) {
+
+    private static final char SEPARATOR = '|';
+
+    public static SellerCursor after(SellerSort sort, Seller seller) {
+        String key = switch (sort.attribute()) {
+            case "name" -> seller.getName();
+            case "registrationDate" -> seller.getRegistrationDate().toString();
+            default -> "";
+        };
+        return new SellerCursor(sort, key, seller.getId());
+    }
+
+    public LocalDateTime registrationDate() {
+        return LocalDateTime.parse(key);
+    }
+
+    public String encode() {
+        String raw = sort.param() + SEPARATOR + key + SEPARATOR + id;
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+
+    // Names may contain the separator, so the key is everything between the first and the last one.
+    public static SellerCursor decode(String token) {
+        try {
+            String raw = new String(Base64.getUrlDecoder().decode(token), StandardCharsets.UTF_8);
+            int first = raw.indexOf(SEPARATOR);
+            int last = raw.lastIndexOf(SEPARATOR);
+            if (first <= 0 || first == last) {
+                throw new SellerValidationException("Malformed cursor: " + token);
+            }
+            SellerCursor cursor = new SellerCursor(
+                    SellerSort.parse(raw.substring(0, first)),
+                    raw.substring(first + 1, last),
+                    Long.parseLong(raw.substring(last + 1))
+            );
+            if ("registrationDate".equals(cursor.sort().attribute())) {
+                cursor.registrationDate();
+            }
+            return cursor;
+        } catch (IllegalArgumentException | DateTimeParseException e) {
+            throw new SellerValidationException("Malformed cursor: " + token, e);
+        }
+    }
+}
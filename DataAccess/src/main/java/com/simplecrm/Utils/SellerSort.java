@@ -0,0 +1,55 @@
+package com.simplecrm.Utils;
+
+import com.simplecrm.Exceptions.SellerValidationException;
+import org.springframework.data.domain.Sort;
+
+/**
+ * Orders of the seller listing, as passed in the {@code sort} parameter ({@code -} = descending).
+ * Ties are broken by {@code id} in the same direction, so every order is a valid keyset.
+ */
+public enum SellerSort {
+    NAME("name", "name", false),
+    NAME_DESC("-name", "name", true),
+    REGISTRATION_DATE("registrationDate", "registrationDate", false),
+    REGISTRATION_DATE_DESC("-registrationDate", "registrationDate", true),
+    ID("id", "id", false),
+    ID_DESC("-id", "id", true);
+
+    private final String param;
+    private final String attribute;
+    private final boolean descending;
+
+    SellerSort(String param, String attribute, boolean descending) {
+        this.param = param;
+        this.attribute = attribute;
+        this.descending = descending;
+    }
+
+    public String param() {
+        return param;
+    }
+
+    public String attribute() {
+        return attribute;
+    }
+
+    public boolean descending() {
+        return descending;
+    }
+
+    public Sort toSort() {
+        Sort.Direction direction = descending ? Sort.Direction.DESC : Sort.Direction.ASC;
+        return "id".equals(attribute)
+                ? Sort.by(direction, "id")
+                : Sort.by(direction, attribute, "id");
+    }
+
+    public static SellerSort parse(String param) {
+        for (SellerSort sort : values()) {
+            if (sort.param.equals(param)) {
+                return sort;
+            }
+        }
+        throw new SellerValidationException("Unsupported sort: " + param);
+    }
+}
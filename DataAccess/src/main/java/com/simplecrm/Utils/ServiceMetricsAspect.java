@@ -0,0 +1,92 @@
+package com.simplecrm.Utils;
+
+import com.simplecrm.ResultTypes.SellerResult;
+import com.simplecrm.ResultTypes.TransactionResult;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.aspectj.lang.ProceedingJoinPoint;
+import org.aspectj.lang.annotation.Around;
+import org.aspectj.lang.annotation.Aspect;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.stereotype.Component;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ExecutionException;
+
+/**
+ * Times every SellerService, TransactionService and AnalyticsService call as
+ * {@code service.calls}, tagged with the service, the method and an outcome: the
+ * SellerResult / TransactionResult variant, {@code Success} for any other value, or
+ * {@code Error} with the exception class when the call or its future fails.
+ * Calls made through the @Async proxy are timed on the worker thread, so executor queueing
+ * is not included; the {@code executor.*} gauges cover that.
+ */
+@Aspect
+@Component
+public class ServiceMetricsAspect {
+
+    public static final String METRIC = "service.calls";
+
+    private final ObjectProvider<MeterRegistry> meterRegistry;
+
+    public ServiceMetricsAspect(ObjectProvider<MeterRegistry> meterRegistry) {
+        this.meterRegistry = meterRegistry;
+    }
+
+    @Around("execution(public * com.simplecrm.Services.Interfaces.*Service.*(..))")
+    public Object time(ProceedingJoinPoint joinPoint) throws Throwable {
+        MeterRegistry registry = meterRegistry.getIfAvailable();
+        if (registry == null) {
+            return joinPoint.proceed();
+        }
+        String service = serviceName(joinPoint.getSignature().getDeclaringType());
+        String method = joinPoint.getSignature().getName();
+        Timer.Sample sample = Timer.start(registry);
+        Object value;
+        try {
+            value = joinPoint.proceed();
+        } catch (Throwable e) {
+            stop(registry, sample, service, method, "Error", e);
+            throw e;
+        }
+        if (value instanceof CompletableFuture<?> future) {
+            return future.whenComplete((result, error) -> stop(registry, sample, service, method,
+                    error == null ? outcome(result) : "Error", error));
+        }
+        stop(registry, sample, service, method, outcome(value), null);
+        return value;
+    }
+
+    // Class-based proxies report the implementation; tag by the interface name either way.
+    static String serviceName(Class<?> type) {
+        String name = type.getSimpleName();
+        return name.endsWith("Impl") ? name.substring(0, name.length() - "Impl".length()) : name;
+    }
+
+    static String outcome(Object value) {
+        if (value instanceof SellerResult || value instanceof TransactionResult) {
+            return value.getClass().getSimpleName();
+        }
+        return "Success";
+    }
+
+    private static void stop(MeterRegistry registry, Timer.Sample sample, String service, String method,
+                             String outcome, Throwable error) {
+        sample.stop(Timer.builder(METRIC)
+                .description("Service layer calls")
+                .tag("service", service)
+                .tag("method", method)
+                .tag("outcome", outcome)
+                .tag("exception", error == null ? "none" : unwrap(error).getClass().getSimpleName())
+                .register(registry));
+    }
+
+    private static Throwable unwrap(Throwable error) {
+        Throwable cause = error;
+        while ((cause instanceof CompletionException || cause instanceof ExecutionException) && cause.getCause() != null) {
+            cause = cause.getCause();
+        }
+        return cause;
+    }
+}
@@ -0,0 +1,108 @@
+package com.simplecrm.Utils;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.extern.slf4j.Slf4j;
+import net.ttddyy.dsproxy.ExecutionInfo;
+import net.ttddyy.dsproxy.QueryInfo;
+import net.ttddyy.dsproxy.QueryType;
+import net.ttddyy.dsproxy.listener.MethodExecutionContext;
+import net.ttddyy.dsproxy.listener.MethodExecutionListener;
+import net.ttddyy.dsproxy.listener.QueryExecutionListener;
+import net.ttddyy.dsproxy.listener.QueryUtils;
+import net.ttddyy.dsproxy.listener.logging.DefaultQueryLogEntryCreator;
+import org.springframework.beans.factory.ObjectProvider;
+
+import java.sql.ResultSet;
+import java.time.Duration;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * datasource-proxy listener behind the application's {@code DataSource}. Per statement it
+ * records {@code sql.queries} (timer tagged with the repository method and statement type),
+ * counts it into the open {@link SqlStatementScope}, and logs it with its bind parameters
+ * when it runs longer than the slow-query threshold. Rows read from result sets are counted
+ * in {@code sql.rows}, tagged like the timer.
+ */
+@Slf4j
+public class SqlMetricsListener implements QueryExecutionListener, MethodExecutionListener {
+
+    public static final String QUERIES = "sql.queries";
+    public static final String ROWS = "sql.rows";
+
+    private final ObjectProvider<MeterRegistry> meterRegistry;
+    private final long slowQueryMillis;
+    private final DefaultQueryLogEntryCreator logEntryCreator = new DefaultQueryLogEntryCreator();
+    private final Map<String, Counter> rowCounters = new ConcurrentHashMap<>();
+
+    public SqlMetricsListener(ObjectProvider<MeterRegistry> meterRegistry, Duration slowQueryThreshold) {
+        this.meterRegistry = meterRegistry;
+        this.slowQueryMillis = slowQueryThreshold.toMillis();
+    }
+
+    @Override
+    public void beforeQuery(ExecutionInfo execInfo, List<QueryInfo> queryInfoList) {
+    }
+
+    @Override
+    public void afterQuery(ExecutionInfo execInfo, List<QueryInfo> queryInfoList) {
+        String source = RepositoryMethodInterceptor.current();
+        SqlStatementScope.statementExecuted(source);
+
+        MeterRegistry registry = meterRegistry.getIfAvailable();
+        if (registry != null) {
+            Timer.builder(QUERIES)
+                    .description("JDBC statement executions")
+                    .tag("repository", source)
+                    .tag("type", type(queryInfoList))
+                    .tag("success", String.valueOf(execInfo.isSuccess()))
+                    .register(registry)
+                    .record(execInfo.getElapsedTime(), TimeUnit.MILLISECONDS);
+        }
+        if (execInfo.getElapsedTime() >= slowQueryMillis) {
+            log.warn("Slow SQL from {}: {}", source,
+                    logEntryCreator.getLogEntry(execInfo, queryInfoList, false, false, false));
+        }
+    }
+
+    @Override
+    public void beforeMethod(MethodExecutionContext executionContext) {
+    }
+
+    @Override
+    public void afterMethod(MethodExecutionContext executionContext) {
+        if (executionContext.getTarget() instanceof ResultSet
+                && Boolean.TRUE.equals(executionContext.getResult())
+                && "next".equals(executionContext.getMethod().getName())) {
+            Counter rows = rowCounter(RepositoryMethodInterceptor.current());
+            if (rows != null) {
+                rows.increment();
+            }
+        }
+    }
+
+    private Counter rowCounter(String source) {
+        Counter counter = rowCounters.get(source);
+        if (counter != null) {
+            return counter;
+        }
+        MeterRegistry registry = meterRegistry.getIfAvailable();
+        if (registry == null) {
+            return null;
+        }
+        return rowCounters.computeIfAbsent(source, key -> Counter.builder(ROWS)
+                .description("Rows read from JDBC result sets")
+                .tag("repository", key)
+                .register(registry));
+    }
+
+    private static String type(List<QueryInfo> queryInfoList) {
+        QueryType type = queryInfoList.isEmpty() ? QueryType.OTHER : QueryUtils.getQueryType(queryInfoList.get(0).getQuery());
+        return type.name().toLowerCase(Locale.ROOT);
+    }
+}
@@ -0,0 +1,67 @@
+package com.simplecrm.Utils;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.aspectj.lang.ProceedingJoinPoint;
+import org.aspectj.lang.annotation.Around;
+import org.aspectj.lang.annotation.Aspect;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.stereotype.Component;
+
+/**
+ * Opens a {@link SqlStatementScope} around every service call and warns when the call
+ * executes more than {@code sql-metrics.max-statements-per-call} statements, listing them by
+ * repository method. A large {@code unattributed} share usually means lazy loads, e.g.
+ * {@code Transaction.seller} touched after a query without JOIN FETCH.
+ * Ordered outside the transaction interceptor so the flush at commit is counted.
+ */
+@Slf4j
+@Aspect
+@Component
+@Order(Ordered.HIGHEST_PRECEDENCE)
+public class SqlStatementBudgetAspect {
+
+    public static final String METRIC = "sql.statements.exceeded";
+
+    private final ObjectProvider<MeterRegistry> meterRegistry;
+    private final int maxStatements;
+
+    public SqlStatementBudgetAspect(ObjectProvider<MeterRegistry> meterRegistry,
+                                    @Value("${sql-metrics.max-statements-per-call:20}") int maxStatements) {
+        this.meterRegistry = meterRegistry;
+        this.maxStatements = maxStatements;
+    }
+
+    @Around("execution(public * com.simplecrm.Services.Interfaces.*Service.*(..))")
+    public Object count(ProceedingJoinPoint joinPoint) throws Throwable {
+        try (SqlStatementScope scope = SqlStatementScope.open()) {
+            try {
+                return joinPoint.proceed();
+            } finally {
+                if (scope.statementCount() > maxStatements) {
+                    exceeded(joinPoint, scope);
+                }
+            }
+        }
+    }
+
+    private void exceeded(ProceedingJoinPoint joinPoint, SqlStatementScope scope) {
+        String service = ServiceMetricsAspect.serviceName(joinPoint.getSignature().getDeclaringType());
+        String method = joinPoint.getSignature().getName();
+        log.warn("{}.{} executed {} SQL statements (limit {}): {}",
+                service, method, scope.statementCount(), maxStatements, scope.summary());
+        MeterRegistry registry = meterRegistry.getIfAvailable();
+        if (registry != null) {
+            Counter.builder(METRIC)
+                    .description("Service calls that executed more SQL statements than allowed")
+                    .tag("service", service)
+                    .tag("method", method)
+                    .register(registry)
+                    .increment();
+        }
+    }
+}
@@ -0,0 +1,68 @@
+package com.simplecrm.Utils;
+
+import it.unimi.dsi.fastutil.objects.Object2IntMap;
+import it.unimi.dsi.fastutil.objects.Object2IntOpenHashMap;
+
+import java.util.Comparator;
+import java.util.stream.Collectors;
+
+/**
+ * Counts the JDBC statements executed on the current thread while the scope is open, grouped
+ * by {@link RepositoryMethodInterceptor#current()}. Scopes nest: closing an inner scope adds
+ * its statements to the outer one.
+ */
+public final class SqlStatementScope implements AutoCloseable {
+
+    private static final ThreadLocal<SqlStatementScope> CURRENT = new ThreadLocal<>();
+
+    private final SqlStatementScope parent;
+    private final Object2IntOpenHashMap<String> statements = new Object2IntOpenHashMap<>();
+    private int count;
+
+    private SqlStatementScope(SqlStatementScope parent) {
+        this.parent = parent;
+    }
+
+    public static SqlStatementScope open() {
+        SqlStatementScope scope = new SqlStatementScope(CURRENT.get());
+        CURRENT.set(scope);
+        return scope;
+    }
+
+    static void statementExecuted(String source) {
+        SqlStatementScope scope = CURRENT.get();
+        if (scope != null) {
+            scope.statements.addTo(source, 1);
+            scope.count++;
+        }
+    }
+
+    public int statementCount() {
+        return count;
+    }
+
+    public int statementCount(String source) {
+        return statements.getInt(source);
+    }
+
+    /** Statement counts by source, most frequent first, e.g. {@code unattributed=50, TransactionRepository.findAll=1}. */
+    public String summary() {
+        return statements.object2IntEntrySet().stream()
+                .sorted(Comparator.comparingInt(Object2IntMap.Entry<String>::getIntValue).reversed())
+                .map(entry -> entry.getKey() + "=" + entry.getIntValue())
+                .collect(Collectors.joining(", "));
+    }
+
+    @Override
+    public void close() {
+        if (parent == null) {
+            CURRENT.remove();
+            return;
+        }
+        CURRENT.set(parent);
+        for (Object2IntMap.Entry<String> entry : statements.object2IntEntrySet()) {
+            parent.statements.addTo(entry.getKey(), entry.getIntValue());
+        }
+        parent.count += count;
+    }
+}
@@ -0,0 +1,158 @@
+package com.simplecrm.Utils;
+
+import com.simplecrm.Models.Enums.PaymentType;
+import com.simplecrm.Projections.AgedTransactionView;
+import com.simplecrm.Repositories.SellerDailyTotalRepository;
+import com.simplecrm.Repositories.TransactionRepository;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.function.IntSupplier;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Moves cold rows out of {@code transactions} into the {@code transactions_archive} table (V8
+ * migration) every {@code interval}: soft-deleted rows always, and with a non-zero
+ * {@code retention} also active rows older than that. Each batch of {@code batch-size} rows is
+ * moved in its own short transaction, with {@code batch-delay} between batches so the archiver
+ * never holds locks or saturates I/O for long. Archived rows come back through the restore API.
+ * <p>
+ * Archived rows are not counted anywhere in analytics. Soft-deleted rows already left the daily
+ * rollups when they were deleted; aged rows are subtracted from them in the batch that moves
+ * them, and the analytics buckets and live rankings that counted them are dropped on commit.
+ */
+@Slf4j
+@Component
+public class TransactionArchiver implements AutoCloseable {
+
+    public static final String METRIC = "transactions.archived";
+
+    private final TransactionRepository transactionRepository;
+    private final SellerDailyTotalRepository sellerDailyTotalRepository;
+    private final AnalyticsBucketCache analyticsBucketCache;
+    private final LiveLeaderboard liveLeaderboard;
+    private final TransactionTemplate transactionTemplate;
+    private final ObjectProvider<MeterRegistry> meterRegistry;
+    private final boolean enabled;
+    private final int batchSize;
+    private final Duration batchDelay;
+    private final Duration retention;
+    private final Duration interval;
+    private ScheduledExecutorService scheduler;
+
+    public TransactionArchiver(TransactionRepository transactionRepository,
+                               SellerDailyTotalRepository sellerDailyTotalRepository,
+                               AnalyticsBucketCache analyticsBucketCache,
+                               LiveLeaderboard liveLeaderboard,
+                               TransactionTemplate transactionTemplate,
+                               ObjectProvider<MeterRegistry> meterRegistry,
+                               @Value("${transactions.archive.enabled:false}") boolean enabled,
+                               @Value("${transactions.archive.batch-size:1000}") int batchSize,
+                               @Value("${transactions.archive.batch-delay:PT0.2S}") Duration batchDelay,
+                               @Value("${transactions.archive.retention:PT0S}") Duration retention,
+                               @Value("${transactions.archive.interval:PT1H}") Duration interval) {
+        this.transactionRepository = transactionRepository;
+        this.sellerDailyTotalRepository = sellerDailyTotalRepository;
+        this.analyticsBucketCache = analyticsBucketCache;
+        this.liveLeaderboard = liveLeaderboard;
+        this.transactionTemplate = transactionTemplate;
+        this.meterRegistry = meterRegistry;
+        this.enabled = enabled;
+        this.batchSize = batchSize;
+        this.batchDelay = batchDelay;
+        this.retention = retention;
+        this.interval = interval;
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void start() {
+        if (!enabled) {
+            return;
+        }
+        scheduler = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "transaction-archiver");
+            thread.setDaemon(true);
+            return thread;
+        });
+        scheduler.scheduleWithFixedDelay(this::archive, interval.toMillis(), interval.toMillis(), TimeUnit.MILLISECONDS);
+    }
+
+    public void archive() {
+        try {
+            drain("deleted", () -> transactionRepository.archiveDeletedBatch(batchSize));
+            if (!retention.isZero()) {
+                LocalDateTime cutoff = LocalDateTime.now().minus(retention);
+                drain("aged", () -> archiveAgedBatch(cutoff));
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        } catch (RuntimeException e) {
+            log.warn("Transaction archiving failed", e);
+        }
+    }
+
+    private int archiveAgedBatch(LocalDateTime cutoff) {
+        List<AgedTransactionView> rows = transactionRepository.lockActiveOlderThan(cutoff, batchSize);
+        if (rows.isEmpty()) {
+            return 0;
+        }
+        List<Long> ids = rows.stream().map(AgedTransactionView::getId).toList();
+        int moved = transactionRepository.archiveByIds(ids, cutoff);
+        if (moved != rows.size()) {
+            throw new IllegalStateException("Locked " + rows.size() + " aged transactions but archived " + moved);
+        }
+
+        DailyTotalDeltas dailyTotals = new DailyTotalDeltas();
+        for (AgedTransactionView row : rows) {
+            dailyTotals.add(row.getSellerId(), row.getTransactionDate(), PaymentType.valueOf(row.getPaymentType()),
+                    row.getAmount().negate(), -1);
+        }
+        dailyTotals.applyTo(sellerDailyTotalRepository);
+        analyticsBucketCache.evictAfterCommit(rows.stream().map(AgedTransactionView::getTransactionDate).toList());
+        liveLeaderboard.removeAllAfterCommit(ids);
+        return moved;
+    }
+
+    private void drain(String reason, IntSupplier batch) throws InterruptedException {
+        long total = 0;
+        while (true) {
+            Integer moved = transactionTemplate.execute(status -> batch.getAsInt());
+            int count = moved != null ? moved : 0;
+            total += count;
+            if (count < batchSize) {
+                break;
+            }
+            Thread.sleep(batchDelay.toMillis());
+        }
+        if (total > 0) {
+            log.info("Archived {} {} transaction(s)", total, reason);
+            MeterRegistry registry = meterRegistry.getIfAvailable();
+            if (registry != null) {
+                Counter.builder(METRIC)
+                        .description("Transactions moved to the archive table")
+                        .tag("reason", reason)
+                        .register(registry)
+                        .increment(total);
+            }
+        }
+    }
+
+    @Override
+    public void close() {
+        if (scheduler != null) {
+            scheduler.shutdownNow();
+        }
+    }
+}
@@ -0,0 +1,31 @@
+package com.simplecrm.Utils;
+
+import com.simplecrm.Projections.TransactionExportView;
+
+public final class TransactionCsv {
+
+    public static final String HEADER = "id,sellerId,sellerName,amount,paymentType,transactionDate,version";
+
+    private TransactionCsv() {
+    }
+
+    public static String toLine(TransactionExportView row) {
+        return row.getId() + ","
+                + row.getSellerId() + ","
+                + field(row.getSellerName()) + ","
+                + (row.getAmount() != null ? row.getAmount().toPlainString() : "") + ","
+                + (row.getPaymentType() != null ? row.getPaymentType().name() : "") + ","
+                + (row.getTransactionDate() != null ? row.getTransactionDate().toString() : "") + ","
+                + (row.getVersion() != null ? row.getVersion() : "");
+    }
+
+    static String field(String value) {
+        if (value == null) {
+            return "";
+        }
+        if (value.indexOf(',') >= 0 || value.indexOf('"') >= 0 || value.indexOf('\n') >= 0 || value.indexOf('\r') >= 0) {
+            return '"' + value.replace("\"", "\"\"") + '"';
+        }
+        return value;
+    }
+}
@@ -0,0 +1,37 @@
+package com.simplecrm.Utils;
+
+import com.simplecrm.Exceptions.TransactionValidationException;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeParseException;
+import java.util.Base64;
+
+/**
+ * Opaque keyset position after the last returned row, ordered by {@code (transactionDate, id)}.
+ */
+public record TransactionCursor(LocalDateTime transactionDate, Long id) {
+
+    private static final char SEPARATOR = '|';
+
+    public String encode() {
+        String raw = transactionDate.toString() + SEPARATOR + id;
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+
+    public static TransactionCursor decode(String token) {
+        try {
+            String raw = new String(Base64.getUrlDecoder().decode(token), StandardCharsets.UTF_8);
+            int separator = raw.lastIndexOf(SEPARATOR);
+            if (separator <= 0) {
+                throw new TransactionValidationException("Malformed cursor: " + token);
+            }
+            return new TransactionCursor(
+                    LocalDateTime.parse(raw.substring(0, separator)),
+                    Long.parseLong(raw.substring(separator + 1))
+            );
+        } catch (IllegalArgumentException | DateTimeParseException e) {
+            throw new TransactionValidationException("Malformed cursor: " + token, e);
+        }
+    }
+}
@@ -0,0 +1,87 @@
+package com.simplecrm.Utils;
+
+import com.simplecrm.Repositories.TransactionRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+import java.time.LocalDate;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Keeps the monthly partitions of {@code transactions} (V7 migration) ahead of the clock: on
+ * startup and then every {@code check-interval} it creates the partitions for the next
+ * {@code months-ahead} months. With {@code retention-months} above zero, partitions that ended
+ * more than that many months ago are detached into the {@code transactions_detached} schema.
+ * Runs in read-write transactions so the DDL never reaches a replica.
+ */
+@Slf4j
+@Component
+public class TransactionPartitionMaintenance implements AutoCloseable {
+
+    private final TransactionRepository transactionRepository;
+    private final TransactionTemplate transactionTemplate;
+    private final boolean enabled;
+    private final int monthsAhead;
+    private final int retentionMonths;
+    private final Duration checkInterval;
+    private ScheduledExecutorService scheduler;
+
+    public TransactionPartitionMaintenance(TransactionRepository transactionRepository,
+                                           TransactionTemplate transactionTemplate,
+                                           @Value("${transactions.partitions.maintenance-enabled:false}") boolean enabled,
+                                           @Value("${transactions.partitions.months-ahead:3}") int monthsAhead,
+                                           @Value("${transactions.partitions.retention-months:0}") int retentionMonths,
+                                           @Value("${transactions.partitions.check-interval:PT24H}") Duration checkInterval) {
+        this.transactionRepository = transactionRepository;
+        this.transactionTemplate = transactionTemplate;
+        this.enabled = enabled;
+        this.monthsAhead = monthsAhead;
+        this.retentionMonths = retentionMonths;
+        this.checkInterval = checkInterval;
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void start() {
+        if (!enabled) {
+            return;
+        }
+        scheduler = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "transaction-partitions");
+            thread.setDaemon(true);
+            return thread;
+        });
+        scheduler.scheduleWithFixedDelay(this::maintain, 0, checkInterval.toMillis(), TimeUnit.MILLISECONDS);
+    }
+
+    public void maintain() {
+        try {
+            Integer created = transactionTemplate.execute(status -> transactionRepository.createTransactionPartitions(monthsAhead));
+            if (created != null && created > 0) {
+                log.info("Created {} transaction partition(s)", created);
+            }
+            if (retentionMonths > 0) {
+                LocalDate cutoff = LocalDate.now().withDayOfMonth(1).minusMonths(retentionMonths);
+                Integer archived = transactionTemplate.execute(status -> transactionRepository.archiveTransactionPartitions(cutoff));
+                if (archived != null && archived > 0) {
+                    log.info("Archived {} transaction partition(s) ending on or before {}", archived, cutoff);
+                }
+            }
+        } catch (RuntimeException e) {
+            log.warn("Transaction partition maintenance failed", e);
+        }
+    }
+
+    @Override
+    public void close() {
+        if (scheduler != null) {
+            scheduler.shutdownNow();
+        }
+    }
+}
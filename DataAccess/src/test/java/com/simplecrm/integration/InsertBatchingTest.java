@@ -0,0 +1,107 @@
+package com.simplecrm.integration;
+
+import com.simplecrm.Models.Entities.Seller;
+import com.simplecrm.Models.Entities.Transaction;
+import com.simplecrm.Models.Enums.PaymentType;
+import com.simplecrm.Repositories.SellerRepository;
+import com.simplecrm.Repositories.TransactionRepository;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.ContextConfiguration;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Statement counts of the createSeller / createTransaction write path (one save per row, flushed
+ * at commit): pooled sequence ids must let Hibernate batch the inserts instead of executing one
+ * statement per row. Throughput against IDENTITY ids is measured by {@code IdGenerationBenchmark} in
+ * the Benchmarks module.
+ */
+@DataJpaTest(properties = "spring.jpa.properties.hibernate.generate_statistics=true")
+@ContextConfiguration(classes = com.simplecrm.Application.Application.class)
+@ActiveProfiles("test")
+class InsertBatchingTest {
+
+    private static final int SELLERS = 500;
+    private static final int TRANSACTIONS = 2_000;
+
+    @Autowired
+    private SellerRepository sellerRepository;
+
+    @Autowired
+    private TransactionRepository transactionRepository;
+
+    @Autowired
+    private EntityManager entityManager;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    private Statistics statistics;
+
+    @BeforeEach
+    void setUp() {
+        statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        statistics.clear();
+    }
+
+    @Test
+    void createSeller_batchesInserts() {
+        for (int i = 0; i < SELLERS; i++) {
+            sellerRepository.save(newSeller("Batch seller " + i));
+        }
+        entityManager.flush();
+
+        assertThat(statistics.getEntityInsertCount()).isEqualTo(SELLERS);
+        assertThat(statistics.getPrepareStatementCount()).isLessThan(SELLERS / 10);
+    }
+
+    @Test
+    void createTransaction_batchesInserts() {
+        List<Seller> sellers = new ArrayList<>();
+        for (int i = 0; i < 10; i++) {
+            sellers.add(sellerRepository.save(newSeller("Batch owner " + i)));
+        }
+        entityManager.flush();
+        statistics.clear();
+
+        LocalDateTime base = LocalDateTime.of(2024, 1, 1, 0, 0);
+        for (int i = 0; i < TRANSACTIONS; i++) {
+            Transaction transaction = new Transaction();
+            transaction.setSeller(sellers.get(i % sellers.size()));
+            transaction.setAmount(BigDecimal.valueOf(i % 1000, 2));
+            transaction.setPaymentType(PaymentType.values()[i % PaymentType.values().length]);
+            transaction.setTransactionDate(base.plusMinutes(i));
+            transactionRepository.save(transaction);
+            if ((i + 1) % 500 == 0) {
+                entityManager.flush();
+                entityManager.clear();
+            }
+        }
+        entityManager.flush();
+
+        assertThat(statistics.getEntityInsertCount()).isEqualTo(TRANSACTIONS);
+        assertThat(statistics.getPrepareStatementCount()).isLessThan(TRANSACTIONS / 10);
+    }
+
+    private Seller newSeller(String name) {
+        Seller seller = new Seller();
+        seller.setName(name);
+        seller.setContactInfo(name.replace(' ', '.') + "@example.com");
+        seller.setRegistrationDate(LocalDateTime.now());
+        seller.setDeleted(false);
+        return seller;
+    }
+}
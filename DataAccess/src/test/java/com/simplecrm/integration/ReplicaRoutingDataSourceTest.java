@@ -0,0 +1,95 @@
+package com.simplecrm.integration;
+
+import com.simplecrm.Configs.ReplicaProperties;
+import com.simplecrm.Configs.ReplicaRoutingDataSource;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DataSourceTransactionManager;
+import org.springframework.jdbc.datasource.DriverManagerDataSource;
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import javax.sql.DataSource;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class ReplicaRoutingDataSourceTest {
+
+    private DataSource primary;
+    private DataSource replicaA;
+    private DataSource replicaB;
+    private ReplicaProperties properties;
+
+    @BeforeEach
+    void setUp() {
+        primary = database("routing_primary", "primary", 0);
+        replicaA = database("routing_replica_a", "replica-a", 0);
+        replicaB = database("routing_replica_b", "replica-b", 0);
+        properties = new ReplicaProperties();
+        properties.setLagQuery("SELECT lag_seconds FROM node");
+    }
+
+    @Test
+    void readOnlyTransactions_goToReplica_writesStayOnPrimary() {
+        ReplicaRoutingDataSource routing = new ReplicaRoutingDataSource(primary, List.of(replicaA), properties);
+        routing.checkReplicaLag();
+
+        assertThat(nodeName(routing, true)).isEqualTo("replica-a");
+        assertThat(nodeName(routing, false)).isEqualTo("primary");
+    }
+
+    @Test
+    void readOnlyTransactions_roundRobinAcrossReplicas() {
+        ReplicaRoutingDataSource routing = new ReplicaRoutingDataSource(primary, List.of(replicaA, replicaB), properties);
+        routing.checkReplicaLag();
+
+        List<String> nodes = new ArrayList<>();
+        for (int i = 0; i < 4; i++) {
+            nodes.add(nodeName(routing, true));
+        }
+
+        assertThat(nodes).containsExactly("replica-a", "replica-b", "replica-a", "replica-b");
+    }
+
+    @Test
+    void laggingReplica_isSkipped_andReadsFallBackToPrimary() {
+        DataSource lagging = database("routing_replica_lagging", "replica-lagging", 60);
+        ReplicaRoutingDataSource routing = new ReplicaRoutingDataSource(primary, List.of(lagging, replicaA), properties);
+        routing.checkReplicaLag();
+
+        assertThat(nodeName(routing, true)).isEqualTo("replica-a");
+
+        ReplicaRoutingDataSource onlyLagging = new ReplicaRoutingDataSource(primary, List.of(lagging), properties);
+        onlyLagging.checkReplicaLag();
+
+        assertThat(nodeName(onlyLagging, true)).isEqualTo("primary");
+    }
+
+    @Test
+    void replicas_areNotUsedBeforeFirstLagCheck() {
+        ReplicaRoutingDataSource routing = new ReplicaRoutingDataSource(primary, List.of(replicaA), properties);
+
+        assertThat(nodeName(routing, true)).isEqualTo("primary");
+    }
+
+    private String nodeName(ReplicaRoutingDataSource routing, boolean readOnly) {
+        DataSource dataSource = new LazyConnectionDataSourceProxy(routing);
+        TransactionTemplate template = new TransactionTemplate(new DataSourceTransactionManager(dataSource));
+        template.setReadOnly(readOnly);
+        JdbcTemplate jdbcTemplate = new JdbcTemplate(dataSource);
+        return template.execute(status -> jdbcTemplate.queryForObject("SELECT name FROM node", String.class));
+    }
+
+    private static DataSource database(String name, String nodeName, int lagSeconds) {
+        DriverManagerDataSource dataSource = new DriverManagerDataSource(
+                "jdbc:h2:mem:" + name + ";DB_CLOSE_DELAY=-1", "sa", "");
+        JdbcTemplate jdbcTemplate = new JdbcTemplate(dataSource);
+        jdbcTemplate.execute("DROP TABLE IF EXISTS node");
+        jdbcTemplate.execute("CREATE TABLE node (name VARCHAR(50), lag_seconds INT)");
+        jdbcTemplate.update("INSERT INTO node VALUES (?, ?)", nodeName, lagSeconds);
+        return dataSource;
+    }
+}
@@ -0,0 +1,200 @@
+package com.simplecrm.integration;
+
+import com.simplecrm.Models.Entities.Seller;
+import com.simplecrm.Models.Enums.PaymentType;
+import com.simplecrm.Repositories.TransactionRepository;
+import com.simplecrm.RequestDTO.Transaction.TransactionCreateRequestDTO;
+import com.simplecrm.RequestDTO.Transaction.TransactionUpdateRequestDTO;
+import com.simplecrm.ResultTypes.TransactionResult;
+import com.simplecrm.Services.Interfaces.TransactionService;
+import com.simplecrm.Services.TransactionServiceImpl;
+import com.simplecrm.Utils.AnalyticsBucketCache;
+import com.simplecrm.Utils.LiveLeaderboard;
+import com.simplecrm.Utils.Mapper;
+import com.simplecrm.Utils.SellerCache;
+import jakarta.persistence.EntityManager;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.autoconfigure.ImportAutoConfiguration;
+import org.springframework.boot.autoconfigure.validation.ValidationAutoConfiguration;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.jdbc.datasource.init.ScriptUtils;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.ContextConfiguration;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+import org.testcontainers.containers.PostgreSQLContainer;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Runs the transaction write paths against a PostgreSQL container built from the
+ * {@code db/migration} scripts and checks after each one that {@code seller_daily_totals} holds
+ * exactly the per (seller, day, payment type) sums of the live transactions. The rollup upsert
+ * is PostgreSQL-only SQL, so the H2 slices cannot cover it. {@code @Async} is not enabled in the
+ * slice, so the service runs on the test thread and in the test transaction. Skipped without Docker.
+ */
+@DataJpaTest
+@ImportAutoConfiguration(ValidationAutoConfiguration.class)
+@ContextConfiguration(classes = com.simplecrm.Application.Application.class)
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@Import({TransactionServiceImpl.class, Mapper.class, SellerCache.class, AnalyticsBucketCache.class, LiveLeaderboard.class})
+@Testcontainers(disabledWithoutDocker = true)
+@ActiveProfiles("test")
+class SellerDailyTotalConsistencyTest {
+
+    private static final LocalDateTime DATE = LocalDateTime.of(2024, 3, 10, 12, 0);
+
+    // Rollup rows that differ from the live transactions, in either direction; zeroed rows are ignored.
+    private static final String ROLLUP_MISMATCHES = """
+            (SELECT seller_id, day, payment_type, sum_amount, tx_count
+             FROM seller_daily_totals WHERE tx_count <> 0
+             EXCEPT
+             SELECT seller_id, CAST(transaction_date AS DATE), payment_type, SUM(amount), COUNT(*)
+             FROM transactions WHERE deleted = FALSE
+             GROUP BY seller_id, CAST(transaction_date AS DATE), payment_type)
+            UNION ALL
+            (SELECT seller_id, CAST(transaction_date AS DATE), payment_type, SUM(amount), COUNT(*)
+             FROM transactions WHERE deleted = FALSE
+             GROUP BY seller_id, CAST(transaction_date AS DATE), payment_type
+             EXCEPT
+             SELECT seller_id, day, payment_type, sum_amount, tx_count
+             FROM seller_daily_totals WHERE tx_count <> 0)
+            """;
+
+    @Container
+    private static final PostgreSQLContainer<?> POSTGRES = new PostgreSQLContainer<>("postgres:12-alpine");
+
+    @DynamicPropertySource
+    static void postgres(DynamicPropertyRegistry registry) {
+        registry.add("spring.datasource.url", POSTGRES::getJdbcUrl);
+        registry.add("spring.datasource.username", POSTGRES::getUsername);
+        registry.add("spring.datasource.password", POSTGRES::getPassword);
+        registry.add("spring.datasource.driver-class-name", () -> "org.postgresql.Driver");
+        registry.add("spring.jpa.database-platform", () -> "org.hibernate.dialect.PostgreSQLDialect");
+        registry.add("spring.jpa.hibernate.ddl-auto", () -> "none");
+        registry.add("spring.sql.init.mode", () -> "always");
+        registry.add("spring.sql.init.schema-locations", () -> "classpath:db/migration/V*__*.sql");
+        registry.add("spring.sql.init.separator", () -> ScriptUtils.EOF_STATEMENT_SEPARATOR);
+        registry.add("jpa.second-level-cache.enabled", () -> "false");
+    }
+
+    @Autowired
+    private TransactionService transactionService;
+
+    @Autowired
+    private TransactionRepository transactionRepository;
+
+    @Autowired
+    private EntityManager entityManager;
+
+    private Seller seller;
+    private Seller otherSeller;
+
+    @BeforeEach
+    void setUp() {
+        seller = createAndPersistSeller("Rollup Seller");
+        otherSeller = createAndPersistSeller("Other Rollup Seller");
+    }
+
+    @Test
+    void create_addsToDailyTotals() {
+        create(seller, "10.00", PaymentType.CASH, DATE);
+        create(seller, "2.50", PaymentType.CASH, DATE.plusHours(3));
+        create(seller, "7.00", PaymentType.CARD, DATE.plusDays(1));
+
+        assertThat(rollupMismatches()).isEmpty();
+    }
+
+    @Test
+    void createBatch_addsToDailyTotals() {
+        List<TransactionResult> results = transactionService.createTransactions(List.of(
+                createRequest(seller, "10.00", PaymentType.CASH, DATE),
+                createRequest(otherSeller, "4.00", PaymentType.CARD, DATE),
+                createRequest(seller, "1.25", PaymentType.CASH, DATE.plusHours(1)))).join();
+
+        assertThat(results).allMatch(TransactionResult.Success.class::isInstance);
+        assertThat(rollupMismatches()).isEmpty();
+    }
+
+    @Test
+    void update_movesBetweenSellerDayAndPaymentType() {
+        Long id = create(seller, "10.00", PaymentType.CASH, DATE);
+        create(seller, "3.00", PaymentType.CASH, DATE);
+
+        TransactionUpdateRequestDTO update = new TransactionUpdateRequestDTO();
+        update.setSellerId(otherSeller.getId());
+        update.setAmount(new BigDecimal("12.00"));
+        update.setPaymentType(PaymentType.CARD);
+        update.setTransactionDate(DATE.plusDays(2));
+        update.setVersion(transactionRepository.findNotDeletedById(id).orElseThrow().getVersion());
+
+        assertThat(transactionService.updateTransactionById(id, update).join())
+                .isInstanceOf(TransactionResult.Success.class);
+        assertThat(rollupMismatches()).isEmpty();
+    }
+
+    @Test
+    void softDeleteAndRestore_subtractAndAddBack() {
+        Long id = create(seller, "10.00", PaymentType.CASH, DATE);
+        create(seller, "3.00", PaymentType.CASH, DATE);
+
+        assertThat(transactionService.deleteTransactionByIdSoft(id).join()).isInstanceOf(TransactionResult.Success.class);
+        assertThat(rollupMismatches()).isEmpty();
+
+        assertThat(transactionService.restoreTransactionById(id).join()).isInstanceOf(TransactionResult.Success.class);
+        assertThat(rollupMismatches()).isEmpty();
+    }
+
+    @Test
+    void hardDelete_subtractsActiveRowsOnly() {
+        Long active = create(seller, "10.00", PaymentType.CASH, DATE);
+        Long softDeleted = create(seller, "3.00", PaymentType.CASH, DATE);
+        transactionService.deleteTransactionByIdSoft(softDeleted).join();
+
+        assertThat(transactionService.deleteTransactionByIdHard(active).join()).isInstanceOf(TransactionResult.Success.class);
+        assertThat(transactionService.deleteTransactionByIdHard(softDeleted).join()).isInstanceOf(TransactionResult.Success.class);
+        assertThat(rollupMismatches()).isEmpty();
+    }
+
+    private Long create(Seller owner, String amount, PaymentType paymentType, LocalDateTime date) {
+        TransactionResult result = transactionService.createTransaction(createRequest(owner, amount, paymentType, date)).join();
+        assertThat(result).isInstanceOf(TransactionResult.Success.class);
+        return ((TransactionResult.Success) result).transaction().getId();
+    }
+
+    private List<?> rollupMismatches() {
+        entityManager.flush();
+        return entityManager.createNativeQuery(ROLLUP_MISMATCHES).getResultList();
+    }
+
+    private static TransactionCreateRequestDTO createRequest(Seller owner, String amount, PaymentType paymentType,
+                                                             LocalDateTime date) {
+        TransactionCreateRequestDTO request = new TransactionCreateRequestDTO();
+        request.setSellerId(owner.getId());
+        request.setAmount(new BigDecimal(amount));
+        request.setPaymentType(paymentType);
+        request.setTransactionDate(date);
+        return request;
+    }
+
+    private Seller createAndPersistSeller(String name) {
+        Seller seller = new Seller();
+        seller.setName(name);
+        seller.setContactInfo(name + "@example.com");
+        seller.setRegistrationDate(DATE.minusDays(30));
+        seller.setDeleted(false);
+        entityManager.persist(seller);
+        entityManager.flush();
+        return seller;
+    }
+}
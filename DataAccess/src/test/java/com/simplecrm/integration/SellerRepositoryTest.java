@@ -1,18 +1,30 @@
 package com.simplecrm.integration;
 
 import com.simplecrm.Models.Entities.Seller;
+import com.simplecrm.Models.Entities.SellerDailyTotal;
+import com.simplecrm.Models.Entities.SellerDailyTotalId;
 import com.simplecrm.Models.Entities.Transaction;
 import com.simplecrm.Models.Enums.PaymentType;
+import com.simplecrm.Projections.SellerRankView;
 import com.simplecrm.Repositories.SellerRepository;
+import com.simplecrm.Repositories.SellerSpecifications;
+import com.simplecrm.ResponseDTO.SellerResponseDTO;
+import com.simplecrm.Utils.RollupRange;
+import com.simplecrm.Utils.SellerCursor;
+import com.simplecrm.Utils.SellerSort;
 import jakarta.persistence.EntityManager;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.engine.spi.SessionFactoryImplementor;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.data.jpa.domain.Specification;
 import org.springframework.test.context.ActiveProfiles;
 import org.springframework.test.context.ContextConfiguration;
 
 import java.math.BigDecimal;
+import java.time.LocalDate;
 import java.time.LocalDateTime;
 import java.util.List;
 import java.util.Optional;
@@ -30,6 +42,9 @@ class SellerRepositoryTest {
     @Autowired
     private EntityManager entityManager;
 
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
     @BeforeEach
     void setUp() {
         sellerRepository.deleteAll();
@@ -72,6 +87,17 @@ class SellerRepositoryTest {
         assertThat(result).isEmpty();
     }
 
+    @Test
+    void secondLevelCache_coversSellersOnly() {
+        SessionFactoryImplementor sessionFactory = entityManagerFactory.unwrap(SessionFactoryImplementor.class);
+
+        assertThat(sessionFactory.getSessionFactoryOptions().isSecondLevelCacheEnabled()).isTrue();
+        assertThat(sessionFactory.getSessionFactoryOptions().isQueryCacheEnabled()).isTrue();
+        assertThat(sessionFactory.getMappingMetamodel().getEntityDescriptor(Seller.class).canReadFromCache()).isTrue();
+        assertThat(sessionFactory.getMappingMetamodel().getEntityDescriptor(Transaction.class).canReadFromCache()).isFalse();
+        assertThat(sessionFactory.getStatistics().isStatisticsEnabled()).isTrue();
+    }
+
     @Test
     void findAllNotDeleted_returnsOnlyActiveSellers() {
         Seller active1 = new Seller();
@@ -101,6 +127,97 @@ class SellerRepositoryTest {
                 .containsExactlyInAnyOrder("Active 1", "Active 2");
     }
 
+    @Test
+    void findBy_specifications_filterByNamePrefixAndSeekPastCursor() {
+        LocalDateTime registered = LocalDateTime.of(2024, 3, 1, 12, 0);
+        List<Seller> sellers = sellerRepository.saveAll(List.of(
+                seller("alpha", registered, false),
+                seller("Alpine", registered.plusDays(1), false),
+                seller("al_x", registered.plusDays(2), false),
+                seller("beta", registered, false),
+                seller("Alps", registered, true)));
+        SellerSort sort = SellerSort.REGISTRATION_DATE;
+        Specification<Seller> alPrefix = SellerSpecifications.notDeleted()
+                .and(SellerSpecifications.nameStartsWith("AL"));
+
+        List<Seller> first = sellerRepository.findBy(alPrefix, q -> q.sortBy(sort.toSort()).limit(2).all());
+        SellerCursor cursor = SellerCursor.after(sort, first.get(first.size() - 1));
+        List<Seller> second = sellerRepository.findBy(alPrefix.and(SellerSpecifications.after(cursor)),
+                q -> q.sortBy(sort.toSort()).limit(2).all());
+        List<Seller> escaped = sellerRepository.findAll(SellerSpecifications.notDeleted()
+                .and(SellerSpecifications.nameStartsWith("al_")));
+        List<Seller> ranged = sellerRepository.findAll(SellerSpecifications.notDeleted()
+                .and(SellerSpecifications.registeredFrom(registered.plusDays(1)))
+                .and(SellerSpecifications.registeredTo(registered.plusDays(1))));
+
+        assertThat(first).extracting(Seller::getName).containsExactly("alpha", "Alpine");
+        assertThat(second).extracting(Seller::getName).containsExactly("al_x");
+        assertThat(escaped).extracting(Seller::getName).containsExactly("al_x");
+        assertThat(ranged).extracting(Seller::getId).containsExactly(sellers.get(1).getId());
+    }
+
+    private static Seller seller(String name, LocalDateTime registrationDate, boolean deleted) {
+        Seller seller = new Seller();
+        seller.setName(name);
+        seller.setContactInfo(name + "@example.com");
+        seller.setRegistrationDate(registrationDate);
+        seller.setDeleted(deleted);
+        return seller;
+    }
+
+    @Test
+    void findAllNotDeletedResponses_projectsActiveSellersWithoutVersion() {
+        Seller active = new Seller();
+        active.setName("Projected");
+        active.setDeleted(false);
+        active.setRegistrationDate(LocalDateTime.of(2024, 3, 1, 12, 0));
+        active.setContactInfo("projected@example.com");
+
+        Seller deleted = new Seller();
+        deleted.setName("Deleted");
+        deleted.setDeleted(true);
+        deleted.setRegistrationDate(LocalDateTime.now());
+        deleted.setContactInfo("projected-deleted@example.com");
+
+        sellerRepository.saveAll(List.of(active, deleted));
+        List<SellerResponseDTO> result = sellerRepository.findAllNotDeletedResponses();
+
+        assertThat(result).hasSize(1);
+        SellerResponseDTO dto = result.getFirst();
+        assertThat(dto.getId()).isEqualTo(active.getId());
+        assertThat(dto.getName()).isEqualTo("Projected");
+        assertThat(dto.getContactInfo()).isEqualTo("projected@example.com");
+        assertThat(dto.getRegistrationDate()).isEqualTo(LocalDateTime.of(2024, 3, 1, 12, 0));
+        assertThat(dto.getVersion()).isNull();
+    }
+
+    @Test
+    void findAllNotDeletedByIdIn_returnsOnlyRequestedActiveSellers() {
+        Seller requested = new Seller();
+        requested.setName("Requested");
+        requested.setDeleted(false);
+        requested.setRegistrationDate(LocalDateTime.now());
+        requested.setContactInfo("req@example.com");
+
+        Seller other = new Seller();
+        other.setName("Other");
+        other.setDeleted(false);
+        other.setRegistrationDate(LocalDateTime.now());
+        other.setContactInfo("other@example.com");
+
+        Seller deleted = new Seller();
+        deleted.setName("Deleted");
+        deleted.setDeleted(true);
+        deleted.setRegistrationDate(LocalDateTime.now());
+        deleted.setContactInfo("del@example.com");
+
+        sellerRepository.saveAll(List.of(requested, other, deleted));
+        List<Seller> result = sellerRepository.findAllNotDeletedByIdIn(
+                List.of(requested.getId(), deleted.getId(), 999_999L));
+
+        assertThat(result).extracting(Seller::getName).containsExactly("Requested");
+    }
+
     @Test
     void findByNameAndNotDeleted_returnsSeller_whenExistsAndNotDeleted() {
         Seller seller = new Seller();
@@ -131,104 +248,64 @@ class SellerRepositoryTest {
     }
 
     @Test
-    void findTopSellerByPeriod_returnsSortedByTotalAmount() {
-        LocalDateTime start = LocalDateTime.of(2024, 1, 1, 0, 0);
-        LocalDateTime end = LocalDateTime.of(2024, 1, 31, 23, 59);
-
-        Seller seller1 = new Seller();
-        seller1.setName("Top Seller");
-        seller1.setDeleted(false);
-        seller1.setRegistrationDate(LocalDateTime.now());
-        seller1.setContactInfo("s1test@example.com");
-        seller1 = sellerRepository.save(seller1);
-
-        Seller seller2 = new Seller();
-        seller2.setName("Low Seller");
-        seller2.setDeleted(false);
-        seller2.setRegistrationDate(LocalDateTime.now());
-        seller2.setContactInfo("s2test@example.com");
-        seller2 = sellerRepository.save(seller2);
-
-        saveTransaction(seller1, new BigDecimal("500.00"), start.plusDays(1));
-        saveTransaction(seller1, new BigDecimal("300.00"), start.plusDays(2));
-        saveTransaction(seller2, new BigDecimal("100.00"), start.plusDays(3));
-        List<Seller> result = sellerRepository.findTopSellerByPeriod(start, end);
-
-        assertThat(result).hasSize(2);
-        assertThat(result.get(0).getName()).isEqualTo("Top Seller");
-        assertThat(result.get(1).getName()).isEqualTo("Low Seller");
+    void rollupQueries_combineWholeDaysWithRawEdges() {
+        LocalDateTime start = LocalDateTime.of(2024, 1, 1, 10, 0);
+        LocalDateTime end = LocalDateTime.of(2024, 1, 31, 12, 0);
+        RollupRange range = RollupRange.of(start, end);
+
+        Seller sellerA = new Seller();
+        sellerA.setName("Edge Seller");
+        sellerA.setDeleted(false);
+        sellerA.setRegistrationDate(LocalDateTime.now());
+        sellerA.setContactInfo("edge@example.com");
+        sellerA = sellerRepository.save(sellerA);
+
+        Seller sellerB = new Seller();
+        sellerB.setName("Mid Month Seller");
+        sellerB.setDeleted(false);
+        sellerB.setRegistrationDate(LocalDateTime.now());
+        sellerB.setContactInfo("mid@example.com");
+        sellerB = sellerRepository.save(sellerB);
+
+        saveTransaction(sellerA, new BigDecimal("1000.00"), LocalDateTime.of(2024, 1, 10, 14, 0));
+        saveDailyTotal(sellerA, LocalDate.of(2024, 1, 10), new BigDecimal("1000.00"));
+        saveTransaction(sellerA, new BigDecimal("50.00"), LocalDateTime.of(2024, 1, 1, 11, 0));
+        saveTransaction(sellerA, new BigDecimal("5000.00"), LocalDateTime.of(2024, 1, 31, 13, 0));
+
+        saveTransaction(sellerB, new BigDecimal("1100.00"), LocalDateTime.of(2024, 1, 15, 9, 0));
+        saveDailyTotal(sellerB, LocalDate.of(2024, 1, 15), new BigDecimal("1100.00"));
+
+        List<SellerRankView> top = sellerRepository.findSellerRankingFromRollup(
+                range.start(), range.headEnd(), range.tailStart(), range.end(),
+                range.firstFullDay(), range.lastFullDayExclusive(), 10);
+        List<SellerRankView> topOne = sellerRepository.findSellerRankingFromRollup(
+                range.start(), range.headEnd(), range.tailStart(), range.end(),
+                range.firstFullDay(), range.lastFullDayExclusive(), 1);
+        List<Seller> belowUpper = sellerRepository.findSellersWithAmountLessThanFromRollup(new BigDecimal("1075.00"),
+                range.start(), range.headEnd(), range.tailStart(), range.end(),
+                range.firstFullDay(), range.lastFullDayExclusive());
+        List<Seller> belowLower = sellerRepository.findSellersWithAmountLessThanFromRollup(new BigDecimal("1020.00"),
+                range.start(), range.headEnd(), range.tailStart(), range.end(),
+                range.firstFullDay(), range.lastFullDayExclusive());
+
+        assertThat(top).extracting(SellerRankView::getName).containsExactly("Mid Month Seller", "Edge Seller");
+        assertThat(top.getFirst().getTotalAmount()).isEqualByComparingTo("1100.00");
+        assertThat(top.getFirst().getTransactionCount()).isEqualTo(1L);
+        assertThat(topOne).extracting(SellerRankView::getId).containsExactly(sellerB.getId());
+        assertThat(belowUpper).extracting(Seller::getName).containsExactly("Edge Seller");
+        assertThat(belowLower).isEmpty();
     }
 
-    @Test
-    void findTopSellerByPeriod_excludesDeletedTransactions() {
-        LocalDateTime start = LocalDateTime.of(2024, 1, 1, 0, 0);
-        LocalDateTime end = LocalDateTime.of(2024, 1, 31, 23, 59);
-
-        Seller seller = new Seller();
-        seller.setName("Seller with deleted tx");
-        seller.setDeleted(false);
-        seller.setRegistrationDate(LocalDateTime.now());
-        seller.setContactInfo("stest@example.com");
-        seller = sellerRepository.save(seller);
-
-        saveTransaction(seller, new BigDecimal("200.00"), start.plusDays(1), false);
-        saveTransaction(seller, new BigDecimal("800.00"), start.plusDays(2), true);
-
-        List<Seller> result = sellerRepository.findTopSellerByPeriod(start, end);
-
-        assertThat(result).hasSize(1);
+    private void saveDailyTotal(Seller seller, LocalDate day, BigDecimal amount) {
+        SellerDailyTotal total = new SellerDailyTotal();
+        total.setId(new SellerDailyTotalId(seller.getId(), day, PaymentType.CASH));
+        total.setSumAmount(amount);
+        total.setTxCount(1L);
 
+        entityManager.persist(total);
+        entityManager.flush();
     }
 
-    @Test
-    void findSellersWithAmountLessThan_filtersBySumAndPeriod() {
-        LocalDateTime start = LocalDateTime.of(2024, 1, 1, 0, 0);
-        LocalDateTime end = LocalDateTime.of(2024, 1, 31, 23, 59);
-        BigDecimal threshold = new BigDecimal("500.00");
-
-        Seller sellerLow = new Seller();
-        sellerLow.setName("Low");
-        sellerLow.setDeleted(false);
-        sellerLow.setRegistrationDate(LocalDateTime.now());
-        sellerLow.setContactInfo("slowtest@example.com");
-        sellerLow = sellerRepository.save(sellerLow);
-
-        Seller sellerHigh = new Seller();
-        sellerHigh.setName("High");
-        sellerHigh.setDeleted(false);
-        sellerHigh.setRegistrationDate(LocalDateTime.now());
-        sellerHigh.setContactInfo("shightest@example.com");
-        sellerHigh = sellerRepository.save(sellerHigh);
-
-        saveTransaction(sellerLow, new BigDecimal("300.00"), start.plusDays(1));
-        saveTransaction(sellerHigh, new BigDecimal("600.00"), start.plusDays(2));
-
-        List<Seller> result = sellerRepository.findSellersWithAmountLessThan(threshold, start, end);
-
-        assertThat(result).hasSize(1);
-        assertThat(result.getFirst().getName()).isEqualTo("Low");
-    }
-
-    @Test
-    void findSellersWithAmountLessThan_includesSellersWithNoTransactions() {
-        LocalDateTime start = LocalDateTime.of(2024, 1, 1, 0, 0);
-        LocalDateTime end = LocalDateTime.of(2024, 1, 31, 23, 59);
-        BigDecimal threshold = new BigDecimal("100.00");
-
-        Seller sellerNoTx = new Seller();
-        sellerNoTx.setName("No Transactions");
-        sellerNoTx.setDeleted(false);
-        sellerNoTx.setRegistrationDate(LocalDateTime.now());
-        sellerNoTx.setContactInfo("sNoTxtest@example.com");
-        sellerRepository.save(sellerNoTx);
-
-        List<Seller> result = sellerRepository.findSellersWithAmountLessThan(threshold, start, end);
-
-        assertThat(result).hasSize(1);
-        assertThat(result.getFirst().getName()).isEqualTo("No Transactions");
-    }
-
-
     private void saveTransaction(Seller seller, BigDecimal amount, LocalDateTime date) {
         saveTransaction(seller, amount, date, false);
     }
@@ -0,0 +1,103 @@
+package com.simplecrm.integration;
+
+import com.simplecrm.Models.Entities.Seller;
+import com.simplecrm.Models.Entities.Transaction;
+import com.simplecrm.Models.Enums.PaymentType;
+import com.simplecrm.Repositories.TransactionRepository;
+import com.simplecrm.Utils.RepositoryMethodInterceptor;
+import com.simplecrm.Utils.SqlMetricsListener;
+import com.simplecrm.Utils.SqlStatementScope;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import jakarta.persistence.EntityManager;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.ContextConfiguration;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DataJpaTest
+@ContextConfiguration(classes = com.simplecrm.Application.Application.class)
+@Import(SimpleMeterRegistry.class)
+@ActiveProfiles("test")
+class SqlMetricsTest {
+
+    private static final LocalDateTime DATE = LocalDateTime.of(2024, 3, 10, 12, 0);
+
+    @Autowired
+    private TransactionRepository transactionRepository;
+
+    @Autowired
+    private EntityManager entityManager;
+
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    @BeforeEach
+    void setUp() {
+        for (int i = 0; i < 3; i++) {
+            Seller seller = new Seller();
+            seller.setName("Seller " + i);
+            seller.setContactInfo("seller" + i + "@example.com");
+            seller.setRegistrationDate(DATE.minusDays(1));
+            seller.setDeleted(false);
+            entityManager.persist(seller);
+
+            Transaction transaction = new Transaction();
+            transaction.setSeller(seller);
+            transaction.setAmount(new BigDecimal("10.00"));
+            transaction.setPaymentType(PaymentType.CASH);
+            transaction.setTransactionDate(DATE.plusHours(i));
+            transaction.setDeleted(false);
+            entityManager.persist(transaction);
+        }
+        entityManager.flush();
+        entityManager.clear();
+        entityManager.getEntityManagerFactory().getCache().evictAll();
+    }
+
+    @Test
+    void repositoryQueries_areTimedAndCountedPerMethod() {
+        List<?> result = transactionRepository.findResponsesByDateRange(DATE, DATE.plusDays(1));
+
+        assertThat(result).hasSize(3);
+        Timer timer = meterRegistry.find(SqlMetricsListener.QUERIES)
+                .tag("repository", "TransactionRepository.findResponsesByDateRange")
+                .tag("type", "select")
+                .timer();
+        assertThat(timer).isNotNull();
+        assertThat(timer.count()).isEqualTo(1);
+        assertThat(meterRegistry.find(SqlMetricsListener.ROWS)
+                .tag("repository", "TransactionRepository.findResponsesByDateRange")
+                .counter().count()).isEqualTo(3);
+    }
+
+    @Test
+    void lazySellerLoads_areCountedAsUnattributed() {
+        try (SqlStatementScope scope = SqlStatementScope.open()) {
+            transactionRepository.findAll().forEach(transaction -> transaction.getSeller().getName());
+
+            assertThat(scope.statementCount("TransactionRepository.findAll")).isEqualTo(1);
+            assertThat(scope.statementCount(RepositoryMethodInterceptor.UNATTRIBUTED)).isEqualTo(3);
+            assertThat(scope.summary()).startsWith(RepositoryMethodInterceptor.UNATTRIBUTED + "=3");
+        }
+    }
+
+    @Test
+    void joinFetch_issuesASingleStatement() {
+        try (SqlStatementScope scope = SqlStatementScope.open()) {
+            transactionRepository.findAllNotDeleted().forEach(transaction -> transaction.getSeller().getName());
+
+            assertThat(scope.statementCount()).isEqualTo(1);
+        }
+    }
+}
@@ -0,0 +1,152 @@
+package com.simplecrm.integration;
+
+import com.simplecrm.Models.Entities.Seller;
+import com.simplecrm.Models.Entities.Transaction;
+import com.simplecrm.Models.Enums.PaymentType;
+import com.simplecrm.Projections.SellerRankView;
+import com.simplecrm.Projections.SellerTotalView;
+import com.simplecrm.Repositories.SellerDailyTotalRepository;
+import com.simplecrm.Repositories.SellerRepository;
+import com.simplecrm.Repositories.TransactionRepository;
+import com.simplecrm.Utils.AnalyticsBucketCache;
+import com.simplecrm.Utils.DailyTotalDeltas;
+import com.simplecrm.Utils.LiveLeaderboard;
+import com.simplecrm.Utils.RollupRange;
+import com.simplecrm.Utils.TransactionArchiver;
+import jakarta.persistence.EntityManager;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.jdbc.datasource.init.ScriptUtils;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.ContextConfiguration;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+import org.testcontainers.containers.PostgreSQLContainer;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Archives aged rows on a PostgreSQL container and checks that a range query spanning them gives
+ * the same answer from the daily rollups as from the raw transactions. Skipped without Docker.
+ */
+@DataJpaTest
+@ContextConfiguration(classes = com.simplecrm.Application.Application.class)
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@Import({TransactionArchiver.class, AnalyticsBucketCache.class, LiveLeaderboard.class})
+@Testcontainers(disabledWithoutDocker = true)
+@ActiveProfiles("test")
+class TransactionArchiveRollupTest {
+
+    private static final LocalDateTime BASE = LocalDate.now().atStartOfDay();
+
+    @Container
+    private static final PostgreSQLContainer<?> POSTGRES = new PostgreSQLContainer<>("postgres:12-alpine");
+
+    @DynamicPropertySource
+    static void postgres(DynamicPropertyRegistry registry) {
+        registry.add("spring.datasource.url", POSTGRES::getJdbcUrl);
+        registry.add("spring.datasource.username", POSTGRES::getUsername);
+        registry.add("spring.datasource.password", POSTGRES::getPassword);
+        registry.add("spring.datasource.driver-class-name", () -> "org.postgresql.Driver");
+        registry.add("spring.jpa.database-platform", () -> "org.hibernate.dialect.PostgreSQLDialect");
+        registry.add("spring.jpa.hibernate.ddl-auto", () -> "none");
+        registry.add("spring.sql.init.mode", () -> "always");
+        registry.add("spring.sql.init.schema-locations", () -> "classpath:db/migration/V*__*.sql");
+        registry.add("spring.sql.init.separator", () -> ScriptUtils.EOF_STATEMENT_SEPARATOR);
+        registry.add("jpa.second-level-cache.enabled", () -> "false");
+        registry.add("transactions.archive.retention", () -> "P30D");
+    }
+
+    @Autowired
+    private EntityManager entityManager;
+
+    @Autowired
+    private TransactionRepository transactionRepository;
+
+    @Autowired
+    private SellerRepository sellerRepository;
+
+    @Autowired
+    private SellerDailyTotalRepository sellerDailyTotalRepository;
+
+    @Autowired
+    private TransactionArchiver transactionArchiver;
+
+    @Test
+    void rangeSpanningArchivedRows_rollupMatchesRawTransactions() {
+        Seller seller = createAndPersistSeller("Archived Seller");
+        Transaction agedHead = createAndPersistTransaction(seller, new BigDecimal("50.00"), PaymentType.CASH,
+                BASE.minusDays(40).plusHours(11));
+        Transaction agedDay = createAndPersistTransaction(seller, new BigDecimal("1000.00"), PaymentType.CARD,
+                BASE.minusDays(38).plusHours(14));
+        createAndPersistTransaction(seller, new BigDecimal("200.00"), PaymentType.CARD, BASE.minusDays(10).plusHours(9));
+        createAndPersistTransaction(seller, new BigDecimal("7.00"), PaymentType.CASH, BASE.minusDays(5).plusHours(13));
+        RollupRange range = RollupRange.of(BASE.minusDays(40).plusHours(10), BASE.minusDays(5).plusHours(18));
+
+        assertThat(rankingTotal(range)).isEqualByComparingTo("1257.00");
+
+        transactionArchiver.archive();
+        entityManager.clear();
+
+        List<SellerRankView> ranking = ranking(range);
+        List<SellerTotalView> raw = transactionRepository.sumBySellerThrough(range.start(), range.end());
+        assertThat(ranking).singleElement().satisfies(row -> {
+            assertThat(row.getTotalAmount()).isEqualByComparingTo("207.00");
+            assertThat(row.getTransactionCount()).isEqualTo(2L);
+        });
+        assertThat(raw).singleElement().satisfies(row -> {
+            assertThat(row.getTotalAmount()).isEqualByComparingTo(ranking.getFirst().getTotalAmount());
+            assertThat(row.getTransactionCount()).isEqualTo(ranking.getFirst().getTransactionCount());
+        });
+        assertThat(transactionRepository.findArchivedById(agedHead.getId())).isPresent();
+        assertThat(transactionRepository.findArchivedById(agedDay.getId())).isPresent();
+    }
+
+    private BigDecimal rankingTotal(RollupRange range) {
+        return ranking(range).getFirst().getTotalAmount();
+    }
+
+    private List<SellerRankView> ranking(RollupRange range) {
+        return sellerRepository.findSellerRankingFromRollup(range.start(), range.headEnd(), range.tailStart(),
+                range.end(), range.firstFullDay(), range.lastFullDayExclusive(), 10);
+    }
+
+    private Seller createAndPersistSeller(String name) {
+        Seller seller = new Seller();
+        seller.setName(name);
+        seller.setContactInfo(name + "@example.com");
+        seller.setRegistrationDate(BASE.minusDays(60));
+        seller.setDeleted(false);
+        entityManager.persist(seller);
+        entityManager.flush();
+        return seller;
+    }
+
+    private Transaction createAndPersistTransaction(Seller seller, BigDecimal amount, PaymentType paymentType,
+                                                    LocalDateTime date) {
+        Transaction tx = new Transaction();
+        tx.setSeller(seller);
+        tx.setAmount(amount);
+        tx.setPaymentType(paymentType);
+        tx.setTransactionDate(date);
+        tx.setDeleted(false);
+        tx.setVersion(0L);
+        entityManager.persist(tx);
+        entityManager.flush();
+
+        DailyTotalDeltas dailyTotals = new DailyTotalDeltas();
+        dailyTotals.add(seller.getId(), date, paymentType, amount, 1);
+        dailyTotals.applyTo(sellerDailyTotalRepository);
+        return tx;
+    }
+}
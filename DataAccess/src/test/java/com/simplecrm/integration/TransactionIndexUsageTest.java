@@ -0,0 +1,296 @@
+package com.simplecrm.integration;
+
+import com.jayway.jsonpath.JsonPath;
+import com.simplecrm.Repositories.SellerRepository;
+import com.simplecrm.Repositories.SellerSpecifications;
+import com.simplecrm.Repositories.TransactionRepository;
+import com.simplecrm.Utils.SellerCursor;
+import com.simplecrm.Utils.SellerSort;
+import net.ttddyy.dsproxy.ExecutionInfo;
+import net.ttddyy.dsproxy.QueryInfo;
+import net.ttddyy.dsproxy.listener.QueryExecutionListener;
+import net.ttddyy.dsproxy.proxy.ParameterSetOperation;
+import net.ttddyy.dsproxy.support.ProxyDataSourceBuilder;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.Arguments;
+import org.junit.jupiter.params.provider.MethodSource;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.context.TestConfiguration;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Import;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.jdbc.datasource.init.ScriptUtils;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.ContextConfiguration;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+import org.testcontainers.containers.PostgreSQLContainer;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.Statement;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.function.Consumer;
+import java.util.stream.Stream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Replays the SQL each repository method issues under {@code EXPLAIN} on a PostgreSQL container
+ * built from the {@code db/migration} scripts. Fails when a table is read through anything but
+ * the index the query was written for, when a filtered query stops turning its predicate into an
+ * {@code Index Cond}, or when a date-bounded query stops pruning the monthly partitions.
+ * Sequential and bitmap scans are disabled for the EXPLAIN transaction only ({@code SET LOCAL});
+ * tables stay empty. Indexes of monthly partitions are reported by their parent index name.
+ * Skipped without Docker.
+ */
+@DataJpaTest
+@ContextConfiguration(classes = com.simplecrm.Application.Application.class)
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@Import(TransactionIndexUsageTest.CapturedQueries.class)
+@Testcontainers(disabledWithoutDocker = true)
+@ActiveProfiles("test")
+class TransactionIndexUsageTest {
+
+    private static final List<String> INDEX_SCANS = List.of("Index Scan", "Index Only Scan");
+    private static final List<QueryInfo> QUERIES = new CopyOnWriteArrayList<>();
+    private static final LocalDateTime START = LocalDateTime.of(2024, 1, 1, 0, 0);
+    private static final LocalDateTime END = LocalDateTime.of(2024, 2, 1, 0, 0);
+    private static final String TRANSACTIONS_PK = "pk_transactions";
+    private static final String TRANSACTIONS_ACTIVE_DATE = "idx_transactions_active_date";
+    private static final String TRANSACTIONS_ACTIVE_SELLER_DATE = "idx_transactions_active_seller_date";
+
+    @Container
+    private static final PostgreSQLContainer<?> POSTGRES = new PostgreSQLContainer<>("postgres:12-alpine");
+
+    @DynamicPropertySource
+    static void postgres(DynamicPropertyRegistry registry) {
+        registry.add("spring.datasource.url", POSTGRES::getJdbcUrl);
+        registry.add("spring.datasource.username", POSTGRES::getUsername);
+        registry.add("spring.datasource.password", POSTGRES::getPassword);
+        registry.add("spring.datasource.driver-class-name", () -> "org.postgresql.Driver");
+        registry.add("spring.jpa.database-platform", () -> "org.hibernate.dialect.PostgreSQLDialect");
+        registry.add("spring.jpa.hibernate.ddl-auto", () -> "none");
+        registry.add("spring.sql.init.mode", () -> "always");
+        registry.add("spring.sql.init.schema-locations", () -> "classpath:db/migration/V*__*.sql");
+        // one statement per script: the migrations contain PL/pgSQL bodies
+        registry.add("spring.sql.init.separator", () -> ScriptUtils.EOF_STATEMENT_SEPARATOR);
+        registry.add("jpa.second-level-cache.enabled", () -> "false");
+    }
+
+    @Autowired
+    private TransactionRepository transactionRepository;
+
+    @Autowired
+    private SellerRepository sellerRepository;
+
+    @Autowired
+    private DataSource dataSource;
+
+    @BeforeEach
+    void setUp() {
+        QUERIES.clear();
+    }
+
+    static Stream<Arguments> transactionQueries() {
+        return Stream.of(
+                seek("findNotDeletedById", TRANSACTIONS_PK, r -> r.findNotDeletedById(1L)),
+                ordered("findAllNotDeleted", TRANSACTIONS_ACTIVE_DATE, TransactionRepository::findAllNotDeleted),
+                ordered("findPageNotDeleted", TRANSACTIONS_ACTIVE_DATE, r -> r.findPageNotDeleted(PageRequest.ofSize(50))),
+                seek("findPageNotDeletedAfter", TRANSACTIONS_ACTIVE_DATE, r -> r.findPageNotDeletedAfter(START, 1L, PageRequest.ofSize(50))),
+                seek("findBySellerIdAndNotDeleted", TRANSACTIONS_ACTIVE_SELLER_DATE, r -> r.findBySellerIdAndNotDeleted(1L)),
+                seek("findResponsesBySellerIdAndDateRange", TRANSACTIONS_ACTIVE_SELLER_DATE, r -> r.findResponsesBySellerIdAndDateRange(1L, START, END)),
+                seek("findResponsesByDateRange", TRANSACTIONS_ACTIVE_DATE, r -> r.findResponsesByDateRange(START, END)),
+                seek("findFlatBySellerId", TRANSACTIONS_ACTIVE_SELLER_DATE, r -> r.findFlatBySellerId(1L)),
+                ordered("streamAllForExport", TRANSACTIONS_ACTIVE_DATE, r -> r.streamAllForExport().close()),
+                seek("streamAmountsSince", TRANSACTIONS_ACTIVE_DATE, r -> r.streamAmountsSince(START).close()),
+                seek("sumBySellerAndHour", TRANSACTIONS_ACTIVE_DATE, r -> r.sumBySellerAndHour(START, END)),
+                seek("sumBySellerBefore", TRANSACTIONS_ACTIVE_DATE, r -> r.sumBySellerBefore(START, END)),
+                seek("sumBySellerThrough", TRANSACTIONS_ACTIVE_DATE, r -> r.sumBySellerThrough(START, END)),
+                seek("countBySellerIdAndNotDeleted", TRANSACTIONS_ACTIVE_SELLER_DATE, r -> r.countBySellerIdAndNotDeleted(1L)),
+                seek("findFullSpanBySellerId", TRANSACTIONS_ACTIVE_SELLER_DATE, r -> r.findFullSpanBySellerId(1L)),
+                seek("findBestPeriodBySellerId", TRANSACTIONS_ACTIVE_SELLER_DATE, r -> r.findBestPeriodBySellerId(1L, 3600)),
+                seek("lockActiveOlderThan", TRANSACTIONS_ACTIVE_DATE, r -> r.lockActiveOlderThan(START, 100)),
+                seek("findArchivedById", "transactions_archive_pkey", r -> r.findArchivedById(1L))
+        );
+    }
+
+    @ParameterizedTest(name = "{0}")
+    @MethodSource("transactionQueries")
+    void transactionQuery_readsTransactionsThroughIndex(String name, Consumer<TransactionRepository> call,
+                                                        String index, boolean bounded) throws Exception {
+        call.accept(transactionRepository);
+
+        assertIndexScans("transactions", index, bounded);
+    }
+
+    static Stream<Arguments> sellerQueries() {
+        return Stream.of(
+                Arguments.of("findNotDeletedById", (Consumer<SellerRepository>) r -> r.findNotDeletedById(1L),
+                        "sellers_pkey", true),
+                Arguments.of("findByNameAndNotDeleted", (Consumer<SellerRepository>) r -> r.findByNameAndNotDeleted("Seller"),
+                        "idx_sellers_active_name_id", true),
+                Arguments.of("pageByName", (Consumer<SellerRepository>) r -> r.findBy(
+                        SellerSpecifications.notDeleted().and(SellerSpecifications.after(new SellerCursor(SellerSort.NAME, "M", 1L))),
+                        q -> q.sortBy(SellerSort.NAME.toSort()).limit(101).all()),
+                        "idx_sellers_active_name_id", true),
+                Arguments.of("pageByRegistrationDate", (Consumer<SellerRepository>) r -> r.findBy(
+                        SellerSpecifications.notDeleted()
+                                .and(SellerSpecifications.registeredFrom(START))
+                                .and(SellerSpecifications.registeredTo(END)),
+                        q -> q.sortBy(SellerSort.REGISTRATION_DATE.toSort()).limit(101).all()),
+                        "idx_sellers_active_registration_date", true)
+        );
+    }
+
+    @ParameterizedTest(name = "{0}")
+    @MethodSource("sellerQueries")
+    void sellerQuery_readsSellersThroughIndex(String name, Consumer<SellerRepository> call,
+                                              String index, boolean bounded) throws Exception {
+        call.accept(sellerRepository);
+
+        assertIndexScans("sellers", index, bounded);
+    }
+
+    @Test
+    void sellerNamePrefix_usesTrigramIndex() throws Exception {
+        sellerRepository.findAll(SellerSpecifications.notDeleted().and(SellerSpecifications.nameStartsWith("sel")));
+
+        // GIN indexes are only read through bitmap scans, so those stay enabled here.
+        String plan = explain(QUERIES.getLast(), true);
+        List<String> indexes = JsonPath.read(plan, "$..['Index Name']");
+
+        assertThat(indexes).as("indexes in plan%n%s", plan).contains("idx_sellers_active_name_trgm");
+    }
+
+    @Test
+    void dateRangeQuery_readsOnlyPartitionsInRange() throws Exception {
+        LocalDateTime monthStart = LocalDate.now().withDayOfMonth(1).atStartOfDay();
+        transactionRepository.findResponsesByDateRange(monthStart.plusDays(1), monthStart.plusDays(10));
+
+        String plan = explain(QUERIES.getLast());
+        List<String> partitions = JsonPath.read(plan, "$..[?(@['Relation Name'] =~ /transactions_.+/)]['Relation Name']");
+
+        assertThat(partitions).as("partitions in plan%n%s", plan)
+                .containsOnly("transactions_" + DateTimeFormatter.ofPattern("'y'yyyy'm'MM").format(monthStart));
+    }
+
+    /** The predicate has to reach the index as an {@code Index Cond}. */
+    private static Arguments seek(String name, String index, Consumer<TransactionRepository> call) {
+        return Arguments.of(name, call, index, true);
+    }
+
+    /** Unfiltered listing: read in index order, with deleted = false answered by the partial index. */
+    private static Arguments ordered(String name, String index, Consumer<TransactionRepository> call) {
+        return Arguments.of(name, call, index, false);
+    }
+
+    private void assertIndexScans(String table, String index, boolean bounded) throws Exception {
+        assertThat(QUERIES).as("captured statements").isNotEmpty();
+        QueryInfo query = QUERIES.getLast();
+        String plan = explain(query);
+        // Partitions of transactions show up as transactions_default, transactions_y2024m01, ...
+        List<Map<String, Object>> scans = JsonPath.read(plan, "$..[?(@['Relation Name'] =~ /" + table + "(_.+)?/)]");
+
+        assertThat(scans).as("scans of %s in plan of %s%n%s", table, query.getQuery(), plan).isNotEmpty();
+        for (Map<String, Object> scan : scans) {
+            String description = "%s in plan of %s%n%s".formatted(scan.get("Relation Name"), query.getQuery(), plan);
+            assertThat(scan.get("Node Type")).as("node type of " + description).isIn(INDEX_SCANS);
+            assertThat(parentIndex((String) scan.get("Index Name"))).as("index of " + description).isEqualTo(index);
+            if (bounded) {
+                assertThat((String) scan.get("Index Cond")).as("index condition of " + description).isNotBlank();
+            }
+        }
+    }
+
+    /** Name of the index on the partitioned table that a partition's index was created from. */
+    private String parentIndex(String indexName) throws Exception {
+        try (Connection connection = dataSource.getConnection();
+             PreparedStatement statement = connection.prepareStatement("""
+                     SELECT COALESCE(parent.relname, child.relname)
+                     FROM pg_class child
+                     LEFT JOIN pg_inherits i ON i.inhrelid = child.oid
+                     LEFT JOIN pg_class parent ON parent.oid = i.inhparent
+                     WHERE child.relname = ?
+                     """)) {
+            statement.setString(1, indexName);
+            try (ResultSet resultSet = statement.executeQuery()) {
+                return resultSet.next() ? resultSet.getString(1) : indexName;
+            }
+        }
+    }
+
+    private String explain(QueryInfo query) throws Exception {
+        return explain(query, false);
+    }
+
+    private String explain(QueryInfo query, boolean bitmapScans) throws Exception {
+        try (Connection connection = dataSource.getConnection()) {
+            boolean autoCommit = connection.getAutoCommit();
+            connection.setAutoCommit(false);
+            try {
+                // SET LOCAL ends with the transaction, so the pooled connection goes back unchanged.
+                try (Statement statement = connection.createStatement()) {
+                    statement.execute("SET LOCAL enable_seqscan = off");
+                    statement.execute("SET LOCAL enable_bitmapscan = " + (bitmapScans ? "on" : "off"));
+                }
+                try (PreparedStatement statement = connection.prepareStatement("EXPLAIN (FORMAT JSON) " + query.getQuery())) {
+                    if (!query.getParametersList().isEmpty()) {
+                        for (ParameterSetOperation operation : query.getParametersList().getFirst()) {
+                            operation.getMethod().invoke(statement, operation.getArgs());
+                        }
+                    }
+                    try (ResultSet resultSet = statement.executeQuery()) {
+                        resultSet.next();
+                        return resultSet.getString(1);
+                    }
+                }
+            } finally {
+                connection.rollback();
+                connection.setAutoCommit(autoCommit);
+            }
+        }
+    }
+
+    @TestConfiguration
+    static class CapturedQueries {
+
+        @Bean
+        static BeanPostProcessor capturingDataSourcePostProcessor() {
+            return new BeanPostProcessor() {
+                @Override
+                public Object postProcessAfterInitialization(Object bean, String beanName) {
+                    if (!"dataSource".equals(beanName) || !(bean instanceof DataSource dataSource)) {
+                        return bean;
+                    }
+                    return ProxyDataSourceBuilder.create(dataSource)
+                            .listener(new QueryExecutionListener() {
+                                @Override
+                                public void beforeQuery(ExecutionInfo execInfo, List<QueryInfo> queryInfoList) {
+                                }
+
+                                @Override
+                                public void afterQuery(ExecutionInfo execInfo, List<QueryInfo> queryInfoList) {
+                                    QUERIES.addAll(queryInfoList);
+                                }
+                            })
+                            .build();
+                }
+            };
+        }
+    }
+}
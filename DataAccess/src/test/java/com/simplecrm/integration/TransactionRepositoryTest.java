@@ -3,20 +3,28 @@ package com.simplecrm.integration;
 import com.simplecrm.Models.Entities.Seller;
 import com.simplecrm.Models.Entities.Transaction;
 import com.simplecrm.Models.Enums.PaymentType;
+import com.simplecrm.Projections.BestPeriodView;
+import com.simplecrm.Projections.SellerHourTotalView;
+import com.simplecrm.Projections.SellerTotalView;
+import com.simplecrm.Projections.TransactionExportView;
 import com.simplecrm.Projections.TransactionFlatView;
 import com.simplecrm.Repositories.TransactionRepository;
+import com.simplecrm.ResponseDTO.TransactionResponseDTO;
 import jakarta.persistence.EntityManager;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.test.context.ActiveProfiles;
 import org.springframework.test.context.ContextConfiguration;
 
 import java.math.BigDecimal;
+import java.time.LocalDate;
 import java.time.LocalDateTime;
 import java.util.List;
 import java.util.Optional;
+import java.util.stream.Stream;
 
 import static org.assertj.core.api.Assertions.assertThat;
 
@@ -84,7 +92,7 @@ class TransactionRepositoryTest {
     }
 
     @Test
-    void findBySellerIdAndDateRange_filtersByPeriod() {
+    void findResponsesBySellerIdAndDateRange_filtersByPeriod() {
         Seller seller = createAndPersistSeller("Seller D");
         LocalDateTime start = LocalDateTime.of(2024, 6, 1, 0, 0);
         LocalDateTime end = LocalDateTime.of(2024, 6, 30, 23, 59);
@@ -93,14 +101,21 @@ class TransactionRepositoryTest {
         createAndPersistTransaction(seller, new BigDecimal("20"), PaymentType.CARD, start.plusDays(5), false);
         createAndPersistTransaction(seller, new BigDecimal("30"), PaymentType.TRANSFER, end.plusDays(1), false);
 
-        List<Transaction> result = transactionRepository.findBySellerIdAndDateRange(seller.getId(), start, end);
+        List<TransactionResponseDTO> result = transactionRepository.findResponsesBySellerIdAndDateRange(seller.getId(), start, end);
 
         assertThat(result).hasSize(1);
-        assertThat(result.getFirst().getAmount()).isEqualByComparingTo("20");
+        TransactionResponseDTO dto = result.getFirst();
+        assertThat(dto.getAmount()).isEqualByComparingTo("20");
+        assertThat(dto.getPaymentType()).isEqualTo(PaymentType.CARD);
+        assertThat(dto.getTransactionDate()).isEqualTo(start.plusDays(5));
+        assertThat(dto.getVersion()).isNotNull();
+        assertThat(dto.getSeller().getId()).isEqualTo(seller.getId());
+        assertThat(dto.getSeller().getName()).isEqualTo("Seller D");
+        assertThat(dto.getSeller().getVersion()).isEqualTo(seller.getVersion());
     }
 
     @Test
-    void findByDateRange_returnsAllTransactionsInPeriod() {
+    void findResponsesByDateRange_returnsAllTransactionsInPeriod() {
         Seller seller1 = createAndPersistSeller("S1");
         Seller seller2 = createAndPersistSeller("S2");
         LocalDateTime start = LocalDateTime.of(2024, 7, 1, 0, 0);
@@ -110,11 +125,13 @@ class TransactionRepositoryTest {
         createAndPersistTransaction(seller2, new BigDecimal("200"), PaymentType.CARD, start.plusDays(2), false);
         createAndPersistTransaction(seller1, new BigDecimal("300"), PaymentType.TRANSFER, end.plusDays(1), false);
 
-        List<Transaction> result = transactionRepository.findByDateRange(start, end);
+        List<TransactionResponseDTO> result = transactionRepository.findResponsesByDateRange(start, end);
 
-        assertThat(result).hasSize(2);
-        assertThat(result.stream().map(Transaction::getAmount))
-                .containsExactlyInAnyOrder(new BigDecimal("100"), new BigDecimal("200"));
+        assertThat(result).extracting(TransactionResponseDTO::getAmount)
+                .usingElementComparator(BigDecimal::compareTo)
+                .containsExactly(new BigDecimal("100"), new BigDecimal("200"));
+        assertThat(result).extracting(dto -> dto.getSeller().getName())
+                .containsExactly("S1", "S2");
     }
 
     @Test
@@ -136,6 +153,112 @@ class TransactionRepositoryTest {
         assertThat(view.getVersion()).isEqualTo(0L);
     }
 
+    @Test
+    void countBySellerIdAndNotDeleted_ignoresDeletedAndOtherSellers() {
+        Seller seller = createAndPersistSeller("Counted Seller");
+        Seller other = createAndPersistSeller("Other Seller");
+        createAndPersistTransaction(seller, new BigDecimal("10"), PaymentType.CASH, LocalDateTime.now(), false);
+        createAndPersistTransaction(seller, new BigDecimal("20"), PaymentType.CARD, LocalDateTime.now(), false);
+        createAndPersistTransaction(seller, new BigDecimal("30"), PaymentType.CARD, LocalDateTime.now(), true);
+        createAndPersistTransaction(other, new BigDecimal("40"), PaymentType.CASH, LocalDateTime.now(), false);
+
+        assertThat(transactionRepository.countBySellerIdAndNotDeleted(seller.getId())).isEqualTo(2L);
+    }
+
+    @Test
+    void findFullSpanBySellerId_aggregatesWholeHistory() {
+        Seller seller = createAndPersistSeller("Span Seller");
+        LocalDateTime first = LocalDateTime.of(2024, 9, 1, 8, 0);
+        LocalDateTime last = LocalDateTime.of(2024, 9, 20, 18, 0);
+        createAndPersistTransaction(seller, new BigDecimal("10"), PaymentType.CASH, first, false);
+        createAndPersistTransaction(seller, new BigDecimal("15"), PaymentType.CARD, last, false);
+        createAndPersistTransaction(seller, new BigDecimal("99"), PaymentType.CARD, last.plusDays(1), true);
+
+        Optional<BestPeriodView> result = transactionRepository.findFullSpanBySellerId(seller.getId());
+
+        assertThat(result).isPresent();
+        assertThat(result.get().getStartDate()).isEqualTo(first);
+        assertThat(result.get().getEndDate()).isEqualTo(last);
+        assertThat(result.get().getTransactionCount()).isEqualTo(2L);
+        assertThat(result.get().getTotalAmount()).isEqualByComparingTo("25");
+    }
+
+    @Test
+    void findPageNotDeletedAfter_walksKeysetInDateAndIdOrder() {
+        Seller seller = createAndPersistSeller("Paged Seller");
+        LocalDateTime sameMoment = LocalDateTime.of(2024, 10, 1, 12, 0);
+        Transaction first = createAndPersistTransaction(seller, new BigDecimal("1"), PaymentType.CASH, sameMoment, false);
+        Transaction second = createAndPersistTransaction(seller, new BigDecimal("2"), PaymentType.CASH, sameMoment, false);
+        createAndPersistTransaction(seller, new BigDecimal("3"), PaymentType.CASH, sameMoment.plusHours(1), true);
+        Transaction third = createAndPersistTransaction(seller, new BigDecimal("4"), PaymentType.CASH, sameMoment.plusHours(2), false);
+
+        List<Transaction> firstPage = transactionRepository.findPageNotDeleted(PageRequest.ofSize(1));
+        List<Transaction> secondPage = transactionRepository.findPageNotDeletedAfter(
+                first.getTransactionDate(), first.getId(), PageRequest.ofSize(1));
+        List<Transaction> thirdPage = transactionRepository.findPageNotDeletedAfter(
+                second.getTransactionDate(), second.getId(), PageRequest.ofSize(5));
+
+        assertThat(firstPage).extracting(Transaction::getId).containsExactly(first.getId());
+        assertThat(secondPage).extracting(Transaction::getId).containsExactly(second.getId());
+        assertThat(thirdPage).extracting(Transaction::getId).containsExactly(third.getId());
+    }
+
+    @Test
+    void streamAllForExport_streamsActiveRowsWithSellerColumns() {
+        Seller seller = createAndPersistSeller("Exported Seller");
+        LocalDateTime date = LocalDateTime.of(2024, 11, 5, 9, 0);
+        Transaction later = createAndPersistTransaction(seller, new BigDecimal("20"), PaymentType.CARD, date.plusHours(1), false);
+        Transaction earlier = createAndPersistTransaction(seller, new BigDecimal("10"), PaymentType.CASH, date, false);
+        createAndPersistTransaction(seller, new BigDecimal("30"), PaymentType.CASH, date, true);
+
+        List<TransactionExportView> rows;
+        try (Stream<TransactionExportView> stream = transactionRepository.streamAllForExport()) {
+            rows = stream.filter(row -> row.getSellerId().equals(seller.getId())).toList();
+        }
+
+        assertThat(rows).extracting(TransactionExportView::getId).containsExactly(earlier.getId(), later.getId());
+        assertThat(rows.getFirst().getSellerName()).isEqualTo("Exported Seller");
+        assertThat(rows.getFirst().getAmount()).isEqualByComparingTo("10");
+        assertThat(rows.getFirst().getPaymentType()).isEqualTo(PaymentType.CASH);
+    }
+
+    @Test
+    void sumBySellerAndHour_groupsActiveTransactionsByHour() {
+        Seller seller = createAndPersistSeller("Hourly");
+        LocalDateTime hour = LocalDateTime.of(2025, 5, 1, 23, 0);
+        createAndPersistTransaction(seller, new BigDecimal("10"), PaymentType.CASH, hour.plusMinutes(5), false);
+        createAndPersistTransaction(seller, new BigDecimal("15"), PaymentType.CARD, hour.plusMinutes(50), false);
+        createAndPersistTransaction(seller, new BigDecimal("99"), PaymentType.CARD, hour.plusMinutes(55), true);
+        createAndPersistTransaction(seller, new BigDecimal("7"), PaymentType.CASH, hour.plusHours(1), false);
+
+        List<SellerHourTotalView> result = transactionRepository.sumBySellerAndHour(hour, hour.plusHours(2));
+
+        assertThat(result).hasSize(2);
+        SellerHourTotalView first = result.stream()
+                .filter(row -> row.getBucketHour() == 23)
+                .findFirst()
+                .orElseThrow();
+        assertThat(first.getSellerId()).isEqualTo(seller.getId());
+        assertThat(first.getBucketDay()).isEqualTo(LocalDate.of(2025, 5, 1));
+        assertThat(first.getTotalAmount()).isEqualByComparingTo("25");
+        assertThat(first.getTransactionCount()).isEqualTo(2L);
+    }
+
+    @Test
+    void sumBySellerBeforeAndThrough_differOnlyAtTheEndBoundary() {
+        Seller seller = createAndPersistSeller("Edges");
+        LocalDateTime start = LocalDateTime.of(2025, 5, 1, 10, 0);
+        createAndPersistTransaction(seller, new BigDecimal("10"), PaymentType.CASH, start, false);
+        createAndPersistTransaction(seller, new BigDecimal("5"), PaymentType.CASH, start.plusMinutes(30), false);
+
+        List<SellerTotalView> before = transactionRepository.sumBySellerBefore(start, start.plusMinutes(30));
+        List<SellerTotalView> through = transactionRepository.sumBySellerThrough(start, start.plusMinutes(30));
+
+        assertThat(before.getFirst().getTotalAmount()).isEqualByComparingTo("10");
+        assertThat(through.getFirst().getTotalAmount()).isEqualByComparingTo("15");
+        assertThat(through.getFirst().getTransactionCount()).isEqualTo(2L);
+    }
+
     private Seller createAndPersistSeller(String name) {
         Seller seller = new Seller();
         seller.setName(name);
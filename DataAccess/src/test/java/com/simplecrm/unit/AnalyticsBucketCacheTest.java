@@ -0,0 +1,103 @@
+package com.simplecrm.unit;
+
+import com.simplecrm.Utils.AnalyticsBucketCache;
+import com.simplecrm.Utils.AnalyticsBucketCache.SellerTotal;
+import com.simplecrm.Utils.BucketRange.Bucket;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.ObjectProvider;
+
+import java.math.BigDecimal;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Function;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.mock;
+
+class AnalyticsBucketCacheTest {
+
+    private static final LocalDateTime NOW = LocalDateTime.of(2025, 5, 2, 10, 30);
+
+    private AnalyticsBucketCache cache;
+    private AtomicInteger loads;
+
+    @BeforeEach
+    @SuppressWarnings("unchecked")
+    void setUp() {
+        cache = new AnalyticsBucketCache(mock(ObjectProvider.class), true, 1000, 3660, Duration.ZERO);
+        loads = new AtomicInteger();
+    }
+
+    @Test
+    void sum_loadsClosedBucketOnce() {
+        Bucket closed = hour(9);
+
+        assertEquals(new BigDecimal("5"), cache.sum(List.of(closed), NOW, loader("5")).get(1L).amount());
+        assertEquals(new BigDecimal("5"), cache.sum(List.of(closed), NOW, loader("7")).get(1L).amount());
+        assertEquals(1, loads.get());
+    }
+
+    @Test
+    void sum_recomputesOpenBucket() {
+        Bucket open = hour(10);
+
+        cache.sum(List.of(open), NOW, loader("5"));
+        Map<Long, SellerTotal> second = cache.sum(List.of(open), NOW, loader("7"));
+
+        assertEquals(new BigDecimal("7"), second.get(1L).amount());
+        assertEquals(2, loads.get());
+    }
+
+    @Test
+    void evictAfterCommit_dropsOnlyTouchedBuckets() {
+        cache.sum(List.of(hour(8), hour(9)), NOW, loader("5"));
+
+        cache.evictAfterCommit(List.of(hour(9).start().plusMinutes(15)));
+        Map<Long, SellerTotal> totals = cache.sum(List.of(hour(8), hour(9)), NOW, buckets -> {
+            assertEquals(List.of(hour(9)), buckets);
+            return loader("7").apply(buckets);
+        });
+
+        assertEquals(new BigDecimal("12"), totals.get(1L).amount());
+    }
+
+    @Test
+    void sum_doesNotKeepLoadThatOverlapsEviction() {
+        Bucket closed = hour(9);
+
+        cache.sum(List.of(closed), NOW, buckets -> {
+            cache.evictAfterCommit(List.of(closed.start()));
+            return loader("5").apply(buckets);
+        });
+        cache.sum(List.of(closed), NOW, loader("7"));
+
+        assertEquals(2, loads.get());
+    }
+
+    @Test
+    void covers_rejectsRangesLongerThanMaxDays() {
+        assertTrue(cache.covers(NOW.minusDays(3660), NOW));
+        assertFalse(cache.covers(NOW.minusDays(3661), NOW));
+    }
+
+    private Function<List<Bucket>, Map<Bucket, Map<Long, SellerTotal>>> loader(String amount) {
+        return buckets -> {
+            loads.incrementAndGet();
+            Map<Bucket, Map<Long, SellerTotal>> loaded = new HashMap<>();
+            for (Bucket bucket : buckets) {
+                loaded.put(bucket, Map.of(1L, new SellerTotal(new BigDecimal(amount), 1)));
+            }
+            return loaded;
+        };
+    }
+
+    private static Bucket hour(int hour) {
+        return new Bucket(LocalDateTime.of(2025, 5, 2, hour, 0), ChronoUnit.HOURS);
+    }
+}
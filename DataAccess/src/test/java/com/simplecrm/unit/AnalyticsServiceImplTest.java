@@ -1,28 +1,46 @@
 package com.simplecrm.unit;
 
 import com.simplecrm.AnalyticsDTO.BestPeriodResultDTO;
+import com.simplecrm.AnalyticsDTO.LiveWindow;
+import com.simplecrm.AnalyticsDTO.SellerRankDTO;
 import com.simplecrm.Models.Entities.Seller;
 import com.simplecrm.Models.Entities.Transaction;
 import com.simplecrm.Models.Enums.PaymentType;
+import com.simplecrm.Projections.BestPeriodView;
+import com.simplecrm.Projections.SellerDayTotalView;
+import com.simplecrm.Projections.SellerRankView;
+import com.simplecrm.Projections.SellerTotalView;
+import com.simplecrm.Repositories.SellerDailyTotalRepository;
 import com.simplecrm.Repositories.SellerRepository;
 import com.simplecrm.Repositories.TransactionRepository;
 import com.simplecrm.ResponseDTO.SellerResponseDTO;
 import com.simplecrm.Services.AnalyticsServiceImpl;
+import com.simplecrm.Utils.AnalyticsBucketCache;
+import com.simplecrm.Utils.LiveLeaderboard;
 import com.simplecrm.Utils.Mapper;
+import com.simplecrm.Utils.RollupRange;
+import com.simplecrm.Utils.SellerCache;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.beans.factory.ObjectProvider;
 
 import java.math.BigDecimal;
+import java.time.Duration;
+import java.time.LocalDate;
 import java.time.LocalDateTime;
 import java.util.List;
+import java.util.Optional;
 import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.ExecutionException;
 
 import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.anyDouble;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyLong;
 import static org.mockito.Mockito.*;
 
 @ExtendWith(MockitoExtension.class)
@@ -34,9 +52,21 @@ class AnalyticsServiceImplTest {
     @Mock
     private TransactionRepository transactionRepository;
 
+    @Mock
+    private SellerDailyTotalRepository sellerDailyTotalRepository;
+
     @Mock
     private Mapper mapper;
 
+    @Mock
+    private AnalyticsBucketCache analyticsBucketCache;
+
+    @Mock
+    private LiveLeaderboard liveLeaderboard;
+
+    @Mock
+    private SellerCache sellerCache;
+
     @InjectMocks
     private AnalyticsServiceImpl analyticsService;
 
@@ -91,16 +121,47 @@ class AnalyticsServiceImplTest {
     void findTopSellerByPeriod_success() throws Exception {
         LocalDateTime start = LocalDateTime.now().minusDays(7);
         LocalDateTime end = LocalDateTime.now();
-        List<Seller> sellers = List.of(testSeller);
-        List<SellerResponseDTO> expected = List.of(testSellerResponseDTO);
+        SellerRankView row = mock(SellerRankView.class);
+        SellerRankDTO rank = new SellerRankDTO(testSellerResponseDTO, BigDecimal.TEN, 1);
 
-        when(sellerRepository.findTopSellerByPeriod(start, end)).thenReturn(sellers);
-        when(mapper.mapEntityToSellerResponseDto(testSeller)).thenReturn(testSellerResponseDTO);
+        RollupRange range = RollupRange.of(start, end);
+        when(sellerRepository.findSellerRankingFromRollup(
+                start, range.headEnd(), range.tailStart(), end, range.firstFullDay(), range.lastFullDayExclusive(), 1))
+                .thenReturn(List.of(row));
+        when(mapper.mapSellerRankViewToDto(row)).thenReturn(rank);
 
         CompletableFuture<List<SellerResponseDTO>> future = analyticsService.findTopSellerByPeriod(start, end);
         List<SellerResponseDTO> result = future.get();
 
-        assertEquals(expected, result);
+        assertEquals(List.of(testSellerResponseDTO), result);
+    }
+
+    @Test
+    void findTopSellers_returnsTotalsFromRankingQuery() throws Exception {
+        LocalDateTime start = LocalDateTime.now().minusDays(7);
+        LocalDateTime end = LocalDateTime.now();
+        SellerRankView first = mock(SellerRankView.class);
+        SellerRankView second = mock(SellerRankView.class);
+        SellerRankDTO firstRank = new SellerRankDTO(testSellerResponseDTO, new BigDecimal("300"), 3);
+        SellerRankDTO secondRank = new SellerRankDTO(new SellerResponseDTO(), new BigDecimal("100"), 1);
+
+        when(sellerRepository.findSellerRankingFromRollup(any(), any(), any(), any(), any(), any(), eq(5)))
+                .thenReturn(List.of(first, second));
+        when(mapper.mapSellerRankViewToDto(first)).thenReturn(firstRank);
+        when(mapper.mapSellerRankViewToDto(second)).thenReturn(secondRank);
+
+        List<SellerRankDTO> result = analyticsService.findTopSellers(start, end, 5).get();
+
+        assertEquals(List.of(firstRank, secondRank), result);
+        verify(sellerRepository, never()).findAllNotDeleted();
+    }
+
+    @Test
+    void findTopSellers_nonPositiveLimit() throws Exception {
+        LocalDateTime end = LocalDateTime.now();
+
+        assertTrue(analyticsService.findTopSellers(end.minusDays(1), end, 0).get().isEmpty());
+        verifyNoInteractions(sellerRepository);
     }
 
     @Test
@@ -139,7 +200,10 @@ class AnalyticsServiceImplTest {
         LocalDateTime start = LocalDateTime.now().minusDays(7);
         LocalDateTime end = LocalDateTime.now();
 
-        when(sellerRepository.findTopSellerByPeriod(start, end)).thenThrow(new RuntimeException("DB error"));
+        RollupRange range = RollupRange.of(start, end);
+        when(sellerRepository.findSellerRankingFromRollup(
+                start, range.headEnd(), range.tailStart(), end, range.firstFullDay(), range.lastFullDayExclusive(), 1))
+                .thenThrow(new RuntimeException("DB error"));
 
         CompletableFuture<List<SellerResponseDTO>> future = analyticsService.findTopSellerByPeriod(start, end);
         List<SellerResponseDTO> result = future.get();
@@ -155,8 +219,10 @@ class AnalyticsServiceImplTest {
         List<Seller> sellers = List.of(testSeller);
         List<SellerResponseDTO> expected = List.of(testSellerResponseDTO);
 
-        when(sellerRepository.findSellersWithAmountLessThan(amount, start, end)).thenReturn(sellers);
-        when(mapper.mapEntityToSellerResponseDto(testSeller)).thenReturn(testSellerResponseDTO);
+        RollupRange range = RollupRange.of(start, end);
+        when(sellerRepository.findSellersWithAmountLessThanFromRollup(amount,
+                start, range.headEnd(), range.tailStart(), end, range.firstFullDay(), range.lastFullDayExclusive())).thenReturn(sellers);
+        when(mapper.mapSellerEntityToResponseDto(testSeller, false)).thenReturn(testSellerResponseDTO);
 
         CompletableFuture<List<SellerResponseDTO>> future = analyticsService.findSellersWithTotalAmountLessThan(amount, start, end);
         List<SellerResponseDTO> result = future.get();
@@ -227,7 +293,9 @@ class AnalyticsServiceImplTest {
         LocalDateTime start = LocalDateTime.now().minusDays(7);
         LocalDateTime end = LocalDateTime.now();
 
-        when(sellerRepository.findSellersWithAmountLessThan(amount, start, end)).thenThrow(new RuntimeException("DB error"));
+        RollupRange range = RollupRange.of(start, end);
+        when(sellerRepository.findSellersWithAmountLessThanFromRollup(amount,
+                start, range.headEnd(), range.tailStart(), end, range.firstFullDay(), range.lastFullDayExclusive())).thenThrow(new RuntimeException("DB error"));
 
         CompletableFuture<List<SellerResponseDTO>> future = analyticsService.findSellersWithTotalAmountLessThan(amount, start, end);
         List<SellerResponseDTO> result = future.get();
@@ -364,4 +432,236 @@ class AnalyticsServiceImplTest {
         assertEquals(expected.getEndDate(), result.getEndDate());
         assertEquals(expected.getTransactionCount(), result.getTransactionCount());
     }
-}
\ No newline at end of file
+
+    @Test
+    void findBestTransactionPeriodForSeller_withWindow_returnsDensestWindow() throws Exception {
+        Long sellerId = 1L;
+        LocalDateTime base = LocalDateTime.of(2025, 3, 1, 10, 0);
+
+        List<Transaction> transactions = List.of(
+                transactionAt(base, "5"),
+                transactionAt(base.plusHours(5), "1"),
+                transactionAt(base.plusHours(5).plusMinutes(10), "1"),
+                transactionAt(base.plusHours(5).plusMinutes(50), "1"),
+                transactionAt(base.plusHours(9), "100")
+        );
+
+        when(transactionRepository.findBySellerIdAndNotDeleted(sellerId)).thenReturn(transactions);
+
+        BestPeriodResultDTO result = analyticsService
+                .findBestTransactionPeriodForSeller(sellerId, Duration.ofHours(1)).get();
+
+        assertEquals(base.plusHours(5), result.getStartDate());
+        assertEquals(base.plusHours(5).plusMinutes(50), result.getEndDate());
+        assertEquals(3, result.getTransactionCount());
+        assertEquals(0, new BigDecimal("3").compareTo(result.getTotalAmount()));
+
+        assertEquals(base.plusHours(9), result.getAmountStartDate());
+        assertEquals(base.plusHours(9), result.getAmountEndDate());
+        assertEquals(1, result.getAmountTransactionCount());
+        assertEquals(0, new BigDecimal("100").compareTo(result.getAmountTotal()));
+    }
+
+    @Test
+    void findBestTransactionPeriodForSeller_nonPositiveWindow() throws Exception {
+        BestPeriodResultDTO result = analyticsService
+                .findBestTransactionPeriodForSeller(1L, Duration.ZERO).get();
+
+        assertEquals(0, result.getTransactionCount());
+        verifyNoInteractions(transactionRepository);
+    }
+
+    @Test
+    void findBestTransactionPeriodForSeller_largeHistory_usesDatabaseWindow() throws Exception {
+        Long sellerId = 1L;
+        LocalDateTime start = LocalDateTime.of(2025, 3, 1, 10, 0);
+        BestPeriodView view = bestPeriodView(start, start.plusMinutes(40), 120L, new BigDecimal("900"),
+                start.plusDays(2), start.plusDays(2).plusMinutes(55), 30L, new BigDecimal("5000"));
+
+        when(transactionRepository.countBySellerIdAndNotDeleted(sellerId)).thenReturn(250_000L);
+        when(transactionRepository.findBestPeriodBySellerId(sellerId, 3600.0)).thenReturn(Optional.of(view));
+
+        BestPeriodResultDTO result = analyticsService
+                .findBestTransactionPeriodForSeller(sellerId, Duration.ofHours(1)).get();
+
+        assertEquals(start, result.getStartDate());
+        assertEquals(start.plusMinutes(40), result.getEndDate());
+        assertEquals(120, result.getTransactionCount());
+        assertEquals(30, result.getAmountTransactionCount());
+        assertEquals(new BigDecimal("5000"), result.getAmountTotal());
+        verify(transactionRepository, never()).findBySellerIdAndNotDeleted(anyLong());
+    }
+
+    @Test
+    void findBestTransactionPeriodForSeller_largeHistoryWithoutWindow_usesFullSpan() throws Exception {
+        Long sellerId = 1L;
+        LocalDateTime start = LocalDateTime.of(2024, 1, 1, 0, 0);
+        LocalDateTime end = LocalDateTime.of(2025, 1, 1, 0, 0);
+        BestPeriodView view = bestPeriodView(start, end, 250_000L, new BigDecimal("1000000"),
+                start, end, 250_000L, new BigDecimal("1000000"));
+
+        when(transactionRepository.countBySellerIdAndNotDeleted(sellerId)).thenReturn(250_000L);
+        when(transactionRepository.findFullSpanBySellerId(sellerId)).thenReturn(Optional.of(view));
+
+        BestPeriodResultDTO result = analyticsService.findBestTransactionPeriodForSeller(sellerId).get();
+
+        assertEquals(start, result.getStartDate());
+        assertEquals(end, result.getEndDate());
+        assertEquals(250_000, result.getTransactionCount());
+        verify(transactionRepository, never()).findBestPeriodBySellerId(anyLong(), anyDouble());
+    }
+
+    @Test
+    void findTopSellerByPeriod_multiDayRange_readsWholeDaysFromRollup() throws Exception {
+        LocalDateTime start = LocalDateTime.of(2025, 5, 1, 15, 30);
+        LocalDateTime end = LocalDateTime.of(2025, 5, 10, 9, 0);
+
+        when(sellerRepository.findSellerRankingFromRollup(any(), any(), any(), any(), any(), any(), anyInt()))
+                .thenReturn(List.of());
+
+        analyticsService.findTopSellerByPeriod(start, end).get();
+
+        verify(sellerRepository).findSellerRankingFromRollup(
+                start,
+                LocalDateTime.of(2025, 5, 2, 0, 0),
+                LocalDateTime.of(2025, 5, 10, 0, 0),
+                end,
+                LocalDate.of(2025, 5, 2),
+                LocalDate.of(2025, 5, 10),
+                1);
+    }
+
+    @Test
+    void findTopSellerByPeriod_bucketCache_reusesClosedDaysAndSkipsDeletedSellers() throws Exception {
+        AnalyticsServiceImpl service = bucketedService();
+        LocalDateTime start = LocalDateTime.of(2025, 5, 1, 0, 0);
+        LocalDateTime end = LocalDateTime.of(2025, 5, 4, 0, 0);
+        List<SellerDayTotalView> days = List.of(
+                dayTotal(1L, LocalDate.of(2025, 5, 1), "30", 2L),
+                dayTotal(2L, LocalDate.of(2025, 5, 2), "90", 1L),
+                dayTotal(1L, LocalDate.of(2025, 5, 3), "40", 1L));
+
+        when(transactionRepository.sumBySellerThrough(end, end)).thenReturn(List.of());
+        when(sellerDailyTotalRepository.sumBySellerAndDay(LocalDate.of(2025, 5, 1), LocalDate.of(2025, 5, 4)))
+                .thenReturn(days);
+        when(sellerRepository.findAllNotDeletedByIdIn(List.of(2L))).thenReturn(List.of());
+        when(sellerRepository.findAllNotDeletedByIdIn(List.of(1L))).thenReturn(List.of(testSeller));
+        when(mapper.mapSellerEntityToResponseDto(testSeller, false)).thenReturn(testSellerResponseDTO);
+
+        assertEquals(List.of(testSellerResponseDTO), service.findTopSellerByPeriod(start, end).get());
+        assertEquals(List.of(testSellerResponseDTO), service.findTopSellerByPeriod(start, end).get());
+
+        verify(sellerDailyTotalRepository, times(1)).sumBySellerAndDay(any(), any());
+        verify(sellerRepository, never()).findSellerRankingFromRollup(any(), any(), any(), any(), any(), any(), anyInt());
+    }
+
+    @Test
+    void findSellersWithTotalAmountLessThan_bucketCache_addsRawEdgesToBuckets() throws Exception {
+        AnalyticsServiceImpl service = bucketedService();
+        LocalDateTime start = LocalDateTime.of(2025, 5, 1, 23, 30);
+        LocalDateTime end = LocalDateTime.of(2025, 5, 3, 0, 15);
+        Seller other = new Seller();
+        other.setId(2L);
+        SellerResponseDTO otherDto = new SellerResponseDTO();
+        otherDto.setId(2L);
+
+        List<SellerTotalView> head = List.of(rawTotal(1L, "60", 1L));
+        List<SellerTotalView> tail = List.of(rawTotal(2L, "10", 1L));
+        List<SellerDayTotalView> days = List.of(dayTotal(1L, LocalDate.of(2025, 5, 2), "50", 1L));
+
+        when(transactionRepository.sumBySellerBefore(start, LocalDateTime.of(2025, 5, 2, 0, 0))).thenReturn(head);
+        when(transactionRepository.sumBySellerThrough(LocalDateTime.of(2025, 5, 3, 0, 0), end)).thenReturn(tail);
+        when(sellerDailyTotalRepository.sumBySellerAndDay(LocalDate.of(2025, 5, 2), LocalDate.of(2025, 5, 3)))
+                .thenReturn(days);
+        when(sellerRepository.findAllNotDeleted()).thenReturn(List.of(testSeller, other));
+        when(mapper.mapSellerEntityToResponseDto(other, false)).thenReturn(otherDto);
+
+        List<SellerResponseDTO> result = service
+                .findSellersWithTotalAmountLessThan(BigDecimal.valueOf(100), start, end).get();
+
+        assertEquals(List.of(otherDto), result);
+        verify(transactionRepository, never()).sumBySellerAndHour(any(), any());
+    }
+
+    @Test
+    void findLiveTopSellers_skipsDeletedSellersAndWidensRead() throws Exception {
+        SellerResponseDTO cachedSeller = new SellerResponseDTO();
+        cachedSeller.setId(3L);
+        cachedSeller.setVersion(7L);
+        when(liveLeaderboard.isEnabled()).thenReturn(true);
+        when(liveLeaderboard.top(eq(LiveWindow.TODAY), eq(2), any())).thenReturn(List.of(
+                new LiveLeaderboard.Rank(9L, new BigDecimal("500"), 5),
+                new LiveLeaderboard.Rank(3L, new BigDecimal("400"), 2)));
+        when(liveLeaderboard.top(eq(LiveWindow.TODAY), eq(4), any())).thenReturn(List.of(
+                new LiveLeaderboard.Rank(9L, new BigDecimal("500"), 5),
+                new LiveLeaderboard.Rank(3L, new BigDecimal("400"), 2),
+                new LiveLeaderboard.Rank(1L, new BigDecimal("300"), 1)));
+        when(sellerCache.getIfPresent(9L)).thenReturn(new SellerCache.CachedSeller(4L, null));
+        when(sellerCache.getIfPresent(3L)).thenReturn(new SellerCache.CachedSeller(7L, cachedSeller));
+        when(sellerRepository.findNotDeletedById(1L)).thenReturn(Optional.of(testSeller));
+        when(mapper.mapSellerEntityToResponseDto(testSeller, false)).thenReturn(testSellerResponseDTO);
+
+        List<SellerRankDTO> result = analyticsService.findLiveTopSellers(LiveWindow.TODAY, 2).get();
+
+        assertEquals(2, result.size());
+        assertEquals(3L, result.get(0).getSeller().getId());
+        assertNull(result.get(0).getSeller().getVersion());
+        assertEquals(new BigDecimal("400"), result.get(0).getTotalAmount());
+        assertEquals(testSellerResponseDTO, result.get(1).getSeller());
+        verify(sellerCache).put(testSeller);
+    }
+
+    @Test
+    void findLiveTopSellers_disabled() throws Exception {
+        assertTrue(analyticsService.findLiveTopSellers(LiveWindow.HOUR, 5).get().isEmpty());
+        verify(liveLeaderboard, never()).top(any(), anyInt(), any());
+    }
+
+    @SuppressWarnings("unchecked")
+    private AnalyticsServiceImpl bucketedService() {
+        AnalyticsBucketCache cache = new AnalyticsBucketCache(mock(ObjectProvider.class), true, 10_000, 3660, Duration.ZERO);
+        return new AnalyticsServiceImpl(sellerRepository, transactionRepository, sellerDailyTotalRepository, mapper, cache,
+                liveLeaderboard, sellerCache);
+    }
+
+    private SellerTotalView rawTotal(Long sellerId, String amount, Long count) {
+        SellerTotalView view = mock(SellerTotalView.class);
+        when(view.getSellerId()).thenReturn(sellerId);
+        when(view.getTotalAmount()).thenReturn(new BigDecimal(amount));
+        when(view.getTransactionCount()).thenReturn(count);
+        return view;
+    }
+
+    private SellerDayTotalView dayTotal(Long sellerId, LocalDate day, String amount, Long count) {
+        SellerDayTotalView view = mock(SellerDayTotalView.class);
+        when(view.getSellerId()).thenReturn(sellerId);
+        when(view.getBucketDay()).thenReturn(day);
+        when(view.getTotalAmount()).thenReturn(new BigDecimal(amount));
+        when(view.getTransactionCount()).thenReturn(count);
+        return view;
+    }
+
+    private BestPeriodView bestPeriodView(LocalDateTime startDate, LocalDateTime endDate, Long count, BigDecimal total,
+                                          LocalDateTime amountStartDate, LocalDateTime amountEndDate,
+                                          Long amountCount, BigDecimal amountTotal) {
+        BestPeriodView view = mock(BestPeriodView.class);
+        lenient().when(view.getStartDate()).thenReturn(startDate);
+        lenient().when(view.getEndDate()).thenReturn(endDate);
+        lenient().when(view.getTransactionCount()).thenReturn(count);
+        lenient().when(view.getTotalAmount()).thenReturn(total);
+        lenient().when(view.getAmountStartDate()).thenReturn(amountStartDate);
+        lenient().when(view.getAmountEndDate()).thenReturn(amountEndDate);
+        lenient().when(view.getAmountTransactionCount()).thenReturn(amountCount);
+        lenient().when(view.getAmountTotal()).thenReturn(amountTotal);
+        return view;
+    }
+
+    private Transaction transactionAt(LocalDateTime date, String amount) {
+        Transaction transaction = new Transaction();
+        transaction.setSeller(testSeller);
+        transaction.setAmount(new BigDecimal(amount));
+        transaction.setPaymentType(PaymentType.CARD);
+        transaction.setTransactionDate(date);
+        return transaction;
+    }
+}
@@ -0,0 +1,89 @@
+package com.simplecrm.unit;
+
+import com.simplecrm.Utils.BestPeriodCalculator;
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+import java.time.Duration;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class BestPeriodCalculatorTest {
+
+    private static final long MINUTE = 60_000L;
+
+    @Test
+    void compute_emptyInput_returnsEmptyResult() {
+        BestPeriodCalculator.Result result = BestPeriodCalculator.compute(new long[0], new BigDecimal[0], Duration.ofHours(1));
+
+        assertTrue(result.isEmpty());
+        assertEquals(0, result.transactionCount());
+    }
+
+    @Test
+    void compute_nullWindow_spansWholeHistory() {
+        long[] times = {0, 10 * MINUTE, 600 * MINUTE};
+        BigDecimal[] amounts = {BigDecimal.ONE, BigDecimal.ONE, BigDecimal.TEN};
+
+        BestPeriodCalculator.Result result = BestPeriodCalculator.compute(times, amounts, null);
+
+        assertEquals(0, result.countStartIndex());
+        assertEquals(2, result.countEndIndex());
+        assertEquals(3, result.transactionCount());
+        assertEquals(0, new BigDecimal("12").compareTo(result.totalAmount()));
+        assertEquals(0, new BigDecimal("12").compareTo(result.amountTotal()));
+    }
+
+    @Test
+    void compute_windowBoundaryIsInclusive() {
+        long[] times = {0, 60 * MINUTE, 61 * MINUTE};
+        BigDecimal[] amounts = {BigDecimal.ONE, BigDecimal.ONE, BigDecimal.ONE};
+
+        BestPeriodCalculator.Result result = BestPeriodCalculator.compute(times, amounts, Duration.ofHours(1));
+
+        assertEquals(0, result.countStartIndex());
+        assertEquals(1, result.countEndIndex());
+        assertEquals(2, result.transactionCount());
+    }
+
+    @Test
+    void compute_countAndAmountWindowsCanDiffer() {
+        long[] times = {0, MINUTE, 2 * MINUTE, 300 * MINUTE, 301 * MINUTE};
+        BigDecimal[] amounts = {BigDecimal.ONE, BigDecimal.ONE, BigDecimal.ONE, new BigDecimal("50"), new BigDecimal("60")};
+
+        BestPeriodCalculator.Result result = BestPeriodCalculator.compute(times, amounts, Duration.ofMinutes(5));
+
+        assertEquals(0, result.countStartIndex());
+        assertEquals(2, result.countEndIndex());
+        assertEquals(3, result.transactionCount());
+        assertEquals(0, new BigDecimal("3").compareTo(result.totalAmount()));
+
+        assertEquals(3, result.amountStartIndex());
+        assertEquals(4, result.amountEndIndex());
+        assertEquals(2, result.amountTransactionCount());
+        assertEquals(0, new BigDecimal("110").compareTo(result.amountTotal()));
+    }
+
+    @Test
+    void compute_tieKeepsEarliestWindow() {
+        long[] times = {0, MINUTE, 100 * MINUTE, 101 * MINUTE};
+        BigDecimal[] amounts = {BigDecimal.ONE, BigDecimal.ONE, BigDecimal.ONE, BigDecimal.ONE};
+
+        BestPeriodCalculator.Result result = BestPeriodCalculator.compute(times, amounts, Duration.ofMinutes(10));
+
+        assertEquals(0, result.countStartIndex());
+        assertEquals(1, result.countEndIndex());
+        assertEquals(0, result.amountStartIndex());
+    }
+
+    @Test
+    void compute_nullAmountsCountAsZero() {
+        long[] times = {0, MINUTE};
+        BigDecimal[] amounts = {null, BigDecimal.TEN};
+
+        BestPeriodCalculator.Result result = BestPeriodCalculator.compute(times, amounts, Duration.ofHours(1));
+
+        assertEquals(2, result.transactionCount());
+        assertEquals(0, BigDecimal.TEN.compareTo(result.totalAmount()));
+    }
+}
@@ -0,0 +1,81 @@
+package com.simplecrm.unit;
+
+import com.simplecrm.Utils.BucketRange;
+import com.simplecrm.Utils.BucketRange.Bucket;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class BucketRangeTest {
+
+    @Test
+    void of_splitsIntoRawEdgesHoursAndDays() {
+        LocalDateTime start = LocalDateTime.of(2025, 5, 1, 21, 40);
+        LocalDateTime end = LocalDateTime.of(2025, 5, 4, 2, 10);
+
+        BucketRange range = BucketRange.of(start, end);
+
+        assertEquals(LocalDateTime.of(2025, 5, 1, 22, 0), range.headEnd());
+        assertEquals(LocalDateTime.of(2025, 5, 4, 2, 0), range.tailStart());
+        assertEquals(List.of(
+                hour(2025, 5, 1, 22), hour(2025, 5, 1, 23),
+                hour(2025, 5, 4, 0), hour(2025, 5, 4, 1)), range.hours());
+        assertEquals(List.of(day(2025, 5, 2), day(2025, 5, 3)), range.days());
+    }
+
+    @Test
+    void of_withinOneHour_isAllRaw() {
+        LocalDateTime start = LocalDateTime.of(2025, 5, 1, 10, 5);
+        LocalDateTime end = LocalDateTime.of(2025, 5, 1, 10, 55);
+
+        BucketRange range = BucketRange.of(start, end);
+
+        assertFalse(range.hasHead());
+        assertEquals(start, range.tailStart());
+        assertTrue(range.hours().isEmpty());
+        assertTrue(range.days().isEmpty());
+    }
+
+    @Test
+    void of_acrossMidnightWithoutFullDay_usesHoursOnly() {
+        BucketRange range = BucketRange.of(LocalDateTime.of(2025, 5, 1, 22, 0), LocalDateTime.of(2025, 5, 2, 1, 30));
+
+        assertFalse(range.hasHead());
+        assertEquals(List.of(hour(2025, 5, 1, 22), hour(2025, 5, 1, 23), hour(2025, 5, 2, 0)), range.hours());
+        assertTrue(range.days().isEmpty());
+    }
+
+    @Test
+    void containing_returnsHourAndDayOfTransaction() {
+        assertEquals(List.of(hour(2025, 5, 1, 13), day(2025, 5, 1)),
+                BucketRange.containing(LocalDateTime.of(2025, 5, 1, 13, 45, 12)));
+    }
+
+    @Test
+    void contiguousRuns_splitsAtGaps() {
+        List<List<Bucket>> runs = BucketRange.contiguousRuns(List.of(
+                hour(2025, 5, 1, 1), hour(2025, 5, 1, 2), hour(2025, 5, 1, 5)));
+
+        assertEquals(List.of(List.of(hour(2025, 5, 1, 1), hour(2025, 5, 1, 2)), List.of(hour(2025, 5, 1, 5))), runs);
+    }
+
+    @Test
+    void bucket_isClosedOnlyOnceItEnds() {
+        Bucket bucket = hour(2025, 5, 1, 10);
+
+        assertFalse(bucket.isClosedAt(LocalDateTime.of(2025, 5, 1, 10, 59)));
+        assertTrue(bucket.isClosedAt(LocalDateTime.of(2025, 5, 1, 11, 0)));
+    }
+
+    private static Bucket hour(int year, int month, int day, int hour) {
+        return new Bucket(LocalDateTime.of(year, month, day, hour, 0), ChronoUnit.HOURS);
+    }
+
+    private static Bucket day(int year, int month, int day) {
+        return new Bucket(LocalDateTime.of(year, month, day, 0, 0), ChronoUnit.DAYS);
+    }
+}
@@ -0,0 +1,115 @@
+package com.simplecrm.unit;
+
+import com.simplecrm.AnalyticsDTO.LiveWindow;
+import com.simplecrm.Models.Entities.Seller;
+import com.simplecrm.Models.Entities.Transaction;
+import com.simplecrm.Utils.LiveLeaderboard;
+import com.simplecrm.Utils.LiveLeaderboard.Rank;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class LiveLeaderboardTest {
+
+    // A Wednesday, so TODAY and WEEK start at different points.
+    private static final LocalDateTime NOW = LocalDateTime.of(2025, 5, 7, 12, 30);
+
+    private LiveLeaderboard leaderboard;
+
+    @BeforeEach
+    void setUp() {
+        leaderboard = new LiveLeaderboard(true);
+    }
+
+    @Test
+    void top_ranksSellersByAmountPerWindow() {
+        leaderboard.upsert(1L, 0L, 10L, new BigDecimal("100"), NOW.minusMinutes(5), NOW);
+        leaderboard.upsert(2L, 0L, 20L, new BigDecimal("150"), NOW.minusHours(3), NOW);
+        leaderboard.upsert(3L, 0L, 10L, new BigDecimal("80"), NOW.minusDays(2), NOW);
+
+        assertEquals(List.of(new Rank(10L, new BigDecimal("100"), 1)), leaderboard.top(LiveWindow.HOUR, 5, NOW));
+        assertEquals(List.of(new Rank(20L, new BigDecimal("150"), 1), new Rank(10L, new BigDecimal("100"), 1)),
+                leaderboard.top(LiveWindow.TODAY, 5, NOW));
+        assertEquals(List.of(new Rank(10L, new BigDecimal("180"), 2), new Rank(20L, new BigDecimal("150"), 1)),
+                leaderboard.top(LiveWindow.WEEK, 5, NOW));
+        assertEquals(1, leaderboard.top(LiveWindow.WEEK, 1, NOW).size());
+    }
+
+    @Test
+    void upsert_newerVersionReplacesPreviousAmountAndSeller() {
+        leaderboard.upsert(1L, 0L, 10L, new BigDecimal("100"), NOW.minusMinutes(5), NOW);
+        leaderboard.upsert(1L, 1L, 20L, new BigDecimal("40"), NOW.minusMinutes(5), NOW);
+        leaderboard.upsert(1L, 0L, 10L, new BigDecimal("100"), NOW.minusMinutes(5), NOW);
+
+        assertEquals(List.of(new Rank(20L, new BigDecimal("40"), 1)), leaderboard.top(LiveWindow.HOUR, 5, NOW));
+    }
+
+    @Test
+    void remove_subtractsAndBlocksOlderReplays() {
+        leaderboard.upsert(1L, 0L, 10L, new BigDecimal("100"), NOW.minusMinutes(5), NOW);
+        leaderboard.upsert(2L, 0L, 10L, new BigDecimal("30"), NOW.minusMinutes(5), NOW);
+
+        leaderboard.remove(1L, 1L, NOW);
+        leaderboard.upsert(1L, 0L, 10L, new BigDecimal("100"), NOW.minusMinutes(5), NOW);
+
+        assertEquals(List.of(new Rank(10L, new BigDecimal("30"), 1)), leaderboard.top(LiveWindow.HOUR, 5, NOW));
+    }
+
+    @Test
+    void recordAfterCommit_withoutTransaction_appliesSoftDeleteImmediately() {
+        Transaction transaction = transaction(1L, 0L, LocalDateTime.now());
+        leaderboard.recordAfterCommit(transaction);
+        assertEquals(1, leaderboard.top(LiveWindow.HOUR, 5, LocalDateTime.now()).size());
+
+        transaction.setDeleted(true);
+        transaction.setVersion(1L);
+        leaderboard.recordAfterCommit(transaction);
+
+        assertTrue(leaderboard.top(LiveWindow.HOUR, 5, LocalDateTime.now()).isEmpty());
+    }
+
+    @Test
+    void top_dropsMinutesThatLeaveTheWindowAndAddsOnesThatEnter() {
+        leaderboard.upsert(1L, 0L, 10L, new BigDecimal("100"), NOW.minusMinutes(50), NOW);
+        leaderboard.upsert(2L, 0L, 20L, new BigDecimal("70"), NOW.plusMinutes(20), NOW);
+
+        assertEquals(List.of(new Rank(10L, new BigDecimal("100"), 1)), leaderboard.top(LiveWindow.HOUR, 5, NOW));
+        assertEquals(List.of(new Rank(20L, new BigDecimal("70"), 1)),
+                leaderboard.top(LiveWindow.HOUR, 5, NOW.plusMinutes(30)));
+    }
+
+    @Test
+    void top_resetsTodayAtMidnight() {
+        leaderboard.upsert(1L, 0L, 10L, new BigDecimal("100"), NOW, NOW);
+
+        LocalDateTime tomorrow = NOW.plusDays(1).withHour(0).withMinute(5);
+        assertTrue(leaderboard.top(LiveWindow.TODAY, 5, tomorrow).isEmpty());
+        assertEquals(1, leaderboard.top(LiveWindow.WEEK, 5, tomorrow).size());
+    }
+
+    @Test
+    void disabled_ignoresWritesAndReads() {
+        LiveLeaderboard disabled = new LiveLeaderboard(false);
+        disabled.upsert(1L, 0L, 10L, new BigDecimal("100"), NOW, NOW);
+
+        assertTrue(disabled.top(LiveWindow.HOUR, 5, NOW).isEmpty());
+    }
+
+    private Transaction transaction(Long id, Long version, LocalDateTime date) {
+        Seller seller = new Seller();
+        seller.setId(10L);
+        Transaction transaction = new Transaction();
+        transaction.setId(id);
+        transaction.setVersion(version);
+        transaction.setSeller(seller);
+        transaction.setAmount(new BigDecimal("25"));
+        transaction.setTransactionDate(date);
+        transaction.setDeleted(false);
+        return transaction;
+    }
+}
@@ -11,6 +11,8 @@ import org.junit.jupiter.api.Test;
 
 import java.math.BigDecimal;
 import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
 
 import static org.junit.jupiter.api.Assertions.*;
 
@@ -84,11 +86,12 @@ class MapperTest {
 
     @Test
     void mapSellerEntityToResponseDto_nullSeller_returnsNull() {
-        assertNull(mapper.mapSellerEntityToResponseDto(null));
+        assertNull(mapper.mapSellerEntityToResponseDto(null, true));
+        assertNull(mapper.mapSellerEntityToResponseDto(null, false));
     }
 
     @Test
-    void mapSellerEntityToResponseDto_mapsCorrectly() {
+    void mapSellerEntityToResponseDto_includeVersion_mapsCorrectly() {
         Seller seller = new Seller();
         seller.setId(2L);
         seller.setName("Alice");
@@ -96,7 +99,7 @@ class MapperTest {
         seller.setRegistrationDate(LocalDateTime.now());
         seller.setVersion(3L);
 
-        SellerResponseDTO dto = mapper.mapSellerEntityToResponseDto(seller);
+        SellerResponseDTO dto = mapper.mapSellerEntityToResponseDto(seller, true);
 
         assertNotNull(dto);
         assertEquals(2L, dto.getId());
@@ -107,25 +110,72 @@ class MapperTest {
     }
 
     @Test
-    void mapEntityToSellerResponseDto_nullSeller_returnsNull() {
-        assertNull(mapper.mapEntityToSellerResponseDto(null));
-    }
-
-    @Test
-    void mapEntityToSellerResponseDto_mapsCorrectly_withoutVersion() {
+    void mapSellerEntityToResponseDto_withoutVersion_leavesVersionNull() {
         Seller seller = new Seller();
         seller.setId(5L);
         seller.setName("Bob");
         seller.setContactInfo("bob@example.com");
         seller.setRegistrationDate(LocalDateTime.now());
+        seller.setVersion(4L);
 
-        SellerResponseDTO dto = mapper.mapEntityToSellerResponseDto(seller);
+        SellerResponseDTO dto = mapper.mapSellerEntityToResponseDto(seller, false);
 
         assertNotNull(dto);
         assertEquals(5L, dto.getId());
         assertEquals("Bob", dto.getName());
         assertEquals("bob@example.com", dto.getContactInfo());
         assertEquals(seller.getRegistrationDate(), dto.getRegistrationDate());
-        assertEquals(null, dto.getVersion());
+        assertNull(dto.getVersion());
+    }
+
+    @Test
+    void mapEntitiesToTransactionResponseDtos_sharesSellerDtoPerSeller() {
+        Seller first = seller(1L, "First");
+        Seller second = seller(2L, "Second");
+        List<Transaction> transactions = List.of(
+                transaction(10L, first), transaction(11L, second), transaction(12L, first));
+
+        List<TransactionResponseDTO> result = mapper.mapEntitiesToTransactionResponseDtos(transactions);
+
+        assertEquals(List.of(10L, 11L, 12L), result.stream().map(TransactionResponseDTO::getId).toList());
+        assertSame(result.get(0).getSeller(), result.get(2).getSeller());
+        assertNotSame(result.get(0).getSeller(), result.get(1).getSeller());
+        assertEquals(mapper.mapSellerEntityToResponseDto(first, true), result.get(0).getSeller());
+        assertEquals(mapper.mapEntityToTransactionResponseDto(transactions.get(1)), result.get(1));
+    }
+
+    @Test
+    void mapEntitiesToTransactionResponseDtos_skipsNullsAndKeepsSellerlessRows() {
+        Transaction sellerless = transaction(20L, null);
+        List<Transaction> transactions = new ArrayList<>();
+        transactions.add(null);
+        transactions.add(sellerless);
+
+        List<TransactionResponseDTO> result = mapper.mapEntitiesToTransactionResponseDtos(transactions);
+
+        assertEquals(1, result.size());
+        assertEquals(20L, result.getFirst().getId());
+        assertNull(result.getFirst().getSeller());
+    }
+
+    private static Seller seller(Long id, String name) {
+        Seller seller = new Seller();
+        seller.setId(id);
+        seller.setName(name);
+        seller.setContactInfo(name.toLowerCase() + "@example.com");
+        seller.setRegistrationDate(LocalDateTime.of(2024, 1, 1, 0, 0));
+        seller.setVersion(1L);
+        return seller;
+    }
+
+    private static Transaction transaction(Long id, Seller seller) {
+        Transaction transaction = new Transaction();
+        transaction.setId(id);
+        transaction.setSeller(seller);
+        transaction.setAmount(new BigDecimal("10.00"));
+        transaction.setPaymentType(PaymentType.CARD);
+        transaction.setTransactionDate(LocalDateTime.of(2024, 2, 1, 12, 0));
+        transaction.setVersion(0L);
+        return transaction;
     }
 }
@@ -0,0 +1,47 @@
+package com.simplecrm.unit;
+
+import com.simplecrm.Utils.RollupRange;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class RollupRangeTest {
+
+    @Test
+    void of_partialEdges_splitsIntoHeadDaysAndTail() {
+        LocalDateTime start = LocalDateTime.of(2025, 1, 1, 10, 0);
+        LocalDateTime end = LocalDateTime.of(2025, 1, 5, 8, 0);
+
+        RollupRange range = RollupRange.of(start, end);
+
+        assertTrue(range.hasFullDays());
+        assertEquals(LocalDate.of(2025, 1, 2), range.firstFullDay());
+        assertEquals(LocalDate.of(2025, 1, 5), range.lastFullDayExclusive());
+        assertEquals(LocalDateTime.of(2025, 1, 2, 0, 0), range.headEnd());
+        assertEquals(LocalDateTime.of(2025, 1, 5, 0, 0), range.tailStart());
+    }
+
+    @Test
+    void of_midnightStart_includesFirstDay() {
+        RollupRange range = RollupRange.of(LocalDateTime.of(2025, 1, 1, 0, 0), LocalDateTime.of(2025, 1, 3, 0, 0));
+
+        assertEquals(LocalDate.of(2025, 1, 1), range.firstFullDay());
+        assertEquals(LocalDate.of(2025, 1, 3), range.lastFullDayExclusive());
+        assertEquals(range.start(), range.headEnd());
+    }
+
+    @Test
+    void of_withinSingleDay_usesRawTransactionsOnly() {
+        LocalDateTime start = LocalDateTime.of(2025, 1, 1, 10, 0);
+        LocalDateTime end = LocalDateTime.of(2025, 1, 2, 9, 0);
+
+        RollupRange range = RollupRange.of(start, end);
+
+        assertFalse(range.hasFullDays());
+        assertEquals(start, range.headEnd());
+        assertEquals(start, range.tailStart());
+    }
+}
@@ -0,0 +1,97 @@
+package com.simplecrm.unit;
+
+import com.simplecrm.Models.Entities.Seller;
+import com.simplecrm.Utils.Mapper;
+import com.simplecrm.Utils.SellerCache;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.mock;
+
+class SellerCacheTest {
+
+    private SellerCache sellerCache;
+
+    @BeforeEach
+    @SuppressWarnings("unchecked")
+    void setUp() {
+        sellerCache = new SellerCache(new Mapper(), mock(ObjectProvider.class), 100, Duration.ofMinutes(10));
+    }
+
+    @Test
+    void put_storesSnapshotWithVersion() {
+        sellerCache.put(seller(1L, "Alice", 3L));
+
+        SellerCache.CachedSeller cached = sellerCache.getIfPresent(1L);
+        assertNotNull(cached);
+        assertEquals(3L, cached.version());
+        assertEquals("Alice", cached.copy().getName());
+    }
+
+    @Test
+    void put_neverReplacesNewerVersion() {
+        sellerCache.put(seller(1L, "Renamed", 4L));
+        sellerCache.put(seller(1L, "Stale", 3L));
+
+        assertEquals("Renamed", sellerCache.getIfPresent(1L).copy().getName());
+    }
+
+    @Test
+    void copy_isDetachedFromCachedSnapshot() {
+        sellerCache.put(seller(1L, "Alice", 1L));
+
+        sellerCache.getIfPresent(1L).copy().setName("Mutated");
+
+        assertEquals("Alice", sellerCache.getIfPresent(1L).copy().getName());
+    }
+
+    @Test
+    void markDeleted_blocksOlderSnapshots() {
+        Seller seller = seller(1L, "Alice", 2L);
+        sellerCache.put(seller(1L, "Alice", 1L));
+
+        sellerCache.markDeletedAfterCommit(seller);
+        sellerCache.put(seller(1L, "Alice", 1L));
+
+        assertTrue(sellerCache.getIfPresent(1L).isDeleted());
+    }
+
+    @Test
+    void markRemoved_isFinal() {
+        sellerCache.markRemovedAfterCommit(1L);
+        sellerCache.put(seller(1L, "Alice", 100L));
+
+        assertTrue(sellerCache.getIfPresent(1L).isDeleted());
+    }
+
+    @Test
+    void putAfterCommit_waitsForCommit() {
+        TransactionSynchronizationManager.initSynchronization();
+        try {
+            sellerCache.putAfterCommit(seller(1L, "Alice", 1L));
+            assertNull(sellerCache.getIfPresent(1L));
+
+            TransactionSynchronizationManager.getSynchronizations().forEach(TransactionSynchronization::afterCommit);
+            assertNotNull(sellerCache.getIfPresent(1L));
+        } finally {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+    }
+
+    private Seller seller(Long id, String name, Long version) {
+        Seller seller = new Seller();
+        seller.setId(id);
+        seller.setName(name);
+        seller.setContactInfo(name + "@example.com");
+        seller.setRegistrationDate(LocalDateTime.of(2024, 1, 1, 0, 0));
+        seller.setVersion(version);
+        return seller;
+    }
+}
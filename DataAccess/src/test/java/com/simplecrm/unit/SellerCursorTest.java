@@ -0,0 +1,53 @@
+package com.simplecrm.unit;
+
+import com.simplecrm.Exceptions.SellerValidationException;
+import com.simplecrm.Models.Entities.Seller;
+import com.simplecrm.Utils.SellerCursor;
+import com.simplecrm.Utils.SellerSort;
+import org.junit.jupiter.api.Test;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.util.Base64;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class SellerCursorTest {
+
+    @Test
+    void encodeDecode_roundTrip_nameWithSeparator() {
+        SellerCursor cursor = new SellerCursor(SellerSort.NAME_DESC, "Smith | Sons", 42L);
+
+        assertEquals(cursor, SellerCursor.decode(cursor.encode()));
+    }
+
+    @Test
+    void after_registrationDateSort_keysByDate() {
+        Seller seller = new Seller();
+        seller.setId(7L);
+        seller.setName("Alice");
+        seller.setRegistrationDate(LocalDateTime.of(2025, 2, 3, 4, 5, 6));
+
+        SellerCursor cursor = SellerCursor.decode(SellerCursor.after(SellerSort.REGISTRATION_DATE, seller).encode());
+
+        assertEquals(SellerSort.REGISTRATION_DATE, cursor.sort());
+        assertEquals(seller.getRegistrationDate(), cursor.registrationDate());
+        assertEquals(7L, cursor.id());
+    }
+
+    @Test
+    void decode_garbage_throwsValidationException() {
+        assertThrows(SellerValidationException.class, () -> SellerCursor.decode("not a cursor!"));
+    }
+
+    @Test
+    void decode_unknownSortOrBadDate_throwsValidationException() {
+        assertThrows(SellerValidationException.class, () -> SellerCursor.decode(token("email|a@b.c|1")));
+        assertThrows(SellerValidationException.class, () -> SellerCursor.decode(token("registrationDate|yesterday|1")));
+        assertThrows(SellerValidationException.class, () -> SellerCursor.decode(token("name|1")));
+    }
+
+    private static String token(String raw) {
+        return Base64.getUrlEncoder().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+}
@@ -1,19 +1,26 @@
 package com.simplecrm.unit;
 
+import com.simplecrm.Exceptions.SellerValidationException;
 import com.simplecrm.Models.Entities.Seller;
 import com.simplecrm.Repositories.SellerRepository;
 import com.simplecrm.RequestDTO.Seller.SellerCreateRequestDTO;
+import com.simplecrm.RequestDTO.Seller.SellerFilterDTO;
 import com.simplecrm.RequestDTO.Seller.SellerUpdateRequestDTO;
+import com.simplecrm.ResponseDTO.SellerPageDTO;
 import com.simplecrm.ResponseDTO.SellerResponseDTO;
 import com.simplecrm.ResultTypes.SellerResult;
 import com.simplecrm.Services.SellerServiceImpl;
 import com.simplecrm.Utils.Mapper;
+import com.simplecrm.Utils.SellerCache;
+import com.simplecrm.Utils.SellerCursor;
+import com.simplecrm.Utils.SellerSort;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.jpa.domain.Specification;
 import org.springframework.orm.ObjectOptimisticLockingFailureException;
 
 import java.time.LocalDateTime;
@@ -35,6 +42,9 @@ class SellerServiceImplTest {
     @Mock
     private Mapper mapper;
 
+    @Mock
+    private SellerCache sellerCache;
+
     @InjectMocks
     private SellerServiceImpl sellerService;
 
@@ -72,7 +82,7 @@ class SellerServiceImplTest {
     @Test
     void createSeller_success_returnsSuccessResult() throws Exception {
         when(sellerRepository.save(any(Seller.class))).thenReturn(testSeller);
-        when(mapper.mapEntityToSellerResponseDto(any(Seller.class))).thenReturn(testResponseDTO);
+        when(mapper.mapSellerEntityToResponseDto(any(Seller.class), eq(false))).thenReturn(testResponseDTO);
 
         CompletableFuture<SellerResult> future = sellerService.createSeller(createRequestDTO);
         SellerResult result = future.get();
@@ -99,7 +109,7 @@ class SellerServiceImplTest {
     @Test
     void getSellerById_validId_success() throws Exception {
         when(sellerRepository.findNotDeletedById(1L)).thenReturn(Optional.of(testSeller));
-        when(mapper.mapEntityToSellerResponseDto(testSeller)).thenReturn(testResponseDTO);
+        when(mapper.mapSellerEntityToResponseDto(testSeller, false)).thenReturn(testResponseDTO);
 
         CompletableFuture<SellerResult> future = sellerService.getSellerById(1L);
         SellerResult result = future.get();
@@ -109,6 +119,39 @@ class SellerServiceImplTest {
         assertEquals(testResponseDTO, success.seller()); 
     }
 
+    @Test
+    void getSellerById_cacheMiss_populatesCache() throws Exception {
+        when(sellerRepository.findNotDeletedById(1L)).thenReturn(Optional.of(testSeller));
+        when(mapper.mapSellerEntityToResponseDto(testSeller, false)).thenReturn(testResponseDTO);
+
+        sellerService.getSellerById(1L).get();
+
+        verify(sellerCache).put(testSeller);
+    }
+
+    @Test
+    void getSellerById_cacheHit_skipsRepository() throws Exception {
+        when(sellerCache.getIfPresent(1L)).thenReturn(new SellerCache.CachedSeller(1L, testResponseDTO));
+
+        SellerResult result = sellerService.getSellerById(1L).get();
+
+        assertInstanceOf(SellerResult.Success.class, result);
+        SellerResponseDTO seller = ((SellerResult.Success) result).seller();
+        assertEquals("Test Seller", seller.getName());
+        assertNull(seller.getVersion());
+        verifyNoInteractions(sellerRepository);
+    }
+
+    @Test
+    void getSellerById_cachedTombstone_returnsNotFound() throws Exception {
+        when(sellerCache.getIfPresent(1L)).thenReturn(new SellerCache.CachedSeller(2L, null));
+
+        SellerResult result = sellerService.getSellerById(1L).get();
+
+        assertInstanceOf(SellerResult.NotFoundError.class, result);
+        verifyNoInteractions(sellerRepository);
+    }
+
     @Test
     void getSellerById_nullId_returnsValidationError() throws Exception {
         CompletableFuture<SellerResult> future = sellerService.getSellerById(null);
@@ -153,33 +196,80 @@ class SellerServiceImplTest {
     
     @Test
     void getAllSellers_success_returnsList() throws Exception {
-        List<Seller> sellers = List.of(testSeller);
         List<SellerResponseDTO> expectedDtos = List.of(testResponseDTO);
 
-        when(sellerRepository.findAllNotDeleted()).thenReturn(sellers);
-        when(mapper.mapEntityToSellerResponseDto(testSeller)).thenReturn(testResponseDTO);
+        when(sellerRepository.findAllNotDeletedResponses()).thenReturn(expectedDtos);
 
         CompletableFuture<List<SellerResponseDTO>> future = sellerService.getAllSellers();
         List<SellerResponseDTO> result = future.get();
 
         assertEquals(expectedDtos, result);
+        verify(sellerRepository, never()).findAllNotDeleted();
+        verifyNoInteractions(mapper);
     }
 
     @Test
     void getAllSellers_exception_returnsEmptyList() throws Exception {
-        when(sellerRepository.findAllNotDeleted()).thenThrow(new RuntimeException("Database error"));
+        when(sellerRepository.findAllNotDeletedResponses()).thenThrow(new RuntimeException("Database error"));
 
         CompletableFuture<List<SellerResponseDTO>> future = sellerService.getAllSellers();
         List<SellerResponseDTO> result = future.get();
 
         assertTrue(result.isEmpty());
     }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    void getSellersPage_fullPage_returnsCursorForSort() throws Exception {
+        Seller second = new Seller();
+        second.setId(2L);
+        second.setName("Zed");
+        second.setRegistrationDate(LocalDateTime.now());
+        when(sellerRepository.findBy(any(Specification.class), any())).thenReturn(List.of(testSeller, second));
+        when(mapper.mapSellerEntityToResponseDto(testSeller, false)).thenReturn(testResponseDTO);
+
+        SellerPageDTO page = sellerService.getSellersPage(new SellerFilterDTO("te", null, null), "-name", null, 1).get();
+
+        assertEquals(List.of(testResponseDTO), page.getItems());
+        SellerCursor cursor = SellerCursor.decode(page.getNextCursor());
+        assertEquals(new SellerCursor(SellerSort.NAME_DESC, "Test Seller", 1L), cursor);
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    void getSellersPage_lastPage_hasNoCursor() throws Exception {
+        when(sellerRepository.findBy(any(Specification.class), any())).thenReturn(List.of(testSeller));
+        when(mapper.mapSellerEntityToResponseDto(testSeller, false)).thenReturn(testResponseDTO);
+
+        SellerPageDTO page = sellerService.getSellersPage(null, "name", null, 10).get();
+
+        assertEquals(1, page.getItems().size());
+        assertNull(page.getNextCursor());
+    }
+
+    @Test
+    void getSellersPage_invalidArguments_failWithValidationException() {
+        String otherSortCursor = new SellerCursor(SellerSort.ID, "", 5L).encode();
+
+        assertValidationFailure(sellerService.getSellersPage(null, "name", null, 0));
+        assertValidationFailure(sellerService.getSellersPage(null, "contactInfo", null, 10));
+        assertValidationFailure(sellerService.getSellersPage(null, "name", "garbage!", 10));
+        assertValidationFailure(sellerService.getSellersPage(null, "name", otherSortCursor, 10));
+        assertValidationFailure(sellerService.getSellersPage(
+                new SellerFilterDTO(null, LocalDateTime.now(), LocalDateTime.now().minusDays(1)), "name", null, 10));
+        verifyNoInteractions(sellerRepository);
+    }
+
+    private static void assertValidationFailure(CompletableFuture<SellerPageDTO> future) {
+        ExecutionException exception = assertThrows(ExecutionException.class, future::get);
+        assertInstanceOf(SellerValidationException.class, exception.getCause());
+    }
     
     @Test
     void updateSeller_success_returnsUpdatedSeller() throws Exception {
         when(sellerRepository.findNotDeletedById(1L)).thenReturn(Optional.of(testSeller));
         when(sellerRepository.save(any(Seller.class))).thenReturn(testSeller);
-        when(mapper.mapEntityToSellerResponseDto(any(Seller.class))).thenReturn(testResponseDTO);
+        when(mapper.mapSellerEntityToResponseDto(any(Seller.class), eq(false))).thenReturn(testResponseDTO);
 
         CompletableFuture<SellerResult> future = sellerService.updateSeller(1L, updateRequestDTO);
         SellerResult result = future.get();
@@ -190,6 +280,36 @@ class SellerServiceImplTest {
         verify(sellerRepository).save(any(Seller.class));
     }
 
+    @Test
+    void updateSeller_success_refreshesCacheAfterCommit() throws Exception {
+        when(sellerRepository.findNotDeletedById(1L)).thenReturn(Optional.of(testSeller));
+        when(sellerRepository.save(any(Seller.class))).thenReturn(testSeller);
+        when(mapper.mapSellerEntityToResponseDto(any(Seller.class), eq(false))).thenReturn(testResponseDTO);
+
+        sellerService.updateSeller(1L, updateRequestDTO).get();
+
+        verify(sellerCache).putAfterCommit(testSeller);
+    }
+
+    @Test
+    void deleteSellerByIdSoft_success_leavesTombstoneAfterCommit() throws Exception {
+        when(sellerRepository.findNotDeletedById(1L)).thenReturn(Optional.of(testSeller));
+        when(mapper.mapSellerEntityToResponseDto(any(Seller.class), eq(false))).thenReturn(testResponseDTO);
+
+        sellerService.deleteSellerByIdSoft(1L).get();
+
+        verify(sellerCache).markDeletedAfterCommit(testSeller);
+    }
+
+    @Test
+    void deleteSellerByIdHard_success_leavesTombstoneAfterCommit() throws Exception {
+        when(sellerRepository.findById(1L)).thenReturn(Optional.of(testSeller));
+
+        sellerService.deleteSellerByIdHard(1L).get();
+
+        verify(sellerCache).markRemovedAfterCommit(1L);
+    }
+
     @Test
     void updateSeller_nullId_returnsValidationError() throws Exception {
         CompletableFuture<SellerResult> future = sellerService.updateSeller(null, updateRequestDTO);
@@ -278,7 +398,7 @@ class SellerServiceImplTest {
     void deleteSellerByIdSoft_success_returnsSuccess() throws Exception {
         when(sellerRepository.findNotDeletedById(1L)).thenReturn(Optional.of(testSeller));
         when(sellerRepository.save(any(Seller.class))).thenReturn(testSeller);
-        when(mapper.mapEntityToSellerResponseDto(any(Seller.class))).thenReturn(testResponseDTO);
+        when(mapper.mapSellerEntityToResponseDto(any(Seller.class), eq(false))).thenReturn(testResponseDTO);
 
         CompletableFuture<SellerResult> future = sellerService.deleteSellerByIdSoft(1L);
         SellerResult result = future.get();
@@ -439,7 +559,7 @@ class SellerServiceImplTest {
 
     @Test
     void getAllSellers_emptyList_returnsEmptyList() throws Exception {
-        when(sellerRepository.findAllNotDeleted()).thenReturn(List.of());
+        when(sellerRepository.findAllNotDeletedResponses()).thenReturn(List.of());
 
         CompletableFuture<List<SellerResponseDTO>> future = sellerService.getAllSellers();
         List<SellerResponseDTO> result = future.get();
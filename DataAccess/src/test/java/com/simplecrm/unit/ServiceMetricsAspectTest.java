@@ -0,0 +1,94 @@
+package com.simplecrm.unit;
+
+import com.simplecrm.Exceptions.SellerValidationException;
+import com.simplecrm.ResponseDTO.SellerResponseDTO;
+import com.simplecrm.ResultTypes.SellerResult;
+import com.simplecrm.Services.Interfaces.SellerService;
+import com.simplecrm.Utils.ServiceMetricsAspect;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.aop.aspectj.annotation.AspectJProxyFactory;
+import org.springframework.beans.factory.ObjectProvider;
+
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+class ServiceMetricsAspectTest {
+
+    private SimpleMeterRegistry registry;
+    private SellerService target;
+    private SellerService proxy;
+
+    @BeforeEach
+    @SuppressWarnings("unchecked")
+    void setUp() {
+        registry = new SimpleMeterRegistry();
+        ObjectProvider<MeterRegistry> provider = mock(ObjectProvider.class);
+        when(provider.getIfAvailable()).thenReturn(registry);
+
+        target = mock(SellerService.class);
+        AspectJProxyFactory factory = new AspectJProxyFactory(target);
+        factory.addInterface(SellerService.class);
+        factory.addAspect(new ServiceMetricsAspect(provider));
+        proxy = factory.getProxy();
+    }
+
+    @Test
+    void time_tagsResultVariant() throws Exception {
+        when(target.getSellerById(1L))
+                .thenReturn(CompletableFuture.completedFuture(new SellerResult.NotFoundError("missing")));
+
+        proxy.getSellerById(1L).get();
+
+        Timer timer = timer("getSellerById", "NotFoundError");
+        assertNotNull(timer);
+        assertEquals(1, timer.count());
+        assertEquals("none", timer.getId().getTag("exception"));
+        assertEquals("SellerService", timer.getId().getTag("service"));
+    }
+
+    @Test
+    void time_nonResultValueIsSuccess() throws Exception {
+        List<SellerResponseDTO> sellers = List.of(new SellerResponseDTO());
+        when(target.getAllSellers()).thenReturn(CompletableFuture.completedFuture(sellers));
+
+        assertSame(sellers, proxy.getAllSellers().get());
+
+        assertEquals(1, timer("getAllSellers", "Success").count());
+    }
+
+    @Test
+    void time_failedFutureIsErrorWithExceptionTag() {
+        when(target.deleteSellerByIdHard(1L))
+                .thenReturn(CompletableFuture.failedFuture(new SellerValidationException("bad id")));
+
+        assertThrows(Exception.class, () -> proxy.deleteSellerByIdHard(1L).get());
+
+        Timer timer = timer("deleteSellerByIdHard", "Error");
+        assertEquals(1, timer.count());
+        assertEquals("SellerValidationException", timer.getId().getTag("exception"));
+    }
+
+    @Test
+    void time_thrownExceptionIsRecordedAndRethrown() {
+        when(target.getSellerById(2L)).thenThrow(new IllegalStateException("boom"));
+
+        assertThrows(IllegalStateException.class, () -> proxy.getSellerById(2L));
+
+        assertEquals("IllegalStateException", timer("getSellerById", "Error").getId().getTag("exception"));
+    }
+
+    private Timer timer(String method, String outcome) {
+        return registry.find(ServiceMetricsAspect.METRIC)
+                .tag("method", method)
+                .tag("outcome", outcome)
+                .timer();
+    }
+}
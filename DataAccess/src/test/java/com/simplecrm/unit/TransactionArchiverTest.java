@@ -0,0 +1,132 @@
+package com.simplecrm.unit;
+
+import com.simplecrm.Projections.AgedTransactionView;
+import com.simplecrm.Repositories.SellerDailyTotalRepository;
+import com.simplecrm.Repositories.TransactionRepository;
+import com.simplecrm.Utils.AnalyticsBucketCache;
+import com.simplecrm.Utils.LiveLeaderboard;
+import com.simplecrm.Utils.TransactionArchiver;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.InOrder;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.dao.InvalidDataAccessResourceUsageException;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.math.BigDecimal;
+import java.time.Duration;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertDoesNotThrow;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.argThat;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.inOrder;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.when;
+
+class TransactionArchiverTest {
+
+    private TransactionRepository transactionRepository;
+    private SellerDailyTotalRepository sellerDailyTotalRepository;
+    private AnalyticsBucketCache analyticsBucketCache;
+    private LiveLeaderboard liveLeaderboard;
+    private TransactionTemplate transactionTemplate;
+    private SimpleMeterRegistry registry;
+    private ObjectProvider<MeterRegistry> meterRegistry;
+
+    @BeforeEach
+    @SuppressWarnings("unchecked")
+    void setUp() {
+        transactionRepository = mock(TransactionRepository.class);
+        sellerDailyTotalRepository = mock(SellerDailyTotalRepository.class);
+        analyticsBucketCache = mock(AnalyticsBucketCache.class);
+        liveLeaderboard = mock(LiveLeaderboard.class);
+        transactionTemplate = new TransactionTemplate(mock(PlatformTransactionManager.class));
+        registry = new SimpleMeterRegistry();
+        meterRegistry = mock(ObjectProvider.class);
+        when(meterRegistry.getIfAvailable()).thenReturn(registry);
+    }
+
+    @Test
+    void archive_drainsDeletedRowsInBatches_withoutRetention() {
+        when(transactionRepository.archiveDeletedBatch(100)).thenReturn(100, 100, 42);
+
+        archiver(Duration.ZERO).archive();
+
+        verify(transactionRepository, times(3)).archiveDeletedBatch(100);
+        verify(transactionRepository, never()).lockActiveOlderThan(any(), anyInt());
+        verifyNoInteractions(sellerDailyTotalRepository);
+        assertEquals(242, registry.get(TransactionArchiver.METRIC).tag("reason", "deleted").counter().count());
+    }
+
+    @Test
+    void archive_movesRowsOlderThanRetention_andTakesThemOutOfDailyTotals() {
+        LocalDateTime before = LocalDateTime.now().minusDays(30);
+        LocalDateTime day = LocalDateTime.of(2024, 1, 10, 0, 0);
+        List<AgedTransactionView> rows = List.of(
+                aged(3L, 2L, "10.00", "CASH", day.plusHours(9)),
+                aged(1L, 1L, "5.00", "CARD", day.plusHours(8)),
+                aged(2L, 1L, "7.50", "CARD", day.plusHours(15)));
+        when(transactionRepository.lockActiveOlderThan(any(), eq(100))).thenReturn(rows);
+        when(transactionRepository.archiveByIds(eq(List.of(3L, 1L, 2L)), any())).thenReturn(3);
+
+        archiver(Duration.ofDays(30)).archive();
+
+        verify(transactionRepository).lockActiveOlderThan(argThat(cutoff -> !cutoff.isBefore(before)), eq(100));
+        InOrder rollup = inOrder(sellerDailyTotalRepository);
+        rollup.verify(sellerDailyTotalRepository).applyDelta(1L, LocalDate.of(2024, 1, 10), "CARD", new BigDecimal("-12.50"), -2);
+        rollup.verify(sellerDailyTotalRepository).applyDelta(2L, LocalDate.of(2024, 1, 10), "CASH", new BigDecimal("-10.00"), -1);
+        verify(analyticsBucketCache).evictAfterCommit(List.of(day.plusHours(9), day.plusHours(8), day.plusHours(15)));
+        verify(liveLeaderboard).removeAllAfterCommit(List.of(3L, 1L, 2L));
+        assertEquals(3, registry.get(TransactionArchiver.METRIC).tag("reason", "aged").counter().count());
+    }
+
+    @Test
+    void archive_rollsBackAgedBatch_whenNotEveryLockedRowMoved() {
+        AgedTransactionView row = aged(1L, 1L, "5.00", "CARD", LocalDateTime.of(2024, 1, 10, 8, 0));
+        when(transactionRepository.lockActiveOlderThan(any(), eq(100))).thenReturn(List.of(row));
+        when(transactionRepository.archiveByIds(eq(List.of(1L)), any())).thenReturn(0);
+
+        assertDoesNotThrow(() -> archiver(Duration.ofDays(30)).archive());
+        verifyNoInteractions(sellerDailyTotalRepository, analyticsBucketCache, liveLeaderboard);
+        assertTrue(registry.find(TransactionArchiver.METRIC).tag("reason", "aged").counters().isEmpty());
+    }
+
+    @Test
+    void archive_logsAndSurvivesFailures() {
+        when(transactionRepository.archiveDeletedBatch(100))
+                .thenThrow(new InvalidDataAccessResourceUsageException("relation does not exist"));
+
+        assertDoesNotThrow(() -> archiver(Duration.ofDays(30)).archive());
+        verify(transactionRepository, never()).lockActiveOlderThan(any(), anyInt());
+        assertTrue(registry.find(TransactionArchiver.METRIC).counters().isEmpty());
+    }
+
+    private TransactionArchiver archiver(Duration retention) {
+        return new TransactionArchiver(transactionRepository, sellerDailyTotalRepository, analyticsBucketCache,
+                liveLeaderboard, transactionTemplate, meterRegistry, true, 100, Duration.ZERO, retention, Duration.ofHours(1));
+    }
+
+    private static AgedTransactionView aged(Long id, Long sellerId, String amount, String paymentType, LocalDateTime date) {
+        AgedTransactionView view = mock(AgedTransactionView.class);
+        when(view.getId()).thenReturn(id);
+        when(view.getSellerId()).thenReturn(sellerId);
+        when(view.getAmount()).thenReturn(new BigDecimal(amount));
+        when(view.getPaymentType()).thenReturn(paymentType);
+        when(view.getTransactionDate()).thenReturn(date);
+        return view;
+    }
+}
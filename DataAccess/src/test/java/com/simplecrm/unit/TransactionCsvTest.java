@@ -0,0 +1,42 @@
+package com.simplecrm.unit;
+
+import com.simplecrm.Models.Enums.PaymentType;
+import com.simplecrm.Projections.TransactionExportView;
+import com.simplecrm.Utils.TransactionCsv;
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+class TransactionCsvTest {
+
+    @Test
+    void toLine_FormatsAllColumns() {
+        TransactionExportView row = row("Seller", new BigDecimal("100.50"));
+
+        assertEquals("7,3,Seller,100.50,CARD,2024-01-02T10:15,1", TransactionCsv.toLine(row));
+    }
+
+    @Test
+    void toLine_QuotesNamesWithSeparators() {
+        TransactionExportView row = row("Smith, \"Jr\"", new BigDecimal("1E+2"));
+
+        assertEquals("7,3,\"Smith, \"\"Jr\"\"\",100,CARD,2024-01-02T10:15,1", TransactionCsv.toLine(row));
+    }
+
+    private TransactionExportView row(String sellerName, BigDecimal amount) {
+        TransactionExportView row = mock(TransactionExportView.class);
+        when(row.getId()).thenReturn(7L);
+        when(row.getSellerId()).thenReturn(3L);
+        when(row.getSellerName()).thenReturn(sellerName);
+        when(row.getAmount()).thenReturn(amount);
+        when(row.getPaymentType()).thenReturn(PaymentType.CARD);
+        when(row.getTransactionDate()).thenReturn(LocalDateTime.of(2024, 1, 2, 10, 15));
+        when(row.getVersion()).thenReturn(1L);
+        return row;
+    }
+}
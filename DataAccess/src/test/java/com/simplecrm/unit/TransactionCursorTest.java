@@ -0,0 +1,40 @@
+package com.simplecrm.unit;
+
+import com.simplecrm.Exceptions.TransactionValidationException;
+import com.simplecrm.Utils.TransactionCursor;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDateTime;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class TransactionCursorTest {
+
+    @Test
+    void encodeDecode_roundTrip() {
+        TransactionCursor cursor = new TransactionCursor(LocalDateTime.of(2025, 2, 3, 4, 5, 6, 700_000_000), 42L);
+
+        TransactionCursor decoded = TransactionCursor.decode(cursor.encode());
+
+        assertEquals(cursor, decoded);
+    }
+
+    @Test
+    void encode_isUrlSafe() {
+        String token = new TransactionCursor(LocalDateTime.of(2025, 12, 31, 23, 59, 59), Long.MAX_VALUE).encode();
+
+        assertTrue(token.matches("[A-Za-z0-9_-]+"));
+    }
+
+    @Test
+    void decode_garbage_throwsValidationException() {
+        assertThrows(TransactionValidationException.class, () -> TransactionCursor.decode("not a cursor!"));
+    }
+
+    @Test
+    void decode_missingId_throwsValidationException() {
+        String token = java.util.Base64.getUrlEncoder().encodeToString("2025-01-01T00:00".getBytes());
+
+        assertThrows(TransactionValidationException.class, () -> TransactionCursor.decode(token));
+    }
+}
@@ -0,0 +1,60 @@
+package com.simplecrm.unit;
+
+import com.simplecrm.Repositories.TransactionRepository;
+import com.simplecrm.Utils.TransactionPartitionMaintenance;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.dao.InvalidDataAccessResourceUsageException;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+import java.time.LocalDate;
+
+import static org.junit.jupiter.api.Assertions.assertDoesNotThrow;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class TransactionPartitionMaintenanceTest {
+
+    private TransactionRepository transactionRepository;
+    private TransactionTemplate transactionTemplate;
+
+    @BeforeEach
+    void setUp() {
+        transactionRepository = mock(TransactionRepository.class);
+        transactionTemplate = new TransactionTemplate(mock(PlatformTransactionManager.class));
+    }
+
+    @Test
+    void maintain_createsPartitionsAhead_withoutArchivingByDefault() {
+        maintenance(0).maintain();
+
+        verify(transactionRepository).createTransactionPartitions(3);
+        verify(transactionRepository, never()).archiveTransactionPartitions(any());
+    }
+
+    @Test
+    void maintain_archivesPartitionsOlderThanRetention() {
+        maintenance(12).maintain();
+
+        verify(transactionRepository).archiveTransactionPartitions(LocalDate.now().withDayOfMonth(1).minusMonths(12));
+    }
+
+    @Test
+    void maintain_logsAndSurvivesFailures() {
+        when(transactionRepository.createTransactionPartitions(3))
+                .thenThrow(new InvalidDataAccessResourceUsageException("function does not exist"));
+
+        assertDoesNotThrow(() -> maintenance(12).maintain());
+        verify(transactionRepository, never()).archiveTransactionPartitions(any());
+    }
+
+    private TransactionPartitionMaintenance maintenance(int retentionMonths) {
+        return new TransactionPartitionMaintenance(transactionRepository, transactionTemplate,
+                true, 3, retentionMonths, Duration.ofHours(24));
+    }
+}
@@ -1,35 +1,54 @@
 package com.simplecrm.unit;
 
+import com.simplecrm.Exceptions.TransactionValidationException;
 import com.simplecrm.Models.Entities.Seller;
 import com.simplecrm.Models.Entities.Transaction;
 import com.simplecrm.Models.Enums.PaymentType;
+import com.simplecrm.Projections.ArchivedTransactionView;
+import com.simplecrm.Projections.TransactionExportView;
 import com.simplecrm.Projections.TransactionFlatView;
+import com.simplecrm.Repositories.SellerDailyTotalRepository;
 import com.simplecrm.Repositories.SellerRepository;
 import com.simplecrm.Repositories.TransactionRepository;
 import com.simplecrm.RequestDTO.Transaction.TransactionCreateRequestDTO;
 import com.simplecrm.RequestDTO.Transaction.TransactionUpdateRequestDTO;
 import com.simplecrm.ResponseDTO.SellerResponseDTO;
+import com.simplecrm.ResponseDTO.TransactionPageDTO;
 import com.simplecrm.ResponseDTO.TransactionResponseDTO;
 import com.simplecrm.ResultTypes.TransactionResult;
 import com.simplecrm.Services.TransactionServiceImpl;
+import com.simplecrm.Utils.AnalyticsBucketCache;
+import com.simplecrm.Utils.LiveLeaderboard;
 import com.simplecrm.Utils.Mapper;
+import com.simplecrm.Utils.SellerCache;
+import com.simplecrm.Utils.TransactionCursor;
+import jakarta.persistence.EntityManager;
+import jakarta.validation.Validation;
+import jakarta.validation.Validator;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
+import org.mockito.Spy;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.orm.ObjectOptimisticLockingFailureException;
 
 import java.math.BigDecimal;
 import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.List;
 import java.util.Optional;
+import java.util.Set;
 import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.ExecutionException;
+import java.util.stream.IntStream;
+import java.util.stream.Stream;
 
 import static org.junit.jupiter.api.Assertions.*;
-import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.*;
 import static org.mockito.Mockito.*;
 
 @ExtendWith(MockitoExtension.class)
@@ -41,9 +60,27 @@ class TransactionServiceImplTest {
     @Mock
     private SellerRepository sellerRepository;
 
+    @Mock
+    private SellerDailyTotalRepository sellerDailyTotalRepository;
+
     @Mock
     private Mapper mapper;
 
+    @Mock
+    private EntityManager entityManager;
+
+    @Mock
+    private SellerCache sellerCache;
+
+    @Mock
+    private AnalyticsBucketCache analyticsBucketCache;
+
+    @Mock
+    private LiveLeaderboard liveLeaderboard;
+
+    @Spy
+    private Validator validator = Validation.buildDefaultValidatorFactory().getValidator();
+
     @InjectMocks
     private TransactionServiceImpl transactionService;
 
@@ -114,6 +151,123 @@ class TransactionServiceImplTest {
         verify(transactionRepository).save(any(Transaction.class));
     }
 
+    @Test
+    void createTransaction_success_addsToDailyTotals() throws Exception {
+        when(sellerRepository.findNotDeletedById(1L)).thenReturn(Optional.of(testSeller));
+        when(transactionRepository.save(any(Transaction.class))).thenReturn(testTransaction);
+        when(mapper.mapEntityToTransactionResponseDto(any(Transaction.class))).thenReturn(testResponseDTO);
+
+        transactionService.createTransaction(createRequestDTO).get();
+
+        verify(sellerDailyTotalRepository).applyDelta(1L, testTransaction.getTransactionDate().toLocalDate(),
+                "CARD", new BigDecimal("100.00"), 1L);
+    }
+
+    @Test
+    void updateTransactionById_success_movesDailyTotals() throws Exception {
+        LocalDateTime previousDate = testTransaction.getTransactionDate();
+        updateRequestDTO.setTransactionDate(previousDate.plusDays(2));
+        when(transactionRepository.findNotDeletedById(1L)).thenReturn(Optional.of(testTransaction));
+        when(sellerRepository.findNotDeletedById(1L)).thenReturn(Optional.of(testSeller));
+        when(transactionRepository.save(any(Transaction.class))).thenReturn(testTransaction);
+        when(mapper.mapEntityToTransactionResponseDto(any(Transaction.class))).thenReturn(testResponseDTO);
+
+        transactionService.updateTransactionById(1L, updateRequestDTO).get();
+
+        verify(sellerDailyTotalRepository).applyDelta(1L, previousDate.toLocalDate(),
+                "CARD", new BigDecimal("-100.00"), -1L);
+        verify(sellerDailyTotalRepository).applyDelta(1L, previousDate.plusDays(2).toLocalDate(),
+                "CASH", new BigDecimal("200.00"), 1L);
+        verify(analyticsBucketCache).evictAfterCommit(List.of(previousDate));
+        verify(analyticsBucketCache).evictAfterCommit(List.of(previousDate.plusDays(2)));
+    }
+
+    @Test
+    void createTransactions_returnsOutcomePerRowInRequestOrder() throws Exception {
+        TransactionCreateRequestDTO unknownSeller = batchRow(2L, "5.00");
+        TransactionCreateRequestDTO missingAmount = batchRow(1L, null);
+        when(sellerRepository.findAllNotDeletedByIdIn(Set.of(1L, 2L))).thenReturn(List.of(testSeller));
+        when(transactionRepository.saveAll(anyList())).thenAnswer(invocation -> new ArrayList<>(invocation.getArgument(0)));
+        when(mapper.mapEntityToTransactionResponseDto(any(Transaction.class))).thenReturn(testResponseDTO);
+
+        List<TransactionResult> results = transactionService
+                .createTransactions(Arrays.asList(createRequestDTO, unknownSeller, missingAmount, null))
+                .get();
+
+        assertEquals(4, results.size());
+        assertInstanceOf(TransactionResult.Success.class, results.get(0));
+        assertInstanceOf(TransactionResult.SellerNotFoundError.class, results.get(1));
+        assertInstanceOf(TransactionResult.ValidationError.class, results.get(2));
+        assertInstanceOf(TransactionResult.ValidationError.class, results.get(3));
+        verify(sellerRepository, never()).findNotDeletedById(any());
+        verify(transactionRepository).saveAll(argThat((List<Transaction> rows) -> rows.size() == 1));
+    }
+
+    @Test
+    void createTransactions_missingDate_isRejectedLikeSingleCreate() throws Exception {
+        TransactionCreateRequestDTO missingDate = batchRow(1L, "5.00");
+        missingDate.setTransactionDate(null);
+
+        List<TransactionResult> results = transactionService.createTransactions(List.of(missingDate)).get();
+
+        TransactionResult.ValidationError error = assertInstanceOf(TransactionResult.ValidationError.class, results.get(0));
+        assertEquals("Transaction date cannot be null", error.message());
+        verify(transactionRepository, never()).saveAll(anyList());
+    }
+
+    @Test
+    void createTransactions_aggregatesDailyTotalsPerKey() throws Exception {
+        TransactionCreateRequestDTO second = batchRow(1L, "50.00");
+        second.setPaymentType(createRequestDTO.getPaymentType());
+        second.setTransactionDate(createRequestDTO.getTransactionDate());
+        when(sellerRepository.findAllNotDeletedByIdIn(Set.of(1L))).thenReturn(List.of(testSeller));
+        when(transactionRepository.saveAll(anyList())).thenAnswer(invocation -> new ArrayList<>(invocation.getArgument(0)));
+        when(mapper.mapEntityToTransactionResponseDto(any(Transaction.class))).thenReturn(testResponseDTO);
+
+        transactionService.createTransactions(List.of(createRequestDTO, second)).get();
+
+        verify(sellerDailyTotalRepository).applyDelta(eq(1L), eq(createRequestDTO.getTransactionDate().toLocalDate()),
+                eq(createRequestDTO.getPaymentType().name()), argThat(amount -> amount.compareTo(
+                        createRequestDTO.getAmount().add(new BigDecimal("50.00"))) == 0), eq(2L));
+        verify(sellerDailyTotalRepository, times(1)).applyDelta(any(), any(), any(), any(), anyLong());
+        verify(analyticsBucketCache).evictAfterCommit(
+                List.of(createRequestDTO.getTransactionDate(), createRequestDTO.getTransactionDate()));
+    }
+
+    @Test
+    void createTransactions_rejectsEmptyBatch() {
+        CompletableFuture<List<TransactionResult>> future = transactionService.createTransactions(List.of());
+
+        ExecutionException ex = assertThrows(ExecutionException.class, future::get);
+        assertInstanceOf(TransactionValidationException.class, ex.getCause());
+        verifyNoInteractions(sellerRepository, transactionRepository);
+    }
+
+    @Test
+    void createTransaction_cachedSeller_skipsSellerLookup() throws Exception {
+        SellerResponseDTO cachedSeller = testResponseDTO.getSeller();
+        when(sellerCache.getIfPresent(1L)).thenReturn(new SellerCache.CachedSeller(1L, cachedSeller));
+        when(sellerRepository.getReferenceById(1L)).thenReturn(testSeller);
+        when(transactionRepository.save(any(Transaction.class))).thenReturn(testTransaction);
+        when(mapper.mapEntityToTransactionResponseDto(eq(testTransaction), any(SellerResponseDTO.class)))
+                .thenReturn(testResponseDTO);
+
+        TransactionResult result = transactionService.createTransaction(createRequestDTO).get();
+
+        assertInstanceOf(TransactionResult.Success.class, result);
+        verify(sellerRepository, never()).findNotDeletedById(any());
+    }
+
+    @Test
+    void createTransaction_deletedSellerInCache_returnsSellerNotFound() throws Exception {
+        when(sellerCache.getIfPresent(1L)).thenReturn(new SellerCache.CachedSeller(2L, null));
+
+        TransactionResult result = transactionService.createTransaction(createRequestDTO).get();
+
+        assertInstanceOf(TransactionResult.SellerNotFoundError.class, result);
+        verifyNoInteractions(sellerRepository, transactionRepository);
+    }
+
     @Test
     void createTransaction_sellerNotFound() throws Exception {
         when(sellerRepository.findNotDeletedById(1L)).thenReturn(Optional.empty());
@@ -190,7 +344,7 @@ class TransactionServiceImplTest {
         List<TransactionResponseDTO> expectedDtos = List.of(testResponseDTO);
 
         when(transactionRepository.findAllNotDeleted()).thenReturn(transactions);
-        when(mapper.mapEntityToTransactionResponseDto(testTransaction)).thenReturn(testResponseDTO);
+        when(mapper.mapEntitiesToTransactionResponseDtos(transactions)).thenReturn(expectedDtos);
 
         CompletableFuture<List<TransactionResponseDTO>> future = transactionService.getAllTransactions();
         List<TransactionResponseDTO> result = future.get();
@@ -208,6 +362,54 @@ class TransactionServiceImplTest {
         assertTrue(result.isEmpty());
     }
 
+    @Test
+    void getTransactionsPage_firstPage_returnsNextCursor() throws Exception {
+        Transaction second = new Transaction();
+        second.setId(2L);
+        second.setSeller(testSeller);
+        second.setTransactionDate(testTransaction.getTransactionDate().plusMinutes(1));
+
+        when(transactionRepository.findPageNotDeleted(PageRequest.ofSize(2))).thenReturn(List.of(testTransaction, second));
+        when(mapper.mapEntitiesToTransactionResponseDtos(List.of(testTransaction))).thenReturn(List.of(testResponseDTO));
+
+        TransactionPageDTO page = transactionService.getTransactionsPage(null, 1).get();
+
+        assertEquals(List.of(testResponseDTO), page.getItems());
+        assertEquals(new TransactionCursor(testTransaction.getTransactionDate(), 1L),
+                TransactionCursor.decode(page.getNextCursor()));
+    }
+
+    @Test
+    void getTransactionsPage_afterCursor_lastPageHasNoCursor() throws Exception {
+        LocalDateTime date = LocalDateTime.of(2025, 1, 1, 12, 0);
+        String cursor = new TransactionCursor(date, 7L).encode();
+
+        when(transactionRepository.findPageNotDeletedAfter(date, 7L, PageRequest.ofSize(11))).thenReturn(List.of(testTransaction));
+        when(mapper.mapEntitiesToTransactionResponseDtos(List.of(testTransaction))).thenReturn(List.of(testResponseDTO));
+
+        TransactionPageDTO page = transactionService.getTransactionsPage(cursor, 10).get();
+
+        assertEquals(1, page.getItems().size());
+        assertNull(page.getNextCursor());
+    }
+
+    @Test
+    void getTransactionsPage_invalidLimit() {
+        CompletableFuture<TransactionPageDTO> future = transactionService.getTransactionsPage(null, 0);
+
+        ExecutionException ex = assertThrows(ExecutionException.class, future::get);
+        assertInstanceOf(TransactionValidationException.class, ex.getCause());
+    }
+
+    @Test
+    void getTransactionsPage_malformedCursor() {
+        CompletableFuture<TransactionPageDTO> future = transactionService.getTransactionsPage("%%%", 10);
+
+        ExecutionException ex = assertThrows(ExecutionException.class, future::get);
+        assertInstanceOf(TransactionValidationException.class, ex.getCause());
+        verifyNoInteractions(transactionRepository);
+    }
+
     @Test
     void updateTransactionById_success() throws Exception {
         when(transactionRepository.findNotDeletedById(1L)).thenReturn(Optional.of(testTransaction));
@@ -342,6 +544,9 @@ class TransactionServiceImplTest {
         assertEquals(testResponseDTO, success.transaction());
         assertTrue(testTransaction.getDeleted());
         verify(transactionRepository).save(testTransaction);
+        verify(sellerDailyTotalRepository).applyDelta(1L, testTransaction.getTransactionDate().toLocalDate(),
+                "CARD", new BigDecimal("-100.00"), -1L);
+        verify(liveLeaderboard).recordAfterCommit(testTransaction);
     }
 
     @Test
@@ -392,7 +597,7 @@ class TransactionServiceImplTest {
 
     @Test
     void deleteTransactionByIdHard_success() throws Exception {
-        when(transactionRepository.existsById(1L)).thenReturn(true);
+        when(transactionRepository.findById(1L)).thenReturn(Optional.of(testTransaction));
 
         CompletableFuture<TransactionResult> future = transactionService.deleteTransactionByIdHard(1L);
         TransactionResult result = future.get();
@@ -400,7 +605,21 @@ class TransactionServiceImplTest {
         assertInstanceOf(TransactionResult.Success.class, result);
         TransactionResult.Success success = (TransactionResult.Success) result;
         assertNull(success.transaction());
-        verify(transactionRepository).deleteById(1L);
+        verify(transactionRepository).delete(testTransaction);
+        verify(sellerDailyTotalRepository).applyDelta(1L, testTransaction.getTransactionDate().toLocalDate(),
+                "CARD", new BigDecimal("-100.00"), -1L);
+    }
+
+    @Test
+    void deleteTransactionByIdHard_alreadySoftDeleted_leavesDailyTotals() throws Exception {
+        testTransaction.setDeleted(true);
+        when(transactionRepository.findById(1L)).thenReturn(Optional.of(testTransaction));
+
+        TransactionResult result = transactionService.deleteTransactionByIdHard(1L).get();
+
+        assertInstanceOf(TransactionResult.Success.class, result);
+        verify(transactionRepository).delete(testTransaction);
+        verifyNoInteractions(sellerDailyTotalRepository);
     }
 
     @Test
@@ -425,7 +644,7 @@ class TransactionServiceImplTest {
 
     @Test
     void deleteTransactionByIdHard_notFound() throws Exception {
-        when(transactionRepository.existsById(1L)).thenReturn(false);
+        when(transactionRepository.findById(1L)).thenReturn(Optional.empty());
 
         CompletableFuture<TransactionResult> future = transactionService.deleteTransactionByIdHard(1L);
         TransactionResult result = future.get();
@@ -437,8 +656,8 @@ class TransactionServiceImplTest {
 
     @Test
     void deleteTransactionByIdHard_exception() throws Exception {
-        when(transactionRepository.existsById(1L)).thenReturn(true);
-        doThrow(new RuntimeException("DB error")).when(transactionRepository).deleteById(1L);
+        when(transactionRepository.findById(1L)).thenReturn(Optional.of(testTransaction));
+        doThrow(new RuntimeException("DB error")).when(transactionRepository).delete(testTransaction);
 
         CompletableFuture<TransactionResult> future = transactionService.deleteTransactionByIdHard(1L);
         TransactionResult result = future.get();
@@ -449,6 +668,106 @@ class TransactionServiceImplTest {
         assertTrue(error.message().contains("DB error"));
     }
 
+    @Test
+    void deleteTransactionByIdHard_archivedRow_leavesDailyTotals() throws Exception {
+        when(transactionRepository.findById(1L)).thenReturn(Optional.empty());
+        when(transactionRepository.deleteArchivedById(1L)).thenReturn(1);
+
+        TransactionResult result = transactionService.deleteTransactionByIdHard(1L).get();
+
+        assertInstanceOf(TransactionResult.Success.class, result);
+        verifyNoInteractions(sellerDailyTotalRepository);
+        verify(transactionRepository, never()).delete(any(Transaction.class));
+    }
+
+    @Test
+    void restoreTransactionById_softDeleted_addsDailyTotals() throws Exception {
+        testTransaction.setDeleted(true);
+        when(transactionRepository.findById(1L)).thenReturn(Optional.of(testTransaction));
+        when(sellerRepository.findNotDeletedById(1L)).thenReturn(Optional.of(testSeller));
+        when(mapper.mapEntityToTransactionResponseDto(testTransaction)).thenReturn(testResponseDTO);
+
+        TransactionResult result = transactionService.restoreTransactionById(1L).get();
+
+        assertInstanceOf(TransactionResult.Success.class, result);
+        assertFalse(testTransaction.getDeleted());
+        verify(transactionRepository).save(testTransaction);
+        verify(sellerDailyTotalRepository).applyDelta(1L, testTransaction.getTransactionDate().toLocalDate(),
+                "CARD", new BigDecimal("100.00"), 1L);
+        verify(liveLeaderboard).recordAfterCommit(testTransaction);
+    }
+
+    @Test
+    void restoreTransactionById_activeRow_isNoOp() throws Exception {
+        when(transactionRepository.findById(1L)).thenReturn(Optional.of(testTransaction));
+        when(mapper.mapEntityToTransactionResponseDto(testTransaction)).thenReturn(testResponseDTO);
+
+        TransactionResult result = transactionService.restoreTransactionById(1L).get();
+
+        assertInstanceOf(TransactionResult.Success.class, result);
+        verify(transactionRepository, never()).save(any(Transaction.class));
+        verifyNoInteractions(sellerDailyTotalRepository);
+    }
+
+    @Test
+    void restoreTransactionById_archivedRow_movesBackAndAddsDailyTotals() throws Exception {
+        ArchivedTransactionView archived = archivedView();
+        when(transactionRepository.findById(1L)).thenReturn(Optional.empty());
+        when(transactionRepository.findArchivedById(1L)).thenReturn(Optional.of(archived));
+        when(sellerRepository.findNotDeletedById(1L)).thenReturn(Optional.of(testSeller));
+        when(transactionRepository.restoreArchivedById(1L)).thenReturn(1);
+        when(transactionRepository.findNotDeletedById(1L)).thenReturn(Optional.of(testTransaction));
+        when(mapper.mapEntityToTransactionResponseDto(testTransaction)).thenReturn(testResponseDTO);
+
+        TransactionResult result = transactionService.restoreTransactionById(1L).get();
+
+        assertEquals(testResponseDTO, ((TransactionResult.Success) result).transaction());
+        verify(sellerDailyTotalRepository).applyDelta(1L, testTransaction.getTransactionDate().toLocalDate(),
+                "CARD", new BigDecimal("100.00"), 1L);
+        verify(liveLeaderboard).recordAfterCommit(testTransaction);
+    }
+
+    @Test
+    void restoreTransactionById_sellerDeleted() throws Exception {
+        testTransaction.setDeleted(true);
+        when(transactionRepository.findById(1L)).thenReturn(Optional.of(testTransaction));
+        when(sellerRepository.findNotDeletedById(1L)).thenReturn(Optional.empty());
+
+        TransactionResult result = transactionService.restoreTransactionById(1L).get();
+
+        assertInstanceOf(TransactionResult.SellerNotFoundError.class, result);
+        assertTrue(testTransaction.getDeleted());
+        verify(transactionRepository, never()).save(any(Transaction.class));
+    }
+
+    @Test
+    void restoreTransactionById_notFound() throws Exception {
+        when(transactionRepository.findById(1L)).thenReturn(Optional.empty());
+        when(transactionRepository.findArchivedById(1L)).thenReturn(Optional.empty());
+
+        TransactionResult result = transactionService.restoreTransactionById(1L).get();
+
+        assertInstanceOf(TransactionResult.NotFoundError.class, result);
+        assertEquals("Transaction not found with id: 1", ((TransactionResult.NotFoundError) result).message());
+    }
+
+    @Test
+    void restoreTransactionById_invalidId() throws Exception {
+        TransactionResult result = transactionService.restoreTransactionById(0L).get();
+
+        assertInstanceOf(TransactionResult.ValidationError.class, result);
+        verifyNoInteractions(transactionRepository);
+    }
+
+    private ArchivedTransactionView archivedView() {
+        ArchivedTransactionView view = mock(ArchivedTransactionView.class);
+        lenient().when(view.getSellerId()).thenReturn(1L);
+        lenient().when(view.getAmount()).thenReturn(new BigDecimal("100.00"));
+        lenient().when(view.getPaymentType()).thenReturn("CARD");
+        lenient().when(view.getTransactionDate()).thenReturn(testTransaction.getTransactionDate());
+        return view;
+    }
+
     @Test
     void getTransactionsBySellerId_success() throws Exception {
         TransactionFlatView.SellerView sellerView = new TransactionFlatView.SellerView() {
@@ -548,11 +867,9 @@ class TransactionServiceImplTest {
     void getTransactionsBySellerIdAndDateRange_success() throws Exception {
         LocalDateTime start = LocalDateTime.now().minusDays(1);
         LocalDateTime end = LocalDateTime.now();
-        List<Transaction> transactions = List.of(testTransaction);
         List<TransactionResponseDTO> expectedDtos = List.of(testResponseDTO);
 
-        when(transactionRepository.findBySellerIdAndDateRange(1L, start, end)).thenReturn(transactions);
-        when(mapper.mapEntityToTransactionResponseDto(testTransaction)).thenReturn(testResponseDTO);
+        when(transactionRepository.findResponsesBySellerIdAndDateRange(1L, start, end)).thenReturn(expectedDtos);
 
         CompletableFuture<List<TransactionResponseDTO>> future = transactionService.getTransactionsBySellerIdAndDateRange(1L, start, end);
         List<TransactionResponseDTO> result = future.get();
@@ -618,7 +935,7 @@ class TransactionServiceImplTest {
         LocalDateTime start = LocalDateTime.now().minusDays(1);
         LocalDateTime end = LocalDateTime.now();
 
-        when(transactionRepository.findBySellerIdAndDateRange(1L, start, end)).thenThrow(new RuntimeException("DB error"));
+        when(transactionRepository.findResponsesBySellerIdAndDateRange(1L, start, end)).thenThrow(new RuntimeException("DB error"));
 
         CompletableFuture<List<TransactionResponseDTO>> future = transactionService.getTransactionsBySellerIdAndDateRange(1L, start, end);
         List<TransactionResponseDTO> result = future.get();
@@ -630,11 +947,9 @@ class TransactionServiceImplTest {
     void getTransactionsByDateRange_success() throws Exception {
         LocalDateTime start = LocalDateTime.now().minusDays(1);
         LocalDateTime end = LocalDateTime.now();
-        List<Transaction> transactions = List.of(testTransaction);
         List<TransactionResponseDTO> expectedDtos = List.of(testResponseDTO);
 
-        when(transactionRepository.findByDateRange(start, end)).thenReturn(transactions);
-        when(mapper.mapEntityToTransactionResponseDto(testTransaction)).thenReturn(testResponseDTO);
+        when(transactionRepository.findResponsesByDateRange(start, end)).thenReturn(expectedDtos);
 
         CompletableFuture<List<TransactionResponseDTO>> future = transactionService.getTransactionsByDateRange(start, end);
         List<TransactionResponseDTO> result = future.get();
@@ -678,11 +993,58 @@ class TransactionServiceImplTest {
         LocalDateTime start = LocalDateTime.now().minusDays(1);
         LocalDateTime end = LocalDateTime.now();
 
-        when(transactionRepository.findByDateRange(start, end)).thenThrow(new RuntimeException("DB error"));
+        when(transactionRepository.findResponsesByDateRange(start, end)).thenThrow(new RuntimeException("DB error"));
 
         CompletableFuture<List<TransactionResponseDTO>> future = transactionService.getTransactionsByDateRange(start, end);
         List<TransactionResponseDTO> result = future.get();
 
         assertTrue(result.isEmpty());
     }
-}
\ No newline at end of file
+
+    @Test
+    void exportTransactions_PassesEveryRowToConsumer() {
+        TransactionExportView first = mock(TransactionExportView.class);
+        TransactionExportView second = mock(TransactionExportView.class);
+        when(transactionRepository.streamAllForExport()).thenReturn(Stream.of(first, second));
+
+        List<TransactionExportView> received = new ArrayList<>();
+        transactionService.exportTransactions(received::add);
+
+        assertEquals(List.of(first, second), received);
+        verify(entityManager, never()).clear();
+    }
+
+    @Test
+    void exportTransactions_ClearsPersistenceContextPeriodically() {
+        TransactionExportView row = mock(TransactionExportView.class);
+        when(transactionRepository.streamAllForExport())
+                .thenReturn(IntStream.range(0, 2500).mapToObj(i -> row));
+
+        List<TransactionExportView> received = new ArrayList<>();
+        transactionService.exportTransactions(received::add);
+
+        assertEquals(2500, received.size());
+        verify(entityManager, times(2)).clear();
+    }
+
+    @Test
+    void exportTransactions_ClosesStream() {
+        boolean[] closed = {false};
+        when(transactionRepository.streamAllForExport())
+                .thenReturn(Stream.<TransactionExportView>empty().onClose(() -> closed[0] = true));
+
+        transactionService.exportTransactions(row -> {
+        });
+
+        assertTrue(closed[0]);
+    }
+
+    private TransactionCreateRequestDTO batchRow(Long sellerId, String amount) {
+        TransactionCreateRequestDTO dto = new TransactionCreateRequestDTO();
+        dto.setSellerId(sellerId);
+        dto.setAmount(amount != null ? new BigDecimal(amount) : null);
+        dto.setPaymentType(PaymentType.CASH);
+        dto.setTransactionDate(LocalDateTime.of(2024, 3, 1, 12, 0));
+        return dto;
+    }
+}
@@ -4,6 +4,7 @@ import lombok.AllArgsConstructor;
 import lombok.Data;
 import lombok.NoArgsConstructor;
 
+import java.math.BigDecimal;
 import java.time.LocalDateTime;
 
 @Data
@@ -13,4 +14,16 @@ public class BestPeriodResultDTO {
     private LocalDateTime startDate;
     private LocalDateTime endDate;
     private int transactionCount;
+    private BigDecimal totalAmount;
+
+    private LocalDateTime amountStartDate;
+    private LocalDateTime amountEndDate;
+    private int amountTransactionCount;
+    private BigDecimal amountTotal;
+
+    public BestPeriodResultDTO(LocalDateTime startDate, LocalDateTime endDate, int transactionCount) {
+        this.startDate = startDate;
+        this.endDate = endDate;
+        this.transactionCount = transactionCount;
+    }
 }
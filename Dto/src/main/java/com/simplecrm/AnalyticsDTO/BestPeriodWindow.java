@@ -0,0 +1,19 @@
+package com.simplecrm.AnalyticsDTO;
+
+import java.time.Duration;
+
+public enum BestPeriodWindow {
+    HOUR(Duration.ofHours(1)),
+    DAY(Duration.ofDays(1)),
+    WEEK(Duration.ofDays(7));
+
+    private final Duration duration;
+
+    BestPeriodWindow(Duration duration) {
+        this.duration = duration;
+    }
+
+    public Duration getDuration() {
+        return duration;
+    }
+}
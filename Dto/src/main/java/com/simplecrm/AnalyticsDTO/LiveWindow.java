@@ -0,0 +1,33 @@
+package com.simplecrm.AnalyticsDTO;
+
+import java.time.DayOfWeek;
+import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
+import java.time.temporal.TemporalAdjusters;
+
+/**
+ * Windows of the live leaderboard, in whole minutes: the last 60 minutes including the current
+ * one, the current calendar day and the current ISO week.
+ */
+public enum LiveWindow {
+    HOUR,
+    TODAY,
+    WEEK;
+
+    public LocalDateTime start(LocalDateTime now) {
+        LocalDateTime minute = now.truncatedTo(ChronoUnit.MINUTES);
+        return switch (this) {
+            case HOUR -> minute.minusMinutes(59);
+            case TODAY -> minute.truncatedTo(ChronoUnit.DAYS);
+            case WEEK -> minute.truncatedTo(ChronoUnit.DAYS).with(TemporalAdjusters.previousOrSame(DayOfWeek.MONDAY));
+        };
+    }
+
+    public LocalDateTime end(LocalDateTime now) {
+        return switch (this) {
+            case HOUR -> now.truncatedTo(ChronoUnit.MINUTES).plusMinutes(1);
+            case TODAY -> start(now).plusDays(1);
+            case WEEK -> start(now).plusWeeks(1);
+        };
+    }
+}
@@ -0,0 +1,17 @@
+package com.simplecrm.AnalyticsDTO;
+
+import com.simplecrm.ResponseDTO.SellerResponseDTO;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.math.BigDecimal;
+
+@Data
+@AllArgsConstructor
+@NoArgsConstructor
+public class SellerRankDTO {
+    private SellerResponseDTO seller;
+    private BigDecimal totalAmount;
+    private long transactionCount;
+}
@@ -0,0 +1,12 @@
+package com.simplecrm.Projections;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+
+public interface AgedTransactionView {
+    Long getId();
+    Long getSellerId();
+    BigDecimal getAmount();
+    String getPaymentType();
+    LocalDateTime getTransactionDate();
+}
@@ -0,0 +1,11 @@
+package com.simplecrm.Projections;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+
+public interface ArchivedTransactionView {
+    Long getSellerId();
+    BigDecimal getAmount();
+    String getPaymentType();
+    LocalDateTime getTransactionDate();
+}
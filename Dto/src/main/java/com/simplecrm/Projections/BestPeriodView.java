@@ -0,0 +1,16 @@
+package com.simplecrm.Projections;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+
+public interface BestPeriodView {
+    LocalDateTime getStartDate();
+    LocalDateTime getEndDate();
+    Long getTransactionCount();
+    BigDecimal getTotalAmount();
+
+    LocalDateTime getAmountStartDate();
+    LocalDateTime getAmountEndDate();
+    Long getAmountTransactionCount();
+    BigDecimal getAmountTotal();
+}
@@ -0,0 +1,7 @@
+package com.simplecrm.Projections;
+
+import java.time.LocalDate;
+
+public interface SellerDayTotalView extends SellerTotalView {
+    LocalDate getBucketDay();
+}
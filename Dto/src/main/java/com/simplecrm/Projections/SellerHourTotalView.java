@@ -0,0 +1,5 @@
+package com.simplecrm.Projections;
+
+public interface SellerHourTotalView extends SellerDayTotalView {
+    Integer getBucketHour();
+}
@@ -0,0 +1,13 @@
+package com.simplecrm.Projections;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+
+public interface SellerRankView {
+    Long getId();
+    String getName();
+    String getContactInfo();
+    LocalDateTime getRegistrationDate();
+    BigDecimal getTotalAmount();
+    Long getTransactionCount();
+}
@@ -0,0 +1,9 @@
+package com.simplecrm.Projections;
+
+import java.math.BigDecimal;
+
+public interface SellerTotalView {
+    Long getSellerId();
+    BigDecimal getTotalAmount();
+    Long getTransactionCount();
+}
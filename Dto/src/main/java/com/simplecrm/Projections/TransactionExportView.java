@@ -0,0 +1,16 @@
+package com.simplecrm.Projections;
+
+import com.simplecrm.Models.Enums.PaymentType;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+
+public interface TransactionExportView {
+    Long getId();
+    Long getSellerId();
+    String getSellerName();
+    BigDecimal getAmount();
+    PaymentType getPaymentType();
+    LocalDateTime getTransactionDate();
+    Long getVersion();
+}
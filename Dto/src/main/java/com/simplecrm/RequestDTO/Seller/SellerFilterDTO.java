@@ -0,0 +1,16 @@
+package com.simplecrm.RequestDTO.Seller;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+@Data
+@AllArgsConstructor
+@NoArgsConstructor
+public class SellerFilterDTO {
+    private String namePrefix;
+    private LocalDateTime registeredFrom;
+    private LocalDateTime registeredTo;
+}
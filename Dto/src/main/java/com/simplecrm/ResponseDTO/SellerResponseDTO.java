@@ -1,14 +1,23 @@
 package com.simplecrm.ResponseDTO;
 
+import lombok.AllArgsConstructor;
 import lombok.Data;
+import lombok.NoArgsConstructor;
 
 import java.time.LocalDateTime;
 
 @Data
+@NoArgsConstructor
+@AllArgsConstructor
 public class SellerResponseDTO {
     private Long id;
     private String name;
     private String contactInfo;
     private LocalDateTime registrationDate;
     private Long version;
-}
\ No newline at end of file
+
+    /** Used by JPQL constructor projections of seller listings, which do not expose the version. */
+    public SellerResponseDTO(Long id, String name, String contactInfo, LocalDateTime registrationDate) {
+        this(id, name, contactInfo, registrationDate, null);
+    }
+}
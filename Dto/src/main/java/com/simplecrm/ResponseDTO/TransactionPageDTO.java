@@ -0,0 +1,15 @@
+package com.simplecrm.ResponseDTO;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+@Data
+@AllArgsConstructor
+@NoArgsConstructor
+public class TransactionPageDTO {
+    private List<TransactionResponseDTO> items;
+    private String nextCursor;
+}
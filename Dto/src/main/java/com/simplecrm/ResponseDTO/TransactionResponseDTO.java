@@ -2,11 +2,13 @@ package com.simplecrm.ResponseDTO;
 
 import com.simplecrm.Models.Enums.PaymentType;
 import lombok.Data;
+import lombok.NoArgsConstructor;
 
 import java.math.BigDecimal;
 import java.time.LocalDateTime;
 
 @Data
+@NoArgsConstructor
 public class TransactionResponseDTO {
     private Long id;
     private SellerResponseDTO seller;
@@ -14,4 +16,16 @@ public class TransactionResponseDTO {
     private PaymentType paymentType;
     private LocalDateTime transactionDate;
     private Long version;
-}
\ No newline at end of file
+
+    /** Flat constructor for JPQL projections: {@code SELECT new ...} cannot build the nested seller itself. */
+    public TransactionResponseDTO(Long id, BigDecimal amount, PaymentType paymentType, LocalDateTime transactionDate, Long version,
+                                  Long sellerId, String sellerName, String sellerContactInfo,
+                                  LocalDateTime sellerRegistrationDate, Long sellerVersion) {
+        this.id = id;
+        this.seller = new SellerResponseDTO(sellerId, sellerName, sellerContactInfo, sellerRegistrationDate, sellerVersion);
+        this.amount = amount;
+        this.paymentType = paymentType;
+        this.transactionDate = transactionDate;
+        this.version = version;
+    }
+}
@@ -133,4 +133,20 @@ class DtoTest {
         assertEquals(now, dto.getTransactionDate());
         assertEquals(7L, dto.getVersion());
     }
+
+    @Test
+    void transactionResponseDTOProjectionConstructorTest() {
+        LocalDateTime date = LocalDateTime.of(2024, 5, 1, 10, 0);
+        LocalDateTime registered = LocalDateTime.of(2024, 1, 1, 9, 0);
+        TransactionResponseDTO dto = new TransactionResponseDTO(3L, BigDecimal.TEN, PaymentType.CASH, date, 2L,
+                1L, "Seller", "seller@example.com", registered, 4L);
+
+        assertEquals(3L, dto.getId());
+        assertEquals(BigDecimal.TEN, dto.getAmount());
+        assertEquals(PaymentType.CASH, dto.getPaymentType());
+        assertEquals(date, dto.getTransactionDate());
+        assertEquals(2L, dto.getVersion());
+        assertEquals(new SellerResponseDTO(1L, "Seller", "seller@example.com", registered, 4L), dto.getSeller());
+        assertNull(new SellerResponseDTO(1L, "Seller", "seller@example.com", registered).getVersion());
+    }
 }
@@ -1,13 +1,21 @@
 package com.simplecrm.Application;
 
+import com.simplecrm.Configs.JPAConfig;
+import com.simplecrm.Configs.ReadReplicaConfig;
+import com.simplecrm.Configs.SqlMetricsConfig;
 import io.swagger.v3.oas.annotations.OpenAPIDefinition;
 import io.swagger.v3.oas.annotations.info.Info;
 import org.springframework.boot.SpringApplication;
+import org.springframework.boot.autoconfigure.AutoConfigurationExcludeFilter;
 import org.springframework.boot.autoconfigure.SpringBootApplication;
 import org.springframework.boot.autoconfigure.jdbc.DataSourceProperties;
+import org.springframework.boot.context.TypeExcludeFilter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.ComponentScan;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.FilterType;
+import org.springframework.context.annotation.Import;
 import org.springframework.context.annotation.Primary;
 
 import javax.sql.DataSource;
@@ -19,14 +27,21 @@ import javax.sql.DataSource;
                 description = "API for sellers and transactions management powered by Spring Boot"
         )
 )
-@ComponentScan({"com.simplecrm.Application",
+// Same exclude filters as @SpringBootApplication, so test slices such as @DataJpaTest skip the
+// scanned services and controllers. The data-access configuration is imported so they keep it.
+@ComponentScan(value = {"com.simplecrm.Application",
         "com.simplecrm.Models.Entities",
         "com.simplecrm.Configs",
         "com.simplecrm.Services",
         "com.simplecrm.Repositories",
         "com.simplecrm.Controllers",
         "com.simplecrm.Handlers",
-        "com.simplecrm.Utils"})
+        "com.simplecrm.Utils"},
+        excludeFilters = {
+                @ComponentScan.Filter(type = FilterType.CUSTOM, classes = TypeExcludeFilter.class),
+                @ComponentScan.Filter(type = FilterType.CUSTOM, classes = AutoConfigurationExcludeFilter.class)
+        })
+@Import({JPAConfig.class, ReadReplicaConfig.class, SqlMetricsConfig.class})
 @SpringBootApplication
 public class Application {
     public static void main(String[] args) {
@@ -40,23 +55,22 @@ public class Application {
     @Configuration
     static class DataSourceConfig {
 
+        // Bound from spring.datasource.*, which the application config maps to DB_URL, DB_USER and
+        // DB_PASSWORD; tests override those properties to point at their own database.
         @Bean
         @Primary
-        public DataSource dataSource() {
-            String url = System.getenv("DB_URL");
-            String user = System.getenv("DB_USER");
-            String password = System.getenv("DB_PASSWORD");
-
-            if (url == null || user == null || password == null) {
+        @ConfigurationProperties(prefix = "spring.datasource.hikari")
+        public DataSource dataSource(DataSourceProperties props) {
+            if (unset(props.getUrl()) || unset(props.getUsername()) || unset(props.getPassword())) {
                 throw new RuntimeException("DB_URL, DB_USER, DB_PASSWORD must be set in environment variables");
             }
 
-            DataSourceProperties props = new DataSourceProperties();
-            props.setUrl(url);
-            props.setUsername(user);
-            props.setPassword(password);
-            props.setDriverClassName("org.postgresql.Driver");
             return props.initializeDataSourceBuilder().build();
         }
+
+        // The binder keeps a placeholder whose variable is missing as literal text.
+        private static boolean unset(String value) {
+            return value == null || value.startsWith("${");
+        }
     }
 }
\ No newline at end of file
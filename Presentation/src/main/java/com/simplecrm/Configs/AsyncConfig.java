@@ -1,9 +1,152 @@
 package com.simplecrm.Configs;
 
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.aop.interceptor.AsyncUncaughtExceptionHandler;
+import org.springframework.aop.interceptor.SimpleAsyncUncaughtExceptionHandler;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.annotation.AsyncConfigurer;
 import org.springframework.scheduling.annotation.EnableAsync;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
 
+import java.util.concurrent.Executor;
+import java.util.concurrent.ThreadPoolExecutor;
+
+/**
+ * Executors for the @Async service layer and MVC async requests, split into bulkheads over one
+ * connection pool. Analytics queries get a small platform-thread pool (a quarter of the pool by
+ * default), streaming exports get their own few virtual threads because each one holds a
+ * connection for the whole download, and service calls run on virtual threads limited to the
+ * remaining connections, so each side
+ * waits for a slot here rather than for a connection inside Hikari and long reports cannot
+ * starve CRUD traffic. Saturated executors reject immediately; GlobalExceptionHandler turns
+ * that into 429 for analytics and 503 otherwise. Each @Async method opens its own
+ * transaction on the worker thread; only the logging MDC is carried over from the caller.
+ */
 @Configuration
 @EnableAsync
-public class AsyncConfig {
-}
\ No newline at end of file
+public class AsyncConfig implements AsyncConfigurer {
+
+    public static final String SERVICE_EXECUTOR = "serviceExecutor";
+    public static final String ANALYTICS_EXECUTOR = "analyticsExecutor";
+    public static final String EXPORT_EXECUTOR = "exportExecutor";
+
+    private final ObjectProvider<MeterRegistry> meterRegistry;
+    private final int dbPoolSize;
+    private final int serviceMaxConcurrency;
+    private final int serviceQueueCapacity;
+    private final int analyticsPoolSize;
+    private final int analyticsQueueCapacity;
+    private final int exportMaxConcurrency;
+    private final int exportQueueCapacity;
+
+    public AsyncConfig(ObjectProvider<MeterRegistry> meterRegistry,
+                       @Value("${spring.datasource.hikari.maximum-pool-size:10}") int dbPoolSize,
+                       @Value("${async.service.max-concurrency:0}") int serviceMaxConcurrency,
+                       @Value("${async.service.queue-capacity:1000}") int serviceQueueCapacity,
+                       @Value("${async.analytics.pool-size:0}") int analyticsPoolSize,
+                       @Value("${async.analytics.queue-capacity:50}") int analyticsQueueCapacity,
+                       @Value("${async.export.max-concurrency:2}") int exportMaxConcurrency,
+                       @Value("${async.export.queue-capacity:4}") int exportQueueCapacity) {
+        this.meterRegistry = meterRegistry;
+        this.dbPoolSize = dbPoolSize;
+        this.serviceMaxConcurrency = serviceMaxConcurrency;
+        this.serviceQueueCapacity = serviceQueueCapacity;
+        this.analyticsPoolSize = analyticsPoolSize;
+        this.analyticsQueueCapacity = analyticsQueueCapacity;
+        this.exportMaxConcurrency = exportMaxConcurrency;
+        this.exportQueueCapacity = exportQueueCapacity;
+    }
+
+    @Bean(name = SERVICE_EXECUTOR)
+    public BoundedVirtualThreadExecutor serviceExecutor() {
+        int limit = serviceMaxConcurrency > 0
+                ? serviceMaxConcurrency
+                : Math.max(1, dbPoolSize - analyticsConnectionSlice() - exportMaxConcurrency);
+        return boundedVirtualThreadExecutor("service", limit, serviceQueueCapacity);
+    }
+
+    /** Runs StreamingResponseBody exports (MVC async, see WebConfig) apart from the service calls. */
+    @Bean(name = EXPORT_EXECUTOR)
+    public BoundedVirtualThreadExecutor exportExecutor() {
+        return boundedVirtualThreadExecutor("export", exportMaxConcurrency, exportQueueCapacity);
+    }
+
+    @Bean(name = ANALYTICS_EXECUTOR)
+    public ThreadPoolTaskExecutor analyticsExecutor() {
+        int size = analyticsConnectionSlice();
+        Runnable onRejected = rejectionCounter("analytics");
+
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setThreadNamePrefix("analytics-");
+        executor.setCorePoolSize(size);
+        executor.setMaxPoolSize(size);
+        executor.setQueueCapacity(analyticsQueueCapacity);
+        executor.setTaskDecorator(new MdcTaskDecorator());
+        executor.setRejectedExecutionHandler((task, pool) -> {
+            onRejected.run();
+            new ThreadPoolExecutor.AbortPolicy().rejectedExecution(task, pool);
+        });
+        executor.setWaitForTasksToCompleteOnShutdown(true);
+        executor.setAwaitTerminationSeconds(30);
+        meterRegistry.ifAvailable(registry -> {
+            Gauge.builder("executor.active", executor, ThreadPoolTaskExecutor::getActiveCount)
+                    .tag("name", "analytics")
+                    .register(registry);
+            Gauge.builder("executor.queued", executor, ThreadPoolTaskExecutor::getQueueSize)
+                    .tag("name", "analytics")
+                    .register(registry);
+            Gauge.builder("executor.queue.capacity", executor, ThreadPoolTaskExecutor::getQueueCapacity)
+                    .tag("name", "analytics")
+                    .register(registry);
+        });
+        return executor;
+    }
+
+    @Override
+    public Executor getAsyncExecutor() {
+        return serviceExecutor();
+    }
+
+    @Override
+    public AsyncUncaughtExceptionHandler getAsyncUncaughtExceptionHandler() {
+        return new SimpleAsyncUncaughtExceptionHandler();
+    }
+
+    private BoundedVirtualThreadExecutor boundedVirtualThreadExecutor(String name, int limit, int queueCapacity) {
+        BoundedVirtualThreadExecutor executor = new BoundedVirtualThreadExecutor(
+                name, limit, queueCapacity, new MdcTaskDecorator(), rejectionCounter(name));
+        meterRegistry.ifAvailable(registry -> {
+            Gauge.builder("executor.active", executor, BoundedVirtualThreadExecutor::getActiveCount)
+                    .tag("name", name)
+                    .register(registry);
+            Gauge.builder("executor.queued", executor, BoundedVirtualThreadExecutor::getQueuedCount)
+                    .tag("name", name)
+                    .register(registry);
+            Gauge.builder("executor.queue.capacity", executor, BoundedVirtualThreadExecutor::getQueueCapacity)
+                    .tag("name", name)
+                    .register(registry);
+        });
+        return executor;
+    }
+
+    private int analyticsConnectionSlice() {
+        return analyticsPoolSize > 0 ? analyticsPoolSize : Math.max(1, dbPoolSize / 4);
+    }
+
+    private Runnable rejectionCounter(String executorName) {
+        MeterRegistry registry = meterRegistry.getIfAvailable();
+        if (registry == null) {
+            return () -> {
+            };
+        }
+        Counter counter = Counter.builder("executor.rejected")
+                .tag("name", executorName)
+                .register(registry);
+        return counter::increment;
+    }
+}
@@ -0,0 +1,100 @@
+package com.simplecrm.Configs;
+
+import org.springframework.core.task.AsyncTaskExecutor;
+import org.springframework.core.task.TaskDecorator;
+import org.springframework.core.task.TaskRejectedException;
+
+import java.util.concurrent.Callable;
+import java.util.concurrent.Future;
+import java.util.concurrent.FutureTask;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.ThreadFactory;
+
+/**
+ * Starts every task on its own virtual thread, but lets at most {@code maxConcurrency} of them
+ * run at once and at most {@code queueCapacity} more wait for a slot; anything beyond that is
+ * rejected immediately instead of blocking the caller.
+ */
+public class BoundedVirtualThreadExecutor implements AsyncTaskExecutor {
+
+    private final String name;
+    private final int maxConcurrency;
+    private final int queueCapacity;
+    private final Semaphore admitted;
+    private final Semaphore running;
+    private final ThreadFactory threadFactory;
+    private final TaskDecorator taskDecorator;
+    private final Runnable onRejected;
+
+    public BoundedVirtualThreadExecutor(String name, int maxConcurrency, int queueCapacity,
+                                        TaskDecorator taskDecorator, Runnable onRejected) {
+        if (maxConcurrency <= 0 || queueCapacity < 0) {
+            throw new IllegalArgumentException("maxConcurrency must be positive and queueCapacity non-negative");
+        }
+        this.name = name;
+        this.maxConcurrency = maxConcurrency;
+        this.queueCapacity = queueCapacity;
+        this.admitted = new Semaphore(maxConcurrency + queueCapacity);
+        this.running = new Semaphore(maxConcurrency);
+        this.threadFactory = Thread.ofVirtual().name(name + "-", 0).factory();
+        this.taskDecorator = taskDecorator;
+        this.onRejected = onRejected;
+    }
+
+    @Override
+    public void execute(Runnable task) {
+        if (!admitted.tryAcquire()) {
+            onRejected.run();
+            throw new TaskRejectedException("Executor [" + name + "] is saturated, task " + task + " rejected");
+        }
+        Runnable decorated = taskDecorator != null ? taskDecorator.decorate(task) : task;
+        try {
+            threadFactory.newThread(() -> runWithSlot(decorated)).start();
+        } catch (RuntimeException e) {
+            admitted.release();
+            throw e;
+        }
+    }
+
+    @Override
+    public Future<?> submit(Runnable task) {
+        FutureTask<Object> future = new FutureTask<>(task, null);
+        execute(future);
+        return future;
+    }
+
+    @Override
+    public <T> Future<T> submit(Callable<T> task) {
+        FutureTask<T> future = new FutureTask<>(task);
+        execute(future);
+        return future;
+    }
+
+    public int getActiveCount() {
+        return maxConcurrency - running.availablePermits();
+    }
+
+    /** Admitted tasks still waiting for a running slot. */
+    public int getQueuedCount() {
+        int inFlight = maxConcurrency + queueCapacity - admitted.availablePermits();
+        return Math.max(0, inFlight - getActiveCount());
+    }
+
+    public int getMaxConcurrency() {
+        return maxConcurrency;
+    }
+
+    public int getQueueCapacity() {
+        return queueCapacity;
+    }
+
+    private void runWithSlot(Runnable task) {
+        running.acquireUninterruptibly();
+        try {
+            task.run();
+        } finally {
+            running.release();
+            admitted.release();
+        }
+    }
+}
@@ -0,0 +1,21 @@
+package com.simplecrm.Configs;
+
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.web.servlet.config.annotation.AsyncSupportConfigurer;
+import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
+
+@Configuration
+public class WebConfig implements WebMvcConfigurer {
+
+    private final BoundedVirtualThreadExecutor exportExecutor;
+
+    public WebConfig(@Qualifier(AsyncConfig.EXPORT_EXECUTOR) BoundedVirtualThreadExecutor exportExecutor) {
+        this.exportExecutor = exportExecutor;
+    }
+
+    @Override
+    public void configureAsyncSupport(AsyncSupportConfigurer configurer) {
+        configurer.setTaskExecutor(exportExecutor);
+    }
+}
@@ -1,9 +1,13 @@
 package com.simplecrm.Controllers;
 
 import com.simplecrm.AnalyticsDTO.BestPeriodResultDTO;
+import com.simplecrm.AnalyticsDTO.BestPeriodWindow;
+import com.simplecrm.AnalyticsDTO.LiveWindow;
+import com.simplecrm.AnalyticsDTO.SellerRankDTO;
 import com.simplecrm.ResponseDTO.SellerResponseDTO;
 import com.simplecrm.Services.Interfaces.AnalyticsService;
 import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.media.ArraySchema;
 import io.swagger.v3.oas.annotations.media.Content;
 import io.swagger.v3.oas.annotations.media.Schema;
 import io.swagger.v3.oas.annotations.responses.ApiResponse;
@@ -14,6 +18,7 @@ import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
 
 import java.math.BigDecimal;
+import java.time.Duration;
 import java.time.LocalDateTime;
 import java.util.List;
 import java.util.concurrent.CompletableFuture;
@@ -23,6 +28,8 @@ import java.util.concurrent.CompletableFuture;
 @RequiredArgsConstructor
 public class AnalyticsController {
 
+    private static final int MAX_LEADERBOARD_SIZE = 100;
+
     private final AnalyticsService analyticsService;
 
     @Operation(summary = "Получить самого продуктивного продавца", description = "Возвращает продавца с наибольшим объёмом продаж за указанный период")
@@ -41,6 +48,48 @@ public class AnalyticsController {
                 .exceptionally(ex -> ResponseEntity.badRequest().build());
     }
 
+    @Operation(summary = "Получить рейтинг продавцов",
+            description = "Возвращает n продавцов с наибольшим объёмом продаж за период вместе с суммой и количеством транзакций")
+    @ApiResponses({
+            @ApiResponse(responseCode = "200", description = "Рейтинг построен",
+                    content = @Content(mediaType = "application/json",
+                            array = @ArraySchema(schema = @Schema(implementation = SellerRankDTO.class)))),
+            @ApiResponse(responseCode = "400", description = "Некорректные параметры (n от 1 до " + MAX_LEADERBOARD_SIZE + ")")
+    })
+    @GetMapping("/top-sellers")
+    public CompletableFuture<ResponseEntity<List<SellerRankDTO>>> getTopSellers(
+            @RequestParam(defaultValue = "10") int n,
+            @RequestParam LocalDateTime start,
+            @RequestParam LocalDateTime end) {
+        if (n < 1 || n > MAX_LEADERBOARD_SIZE) {
+            return CompletableFuture.completedFuture(ResponseEntity.badRequest().build());
+        }
+        return analyticsService.findTopSellers(start, end, n)
+                .thenApply(ResponseEntity::ok)
+                .exceptionally(ex -> ResponseEntity.badRequest().build());
+    }
+
+    @Operation(summary = "Получить рейтинг продавцов в реальном времени",
+            description = "Возвращает n лучших продавцов за последний час (HOUR), текущий день (TODAY) или текущую неделю (WEEK) "
+                    + "из рейтинга в памяти, который обновляется при каждой записи транзакции")
+    @ApiResponses({
+            @ApiResponse(responseCode = "200", description = "Рейтинг получен",
+                    content = @Content(mediaType = "application/json",
+                            array = @ArraySchema(schema = @Schema(implementation = SellerRankDTO.class)))),
+            @ApiResponse(responseCode = "400", description = "Некорректные параметры (n от 1 до " + MAX_LEADERBOARD_SIZE + ")")
+    })
+    @GetMapping("/live-top-sellers")
+    public CompletableFuture<ResponseEntity<List<SellerRankDTO>>> getLiveTopSellers(
+            @RequestParam(defaultValue = "HOUR") LiveWindow window,
+            @RequestParam(defaultValue = "10") int n) {
+        if (n < 1 || n > MAX_LEADERBOARD_SIZE) {
+            return CompletableFuture.completedFuture(ResponseEntity.badRequest().build());
+        }
+        return analyticsService.findLiveTopSellers(window, n)
+                .thenApply(ResponseEntity::ok)
+                .exceptionally(ex -> ResponseEntity.badRequest().build());
+    }
+
     @Operation(summary = "Получить продавцов с суммой меньше указанной", description = "Возвращает список продавцов, сумма продаж которых меньше указанного значения за период")
     @ApiResponses({
             @ApiResponse(responseCode = "200", description = "Продавцы найдены",
@@ -58,18 +107,29 @@ public class AnalyticsController {
                 .exceptionally(ex -> ResponseEntity.badRequest().build());
     }
 
-    @Operation(summary = "Получить самое продуктивное время продавца", description = "Возвращает временной период, когда продавец был наиболее активен")
+    @Operation(summary = "Получить самое продуктивное время продавца",
+            description = "Возвращает окно заданной длины с наибольшим числом транзакций продавца и окно с наибольшей суммой. "
+                    + "Длина окна задаётся параметром window (HOUR, DAY, WEEK) или duration в формате ISO-8601 (например, PT6H); "
+                    + "без параметров окно охватывает всю историю продавца")
     @ApiResponses({
             @ApiResponse(responseCode = "200", description = "Период найден",
                     content = @Content(mediaType = "application/json",
                             schema = @Schema(implementation = BestPeriodResultDTO.class))),
+            @ApiResponse(responseCode = "400", description = "Некорректная длина окна"),
             @ApiResponse(responseCode = "404", description = "Продавец не найден"),
             @ApiResponse(responseCode = "418", description = "Я чайник")
     })
     @GetMapping("/best-period/{sellerId}")
     public CompletableFuture<ResponseEntity<BestPeriodResultDTO>> getBestTransactionPeriodForSeller(
-            @PathVariable Long sellerId) {
-        return analyticsService.findBestTransactionPeriodForSeller(sellerId)
+            @PathVariable Long sellerId,
+            @RequestParam(required = false) BestPeriodWindow window,
+            @RequestParam(required = false) Duration duration) {
+        Duration windowLength = duration != null ? duration : window != null ? window.getDuration() : null;
+        if (windowLength != null && (windowLength.isNegative() || windowLength.isZero())) {
+            return CompletableFuture.completedFuture(ResponseEntity.badRequest().body(new BestPeriodResultDTO()));
+        }
+
+        return analyticsService.findBestTransactionPeriodForSeller(sellerId, windowLength)
                 .thenApply(result -> {
                     if (result.getTransactionCount() == 0) {
                         return ResponseEntity.status(HttpStatus.NOT_FOUND)
@@ -1,7 +1,10 @@
 package com.simplecrm.Controllers;
 
+import com.simplecrm.Exceptions.SellerValidationException;
 import com.simplecrm.RequestDTO.Seller.SellerCreateRequestDTO;
+import com.simplecrm.RequestDTO.Seller.SellerFilterDTO;
 import com.simplecrm.RequestDTO.Seller.SellerUpdateRequestDTO;
+import com.simplecrm.ResponseDTO.SellerPageDTO;
 import com.simplecrm.ResponseDTO.SellerResponseDTO;
 import com.simplecrm.ResultTypes.SellerResult;
 import com.simplecrm.Services.Interfaces.SellerService;
@@ -16,8 +19,10 @@ import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
 
+import java.time.LocalDateTime;
 import java.util.List;
 import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
 
 @RestController
 @RequestMapping("/api/sellers")
@@ -26,16 +31,45 @@ public class SellerController {
 
     private final SellerService sellerService;
 
+    @Operation(
+            summary = "Получить страницу продавцов",
+            description = "Возвращает продавцов порциями не более limit с фильтрами по началу имени (без учёта регистра) "
+                    + "и дате регистрации. sort: name, registrationDate или id, с префиксом - для обратного порядка. "
+                    + "Для следующей страницы передайте nextCursor из предыдущего ответа в параметре cursor")
+    @ApiResponses({
+            @ApiResponse(responseCode = "200", description = "Страница успешно получена",
+                    content = @Content(mediaType = "application/json",
+                            schema = @Schema(implementation = SellerPageDTO.class))),
+            @ApiResponse(responseCode = "400", description = "Некорректный фильтр, сортировка, курсор или limit"),
+            @ApiResponse(responseCode = "500", description = "Ошибка сервера")
+    })
+    @GetMapping
+    public CompletableFuture<ResponseEntity<SellerPageDTO>> getSellersPage(
+            @RequestParam(required = false) String name,
+            @RequestParam(required = false) LocalDateTime registeredFrom,
+            @RequestParam(required = false) LocalDateTime registeredTo,
+            @RequestParam(defaultValue = "name") String sort,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = "100") int limit) {
+        SellerFilterDTO filter = new SellerFilterDTO(name, registeredFrom, registeredTo);
+        return sellerService.getSellersPage(filter, sort, cursor, limit)
+                .thenApply(ResponseEntity::ok)
+                .exceptionally(ex -> isValidationFailure(ex)
+                        ? ResponseEntity.badRequest().<SellerPageDTO>build()
+                        : ResponseEntity.internalServerError().<SellerPageDTO>build());
+    }
+
     @Operation(
             summary = "Получить список всех продавцов",
-            description = "Возвращает полный список всех продавцов")
+            description = "Возвращает полный список всех продавцов одним ответом. "
+                    + "Для больших объёмов используйте постраничный GET /api/sellers")
     @ApiResponses({
             @ApiResponse(responseCode = "200", description = "Список успешно получен",
                     content = @Content(mediaType = "application/json",
                             schema = @Schema(implementation = SellerResponseDTO.class))),
             @ApiResponse(responseCode = "500", description = "Ошибка сервера")
     })
-    @GetMapping
+    @GetMapping("/all")
     public CompletableFuture<ResponseEntity<List<SellerResponseDTO>>> getAllSellers() {
         return sellerService.getAllSellers()
                 .thenApply(ResponseEntity::ok)
@@ -146,4 +180,9 @@ public class SellerController {
                 })
                 .exceptionally(ex -> ResponseEntity.internalServerError().build());
     }
-}
\ No newline at end of file
+
+    private static boolean isValidationFailure(Throwable ex) {
+        Throwable cause = ex instanceof CompletionException && ex.getCause() != null ? ex.getCause() : ex;
+        return cause instanceof SellerValidationException;
+    }
+}
@@ -1,47 +1,127 @@
 package com.simplecrm.Controllers;
 
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.simplecrm.Exceptions.TransactionValidationException;
+import com.simplecrm.Projections.TransactionExportView;
 import com.simplecrm.Projections.TransactionFlatView;
 import com.simplecrm.RequestDTO.Transaction.TransactionCreateRequestDTO;
 import com.simplecrm.RequestDTO.Transaction.TransactionUpdateRequestDTO;
+import com.simplecrm.ResponseDTO.TransactionPageDTO;
 import com.simplecrm.ResponseDTO.TransactionResponseDTO;
 import com.simplecrm.ResultTypes.TransactionResult;
 import com.simplecrm.Services.Interfaces.TransactionService;
+import com.simplecrm.Utils.TransactionCsv;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.media.Content;
 import io.swagger.v3.oas.annotations.media.Schema;
 import io.swagger.v3.oas.annotations.responses.ApiResponse;
 import io.swagger.v3.oas.annotations.responses.ApiResponses;
 import lombok.RequiredArgsConstructor;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.OutputStreamWriter;
+import java.io.UncheckedIOException;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
 import java.util.List;
 import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
 
 @RestController
 @RequestMapping("/api/transactions")
 @RequiredArgsConstructor
 public class TransactionController {
 
+    private static final MediaType NDJSON = MediaType.parseMediaType("application/x-ndjson");
+    private static final MediaType CSV = MediaType.parseMediaType("text/csv");
+
     private final TransactionService transactionService;
+    private final ObjectMapper objectMapper;
+
+    @Operation(
+            summary = "Получить страницу транзакций",
+            description = "Возвращает транзакции, упорядоченные по дате и ID, порциями не более limit. "
+                    + "Для следующей страницы передайте nextCursor из предыдущего ответа в параметре cursor")
+    @ApiResponses({
+            @ApiResponse(responseCode = "200", description = "Страница успешно получена",
+                    content = @Content(mediaType = "application/json",
+                            schema = @Schema(implementation = TransactionPageDTO.class))),
+            @ApiResponse(responseCode = "400", description = "Некорректный курсор или limit"),
+            @ApiResponse(responseCode = "500", description = "Ошибка сервера")
+    })
+    @GetMapping
+    public CompletableFuture<ResponseEntity<TransactionPageDTO>> getTransactionsPage(
+            @RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = "100") int limit) {
+        return transactionService.getTransactionsPage(cursor, limit)
+                .thenApply(ResponseEntity::ok)
+                .exceptionally(ex -> isValidationFailure(ex)
+                        ? ResponseEntity.badRequest().<TransactionPageDTO>build()
+                        : ResponseEntity.internalServerError().<TransactionPageDTO>build());
+    }
 
     @Operation(
             summary = "Получить список всех транзакций",
-            description = "Возвращает полный список всех транзакций")
+            description = "Возвращает полный список всех транзакций одним ответом. "
+                    + "Для больших объёмов используйте постраничный GET /api/transactions")
     @ApiResponses({
             @ApiResponse(responseCode = "200", description = "Список успешно получен",
                     content = @Content(mediaType = "application/json",
                             schema = @Schema(implementation = TransactionResponseDTO.class))),
             @ApiResponse(responseCode = "500", description = "Ошибка сервера")
     })
-    @GetMapping
+    @GetMapping("/all")
     public CompletableFuture<ResponseEntity<List<TransactionResponseDTO>>> getAllTransactions() {
         return transactionService.getAllTransactions()
                 .thenApply(ResponseEntity::ok)
                 .exceptionally(ex -> ResponseEntity.internalServerError().build());
     }
 
+    @Operation(
+            summary = "Выгрузить все транзакции",
+            description = "Потоково выгружает все активные транзакции, упорядоченные по дате и ID. "
+                    + "format=ndjson (по умолчанию) — по одному JSON-объекту на строку, format=csv — CSV с заголовком")
+    @ApiResponses({
+            @ApiResponse(responseCode = "200", description = "Выгрузка начата",
+                    content = {
+                            @Content(mediaType = "application/x-ndjson"),
+                            @Content(mediaType = "text/csv")
+                    }),
+            @ApiResponse(responseCode = "400", description = "Неподдерживаемый формат")
+    })
+    @GetMapping("/export")
+    public ResponseEntity<StreamingResponseBody> exportTransactions(
+            @RequestParam(defaultValue = "ndjson") String format) {
+        if ("ndjson".equalsIgnoreCase(format)) {
+            return ResponseEntity.ok()
+                    .contentType(NDJSON)
+                    .body(out -> {
+                        Writer writer = new BufferedWriter(new OutputStreamWriter(out, StandardCharsets.UTF_8));
+                        transactionService.exportTransactions(row -> writeLine(writer, toJson(row)));
+                        writer.flush();
+                    });
+        }
+        if ("csv".equalsIgnoreCase(format)) {
+            return ResponseEntity.ok()
+                    .contentType(CSV)
+                    .header(HttpHeaders.CONTENT_DISPOSITION, "attachment; filename=\"transactions.csv\"")
+                    .body(out -> {
+                        Writer writer = new BufferedWriter(new OutputStreamWriter(out, StandardCharsets.UTF_8));
+                        writeLine(writer, TransactionCsv.HEADER);
+                        transactionService.exportTransactions(row -> writeLine(writer, TransactionCsv.toLine(row)));
+                        writer.flush();
+                    });
+        }
+        return ResponseEntity.badRequest().build();
+    }
+
     @Operation(
             summary = "Получить транзакцию по ID",
             description = "Возвращает информацию о конкретной транзакции по ID")
@@ -96,6 +176,27 @@ public class TransactionController {
                         .body(new TransactionResult.GenericError("Error: " + ex.getMessage())));
     }
 
+    @Operation(
+            summary = "Создать транзакции пакетом",
+            description = "Добавляет до 10000 транзакций за один запрос. Возвращает результат для каждой строки "
+                    + "в порядке запроса: некорректные строки и строки с неизвестным продавцом не прерывают пакет")
+    @ApiResponses({
+            @ApiResponse(responseCode = "200", description = "Пакет обработан",
+                    content = @Content(mediaType = "application/json",
+                            schema = @Schema(implementation = TransactionResult.class))),
+            @ApiResponse(responseCode = "400", description = "Пустой или слишком большой пакет"),
+            @ApiResponse(responseCode = "500", description = "Ошибка сервера")
+    })
+    @PostMapping("/batch")
+    public CompletableFuture<ResponseEntity<List<TransactionResult>>> createTransactions(
+            @RequestBody List<TransactionCreateRequestDTO> dtos) {
+        return transactionService.createTransactions(dtos)
+                .thenApply(ResponseEntity::ok)
+                .exceptionally(ex -> isValidationFailure(ex)
+                        ? ResponseEntity.badRequest().<List<TransactionResult>>build()
+                        : ResponseEntity.internalServerError().<List<TransactionResult>>build());
+    }
+
     @Operation(
             summary = "Обновить транзакцию",
             description = "Обновляет информацию о транзакции по ID")
@@ -157,6 +258,29 @@ public class TransactionController {
                 .exceptionally(ex -> ResponseEntity.internalServerError().build());
     }
 
+    @Operation(
+            summary = "Восстановить транзакцию",
+            description = "Отменяет мягкое удаление транзакции по ID, в том числе если она уже перенесена в архив")
+    @ApiResponses({
+            @ApiResponse(responseCode = "200", description = "Транзакция восстановлена"),
+            @ApiResponse(responseCode = "400", description = "Некорректный ID"),
+            @ApiResponse(responseCode = "404", description = "Транзакция или продавец не найдены"),
+            @ApiResponse(responseCode = "500", description = "Ошибка сервера")
+    })
+    @PostMapping("/{id}/restore")
+    public CompletableFuture<ResponseEntity<TransactionResult>> restoreTransaction(@PathVariable Long id) {
+        return transactionService.restoreTransactionById(id)
+                .thenApply(result -> switch (result) {
+                    case TransactionResult.NotFoundError e -> ResponseEntity.status(HttpStatus.NOT_FOUND).body(result);
+                    case TransactionResult.SellerNotFoundError e -> ResponseEntity.status(HttpStatus.NOT_FOUND).body(result);
+                    case TransactionResult.ValidationError e -> ResponseEntity.badRequest().body(result);
+                    case TransactionResult.GenericError e -> ResponseEntity.internalServerError().body(result);
+                    default -> ResponseEntity.ok(result);
+                })
+                .exceptionally(ex -> ResponseEntity.internalServerError()
+                        .body(new TransactionResult.GenericError("Error: " + ex.getMessage())));
+    }
+
     @Operation(
             summary = "Получить все транзакции продавца",
             description = "Возвращает список всех транзакций конкретного продавца")
@@ -174,4 +298,26 @@ public class TransactionController {
                 .thenApply(ResponseEntity::ok)
                 .exceptionally(ex -> ResponseEntity.internalServerError().build());
     }
-}
\ No newline at end of file
+
+    private static boolean isValidationFailure(Throwable ex) {
+        Throwable cause = ex instanceof CompletionException && ex.getCause() != null ? ex.getCause() : ex;
+        return cause instanceof TransactionValidationException;
+    }
+
+    private String toJson(TransactionExportView row) {
+        try {
+            return objectMapper.writeValueAsString(row);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    private static void writeLine(Writer writer, String line) {
+        try {
+            writer.write(line);
+            writer.write('\n');
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+}
@@ -1,5 +1,8 @@
 package com.simplecrm.Handlers;
 
+import jakarta.servlet.http.HttpServletRequest;
+import org.springframework.core.task.TaskRejectedException;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.ExceptionHandler;
 import org.springframework.web.bind.annotation.RestControllerAdvice;
@@ -9,6 +12,10 @@ import org.springframework.http.HttpStatus;
 @RestControllerAdvice
 public class GlobalExceptionHandler {
 
+    private static final String ANALYTICS_PATH = "/api/analytics";
+    private static final String ANALYTICS_RETRY_AFTER_SECONDS = "5";
+    private static final String SERVICE_RETRY_AFTER_SECONDS = "1";
+
     @ExceptionHandler(SellerValidationException.class)
     public ResponseEntity<String> handleSellerValidation(SellerValidationException ex) {
         return ResponseEntity.badRequest().body(ex.getMessage());
@@ -44,6 +51,18 @@ public class GlobalExceptionHandler {
         return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR).body(ex.getMessage());
     }
 
+    @ExceptionHandler(TaskRejectedException.class)
+    public ResponseEntity<String> handleTaskRejected(TaskRejectedException ex, HttpServletRequest request) {
+        if (request.getRequestURI().startsWith(ANALYTICS_PATH)) {
+            return ResponseEntity.status(HttpStatus.TOO_MANY_REQUESTS)
+                    .header(HttpHeaders.RETRY_AFTER, ANALYTICS_RETRY_AFTER_SECONDS)
+                    .body("Too many analytics requests, retry later");
+        }
+        return ResponseEntity.status(HttpStatus.SERVICE_UNAVAILABLE)
+                .header(HttpHeaders.RETRY_AFTER, SERVICE_RETRY_AFTER_SECONDS)
+                .body("Service is overloaded, retry later");
+    }
+
     @ExceptionHandler(Exception.class)
     public ResponseEntity<String> handleGeneralException(Exception ex) {
         return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR).body("An unexpected error occurred: " + ex.getMessage());
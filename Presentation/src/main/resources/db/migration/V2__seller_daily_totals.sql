@@ -0,0 +1,18 @@
+CREATE TABLE IF NOT EXISTS seller_daily_totals (
+                                                   seller_id BIGINT NOT NULL,
+                                                   day DATE NOT NULL,
+                                                   payment_type VARCHAR(50) NOT NULL,
+                                                   sum_amount NUMERIC(19, 5) NOT NULL DEFAULT 0,
+                                                   tx_count BIGINT NOT NULL DEFAULT 0,
+                                                   PRIMARY KEY (seller_id, day, payment_type),
+                                                   FOREIGN KEY (seller_id) REFERENCES sellers(id) ON DELETE CASCADE
+);
+
+CREATE INDEX IF NOT EXISTS idx_seller_daily_totals_day ON seller_daily_totals(day, seller_id);
+
+INSERT INTO seller_daily_totals (seller_id, day, payment_type, sum_amount, tx_count)
+SELECT seller_id, CAST(transaction_date AS DATE), payment_type, SUM(amount), COUNT(*)
+FROM transactions
+WHERE deleted = FALSE
+GROUP BY seller_id, CAST(transaction_date AS DATE), payment_type
+ON CONFLICT (seller_id, day, payment_type) DO NOTHING;
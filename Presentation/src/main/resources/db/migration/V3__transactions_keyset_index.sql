@@ -0,0 +1 @@
+CREATE INDEX IF NOT EXISTS idx_transactions_active_date_id ON transactions(transaction_date, id) WHERE deleted = FALSE;
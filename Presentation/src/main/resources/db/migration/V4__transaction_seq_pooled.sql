@@ -0,0 +1,7 @@
+-- Transaction ids come from transaction_seq in blocks of 50 (pooled-lo optimizer),
+-- so the sequence has to step by the allocation size and start past existing ids.
+ALTER SEQUENCE transaction_seq INCREMENT BY 50;
+
+SELECT setval('transaction_seq', COALESCE((SELECT MAX(id) FROM transactions), 0) + 1, false);
+
+ALTER TABLE transactions ALTER COLUMN id SET DEFAULT nextval('transaction_seq');
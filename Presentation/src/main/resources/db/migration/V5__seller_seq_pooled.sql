@@ -0,0 +1,6 @@
+-- Same pooled-lo switch as V4, applied to seller_seq for the Seller entity's allocation size.
+ALTER SEQUENCE seller_seq INCREMENT BY 50;
+
+SELECT setval('seller_seq', COALESCE((SELECT MAX(id) FROM sellers), 0) + 1, false);
+
+ALTER TABLE sellers ALTER COLUMN id SET DEFAULT nextval('seller_seq');
@@ -0,0 +1,18 @@
+-- Every transaction query filters deleted = FALSE plus seller_id and/or transaction_date and
+-- orders by transaction_date. Partial indexes leave soft-deleted rows out; the INCLUDE columns
+-- let the aggregates (sum/count per seller, best-period windows) run as index-only scans.
+CREATE INDEX IF NOT EXISTS idx_transactions_active_seller_date
+    ON transactions(seller_id, transaction_date) INCLUDE (amount) WHERE deleted = FALSE;
+
+-- Also serves keyset paging on (transaction_date, id), replacing the V3 index.
+CREATE INDEX IF NOT EXISTS idx_transactions_active_date
+    ON transactions(transaction_date, id) INCLUDE (seller_id, amount) WHERE deleted = FALSE;
+
+CREATE INDEX IF NOT EXISTS idx_sellers_active_name ON sellers(name) WHERE deleted = FALSE;
+
+DROP INDEX IF EXISTS idx_transactions_active_date_id;
+DROP INDEX IF EXISTS idx_transactions_date;
+DROP INDEX IF EXISTS idx_transactions_deleted;
+DROP INDEX IF EXISTS idx_sellers_deleted;
+-- idx_transactions_seller_id stays: it covers deleted rows too, which the FK check needs
+-- when a seller is hard-deleted.
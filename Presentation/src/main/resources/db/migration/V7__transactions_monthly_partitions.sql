@@ -0,0 +1,119 @@
+-- Range-partitions transactions by month on transaction_date, so date-bounded analytics only read
+-- the months they ask for. The primary key has to contain the partition key and becomes
+-- (id, transaction_date). Ids stay unique because every id comes from transaction_seq.
+ALTER TABLE transactions RENAME TO transactions_unpartitioned;
+
+CREATE TABLE transactions (
+    id BIGINT NOT NULL DEFAULT nextval('transaction_seq'),
+    seller_id BIGINT NOT NULL,
+    amount NUMERIC(19, 5) NOT NULL,
+    payment_type VARCHAR(50) NOT NULL,
+    transaction_date TIMESTAMP NOT NULL,
+    deleted BOOLEAN NOT NULL DEFAULT FALSE,
+    version BIGINT NOT NULL DEFAULT 0,
+    CONSTRAINT pk_transactions PRIMARY KEY (id, transaction_date),
+    CONSTRAINT fk_transaction_seller FOREIGN KEY (seller_id) REFERENCES sellers(id)
+) PARTITION BY RANGE (transaction_date);
+
+-- Rows outside every monthly partition land here until create_transaction_partitions moves them.
+CREATE TABLE transactions_default PARTITION OF transactions DEFAULT;
+
+CREATE SCHEMA IF NOT EXISTS transactions_detached;
+
+-- Creates the partition transactions_yYYYYmMM for the month of for_month; false if it exists.
+CREATE OR REPLACE FUNCTION create_transaction_partition(for_month DATE) RETURNS BOOLEAN AS $$
+DECLARE
+    lower_bound TIMESTAMP := date_trunc('month', for_month);
+    upper_bound TIMESTAMP := date_trunc('month', for_month) + INTERVAL '1 month';
+    partition_name TEXT := 'transactions_' || to_char(date_trunc('month', for_month), '"y"YYYY"m"MM');
+BEGIN
+    IF to_regclass(partition_name) IS NOT NULL THEN
+        RETURN FALSE;
+    END IF;
+    IF EXISTS (SELECT 1 FROM transactions_default
+               WHERE transaction_date >= lower_bound AND transaction_date < upper_bound) THEN
+        -- The default partition already holds rows of this month: a plain PARTITION OF would
+        -- fail, so move them into a standalone table and attach it.
+        EXECUTE format('CREATE TABLE %I (LIKE transactions INCLUDING DEFAULTS)', partition_name);
+        EXECUTE format('WITH moved AS (DELETE FROM transactions_default WHERE transaction_date >= %L AND transaction_date < %L RETURNING *) '
+                       || 'INSERT INTO %I SELECT * FROM moved', lower_bound, upper_bound, partition_name);
+        EXECUTE format('ALTER TABLE transactions ATTACH PARTITION %I FOR VALUES FROM (%L) TO (%L)',
+                       partition_name, lower_bound, upper_bound);
+    ELSE
+        EXECUTE format('CREATE TABLE %I PARTITION OF transactions FOR VALUES FROM (%L) TO (%L)',
+                       partition_name, lower_bound, upper_bound);
+    END IF;
+    RETURN TRUE;
+END;
+$$ LANGUAGE plpgsql;
+
+-- Creates missing partitions from the oldest month in the default partition (or the current
+-- month) through months_ahead months from now; returns how many were created.
+CREATE OR REPLACE FUNCTION create_transaction_partitions(months_ahead INTEGER) RETURNS INTEGER AS $$
+DECLARE
+    first_month TIMESTAMP := date_trunc('month', LEAST(LOCALTIMESTAMP,
+            COALESCE((SELECT MIN(transaction_date) FROM transactions_default), LOCALTIMESTAMP)));
+    last_month TIMESTAMP := date_trunc('month', LOCALTIMESTAMP) + make_interval(months => months_ahead);
+    month_start TIMESTAMP;
+    created INTEGER := 0;
+BEGIN
+    FOR month_start IN SELECT generate_series(first_month, last_month, INTERVAL '1 month') LOOP
+        IF create_transaction_partition(CAST(month_start AS DATE)) THEN
+            created := created + 1;
+        END IF;
+    END LOOP;
+    RETURN created;
+END;
+$$ LANGUAGE plpgsql;
+
+-- Detaches monthly partitions that end on or before cutoff and moves them to the
+-- transactions_detached schema; returns how many were archived. Their active rows are taken out of
+-- seller_daily_totals first, so analytics never count rows that left the transactions table.
+CREATE OR REPLACE FUNCTION archive_transaction_partitions(cutoff DATE) RETURNS INTEGER AS $$
+DECLARE
+    part RECORD;
+    archived INTEGER := 0;
+BEGIN
+    FOR part IN
+        SELECT c.relname
+        FROM pg_inherits i
+        JOIN pg_class c ON c.oid = i.inhrelid
+        WHERE i.inhparent = 'transactions'::regclass
+          AND c.relname ~ '^transactions_y[0-9]{4}m[0-9]{2}$'
+          AND to_date(substring(c.relname FROM 14), '"y"YYYY"m"MM') + INTERVAL '1 month' <= cutoff
+        ORDER BY c.relname
+    LOOP
+        EXECUTE format('UPDATE seller_daily_totals d '
+                       || 'SET sum_amount = d.sum_amount - p.amount, tx_count = d.tx_count - p.cnt '
+                       || 'FROM (SELECT seller_id, CAST(transaction_date AS DATE) AS day, payment_type, '
+                       || 'SUM(amount) AS amount, COUNT(*) AS cnt FROM %I WHERE deleted = FALSE '
+                       || 'GROUP BY seller_id, CAST(transaction_date AS DATE), payment_type) p '
+                       || 'WHERE d.seller_id = p.seller_id AND d.day = p.day AND d.payment_type = p.payment_type',
+                       part.relname);
+        EXECUTE format('ALTER TABLE transactions DETACH PARTITION %I', part.relname);
+        -- Detached rows must not block hard deletes of their sellers.
+        EXECUTE format('ALTER TABLE %I DROP CONSTRAINT IF EXISTS fk_transaction_seller', part.relname);
+        EXECUTE format('ALTER TABLE %I SET SCHEMA transactions_detached', part.relname);
+        archived := archived + 1;
+    END LOOP;
+    RETURN archived;
+END;
+$$ LANGUAGE plpgsql;
+
+SELECT create_transaction_partition(CAST(month_start AS DATE))
+FROM generate_series(date_trunc('month', (SELECT MIN(transaction_date) FROM transactions_unpartitioned)),
+                     date_trunc('month', LOCALTIMESTAMP), INTERVAL '1 month') AS month_start;
+SELECT create_transaction_partitions(3);
+
+INSERT INTO transactions (id, seller_id, amount, payment_type, transaction_date, deleted, version)
+SELECT id, seller_id, amount, payment_type, transaction_date, deleted, version
+FROM transactions_unpartitioned;
+
+DROP TABLE transactions_unpartitioned;
+
+-- Indexes on the partitioned table are created on every partition, present and future.
+CREATE INDEX IF NOT EXISTS idx_transactions_seller_id ON transactions(seller_id);
+CREATE INDEX IF NOT EXISTS idx_transactions_active_seller_date
+    ON transactions(seller_id, transaction_date) INCLUDE (amount) WHERE deleted = FALSE;
+CREATE INDEX IF NOT EXISTS idx_transactions_active_date
+    ON transactions(transaction_date, id) INCLUDE (seller_id, amount) WHERE deleted = FALSE;
@@ -0,0 +1,20 @@
+-- Cold storage for soft-deleted transactions and, optionally, ones past the retention window.
+-- Archived rows are never counted in seller_daily_totals: soft-deleted rows left them when they
+-- were deleted, aged rows are subtracted in the batch that moves them, and a restore adds the
+-- row back. deleted tells the two kinds apart.
+CREATE TABLE IF NOT EXISTS transactions_archive (
+    id BIGINT PRIMARY KEY,
+    seller_id BIGINT NOT NULL REFERENCES sellers(id) ON DELETE CASCADE,
+    amount NUMERIC(19, 5) NOT NULL,
+    payment_type VARCHAR(50) NOT NULL,
+    transaction_date TIMESTAMP NOT NULL,
+    deleted BOOLEAN NOT NULL,
+    version BIGINT NOT NULL,
+    archived_at TIMESTAMP NOT NULL DEFAULT LOCALTIMESTAMP
+);
+
+CREATE INDEX IF NOT EXISTS idx_transactions_archive_seller_date ON transactions_archive(seller_id, transaction_date);
+
+-- Lets the archiver find soft-deleted rows without scanning every partition; stays small
+-- because the archiver keeps draining it.
+CREATE INDEX IF NOT EXISTS idx_transactions_deleted_id ON transactions(id) WHERE deleted = TRUE;
@@ -0,0 +1,18 @@
+-- Seller listing (GET /api/sellers): case-insensitive name-prefix search plus keyset paging
+-- by (name, id), (registration_date, id) or id, always over live sellers.
+
+-- Trigram GIN on lower(name) serves lower(name) LIKE 'prefix%' even when the pattern is a bind
+-- parameter of a generic plan, which a text_pattern_ops btree cannot.
+CREATE EXTENSION IF NOT EXISTS pg_trgm;
+
+CREATE INDEX IF NOT EXISTS idx_sellers_active_name_trgm
+    ON sellers USING gin (lower(name) gin_trgm_ops) WHERE deleted = FALSE;
+
+-- (name, id) replaces the V6 (name) index: it still serves lookups by name and gives the
+-- name-ordered keyset its tiebreaker.
+CREATE INDEX IF NOT EXISTS idx_sellers_active_name_id ON sellers(name, id) WHERE deleted = FALSE;
+
+CREATE INDEX IF NOT EXISTS idx_sellers_active_registration_date
+    ON sellers(registration_date, id) WHERE deleted = FALSE;
+
+DROP INDEX IF EXISTS idx_sellers_active_name;
@@ -1,6 +1,8 @@
 package com.simplecrm.api;
 
 import com.simplecrm.AnalyticsDTO.BestPeriodResultDTO;
+import com.simplecrm.AnalyticsDTO.LiveWindow;
+import com.simplecrm.AnalyticsDTO.SellerRankDTO;
 import com.simplecrm.Controllers.AnalyticsController;
 import com.simplecrm.ResponseDTO.SellerResponseDTO;
 import com.simplecrm.Services.Interfaces.AnalyticsService;
@@ -15,12 +17,16 @@ import org.springframework.context.annotation.Import;
 import org.springframework.test.web.servlet.MockMvc;
 import org.springframework.test.web.servlet.MvcResult;
 
+import java.math.BigDecimal;
+import java.time.Duration;
 import java.time.LocalDateTime;
 import java.util.List;
 import java.util.concurrent.CompletableFuture;
 
 import static org.hamcrest.Matchers.hasSize;
 import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.asyncDispatch;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
@@ -78,6 +84,63 @@ class AnalyticsControllerAPITest {
                 .andExpect(status().isBadRequest());
     }
 
+    @Test
+    void getTopSellers_returnsRankedTotals() throws Exception {
+        SellerResponseDTO seller = new SellerResponseDTO();
+        seller.setId(1L);
+        when(analyticsService.findTopSellers(any(), any(), eq(3)))
+                .thenReturn(CompletableFuture.completedFuture(
+                        List.of(new SellerRankDTO(seller, new BigDecimal("250.00"), 4))));
+
+        MvcResult mvcResult = mockMvc.perform(get("/api/analytics/top-sellers")
+                        .param("n", "3")
+                        .param("start", "2025-01-01T00:00:00")
+                        .param("end", "2025-01-31T23:59:59"))
+                .andExpect(request().asyncStarted())
+                .andReturn();
+
+        mockMvc.perform(asyncDispatch(mvcResult))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$", hasSize(1)))
+                .andExpect(jsonPath("$[0].seller.id").value(1L))
+                .andExpect(jsonPath("$[0].totalAmount").value(250.00))
+                .andExpect(jsonPath("$[0].transactionCount").value(4));
+    }
+
+    @Test
+    void getTopSellers_rejectsOutOfRangeN() throws Exception {
+        MvcResult mvcResult = mockMvc.perform(get("/api/analytics/top-sellers")
+                        .param("n", "101")
+                        .param("start", "2025-01-01T00:00:00")
+                        .param("end", "2025-01-31T23:59:59"))
+                .andExpect(request().asyncStarted())
+                .andReturn();
+
+        mockMvc.perform(asyncDispatch(mvcResult))
+                .andExpect(status().isBadRequest());
+        verify(analyticsService, never()).findTopSellers(any(), any(), anyInt());
+    }
+
+    @Test
+    void getLiveTopSellers_passesWindowAndN() throws Exception {
+        SellerResponseDTO seller = new SellerResponseDTO();
+        seller.setId(5L);
+        when(analyticsService.findLiveTopSellers(LiveWindow.WEEK, 2))
+                .thenReturn(CompletableFuture.completedFuture(
+                        List.of(new SellerRankDTO(seller, new BigDecimal("75.00"), 3))));
+
+        MvcResult mvcResult = mockMvc.perform(get("/api/analytics/live-top-sellers")
+                        .param("window", "WEEK")
+                        .param("n", "2"))
+                .andExpect(request().asyncStarted())
+                .andReturn();
+
+        mockMvc.perform(asyncDispatch(mvcResult))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$[0].seller.id").value(5L))
+                .andExpect(jsonPath("$[0].transactionCount").value(3));
+    }
+
     @Test
     void getSellersWithTotalAmountLessThan_success() throws Exception {
         SellerResponseDTO seller = new SellerResponseDTO();
@@ -118,7 +181,7 @@ class AnalyticsControllerAPITest {
     void getBestTransactionPeriodForSeller_success() throws Exception {
         BestPeriodResultDTO result = new BestPeriodResultDTO(LocalDateTime.of(2025,1,1,0,0),
                 LocalDateTime.of(2025,1,2,0,0), 5);
-        when(analyticsService.findBestTransactionPeriodForSeller(1L))
+        when(analyticsService.findBestTransactionPeriodForSeller(1L, null))
                 .thenReturn(CompletableFuture.completedFuture(result));
 
         MvcResult mvcResult = mockMvc.perform(get("/api/analytics/best-period/1"))
@@ -133,7 +196,7 @@ class AnalyticsControllerAPITest {
     @Test
     void getBestTransactionPeriodForSeller_notFound() throws Exception {
         BestPeriodResultDTO result = new BestPeriodResultDTO();
-        when(analyticsService.findBestTransactionPeriodForSeller(1L))
+        when(analyticsService.findBestTransactionPeriodForSeller(1L, null))
                 .thenReturn(CompletableFuture.completedFuture(result));
 
         MvcResult mvcResult = mockMvc.perform(get("/api/analytics/best-period/1"))
@@ -147,7 +210,7 @@ class AnalyticsControllerAPITest {
 
     @Test
     void getBestTransactionPeriodForSeller_exception() throws Exception {
-        when(analyticsService.findBestTransactionPeriodForSeller(1L))
+        when(analyticsService.findBestTransactionPeriodForSeller(1L, null))
                 .thenReturn(CompletableFuture.failedFuture(new RuntimeException("DB error")));
 
         MvcResult mvcResult = mockMvc.perform(get("/api/analytics/best-period/1"))
@@ -158,4 +221,38 @@ class AnalyticsControllerAPITest {
                 .andExpect(status().isInternalServerError())
                 .andExpect(jsonPath("$.transactionCount").value(0));
     }
+
+    @Test
+    void getBestTransactionPeriodForSeller_withWindow() throws Exception {
+        BestPeriodResultDTO result = new BestPeriodResultDTO(LocalDateTime.of(2025,1,1,9,0),
+                LocalDateTime.of(2025,1,1,9,45), 4);
+        when(analyticsService.findBestTransactionPeriodForSeller(1L, Duration.ofHours(1)))
+                .thenReturn(CompletableFuture.completedFuture(result));
+
+        MvcResult mvcResult = mockMvc.perform(get("/api/analytics/best-period/1")
+                        .param("window", "HOUR"))
+                .andExpect(request().asyncStarted())
+                .andReturn();
+
+        mockMvc.perform(asyncDispatch(mvcResult))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.transactionCount").value(4));
+    }
+
+    @Test
+    void getBestTransactionPeriodForSeller_withCustomDuration() throws Exception {
+        BestPeriodResultDTO result = new BestPeriodResultDTO(LocalDateTime.of(2025,1,1,9,0),
+                LocalDateTime.of(2025,1,1,14,0), 7);
+        when(analyticsService.findBestTransactionPeriodForSeller(1L, Duration.ofHours(6)))
+                .thenReturn(CompletableFuture.completedFuture(result));
+
+        MvcResult mvcResult = mockMvc.perform(get("/api/analytics/best-period/1")
+                        .param("duration", "PT6H"))
+                .andExpect(request().asyncStarted())
+                .andReturn();
+
+        mockMvc.perform(asyncDispatch(mvcResult))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.transactionCount").value(7));
+    }
 }
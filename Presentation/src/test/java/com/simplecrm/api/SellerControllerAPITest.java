@@ -2,8 +2,11 @@ package com.simplecrm.api;
 
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.simplecrm.Controllers.SellerController;
+import com.simplecrm.Exceptions.SellerValidationException;
 import com.simplecrm.RequestDTO.Seller.SellerCreateRequestDTO;
+import com.simplecrm.RequestDTO.Seller.SellerFilterDTO;
 import com.simplecrm.RequestDTO.Seller.SellerUpdateRequestDTO;
+import com.simplecrm.ResponseDTO.SellerPageDTO;
 import com.simplecrm.ResponseDTO.SellerResponseDTO;
 import com.simplecrm.ResultTypes.SellerResult;
 import com.simplecrm.Services.Interfaces.SellerService;
@@ -23,7 +26,9 @@ import java.util.List;
 import java.util.concurrent.CompletableFuture;
 
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
 import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.when;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.*;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
@@ -69,7 +74,7 @@ class SellerControllerAPITest {
         when(sellerService.getAllSellers())
                 .thenReturn(CompletableFuture.supplyAsync(() -> List.of(s1, s2)));
 
-        MvcResult mvcResult = mockMvc.perform(get("/api/sellers"))
+        MvcResult mvcResult = mockMvc.perform(get("/api/sellers/all"))
                 .andExpect(request().asyncStarted())
                 .andReturn();
 
@@ -84,7 +89,7 @@ class SellerControllerAPITest {
         when(sellerService.getAllSellers())
                 .thenReturn(CompletableFuture.failedFuture(new RuntimeException("DB error")));
 
-        MvcResult mvcResult = mockMvc.perform(get("/api/sellers"))
+        MvcResult mvcResult = mockMvc.perform(get("/api/sellers/all"))
                 .andExpect(request().asyncStarted())
                 .andReturn();
 
@@ -93,6 +98,43 @@ class SellerControllerAPITest {
     }
 
 
+    @Test
+    void getSellersPage_bindsFilterAndReturnsCursor() throws Exception {
+        SellerResponseDTO s1 = new SellerResponseDTO();
+        s1.setId(1L);
+        s1.setName("Alice");
+        SellerFilterDTO filter = new SellerFilterDTO("al", LocalDateTime.of(2025, 1, 1, 0, 0), null);
+
+        when(sellerService.getSellersPage(filter, "-registrationDate", null, 1))
+                .thenReturn(CompletableFuture.completedFuture(new SellerPageDTO(List.of(s1), "next-token")));
+
+        MvcResult mvcResult = mockMvc.perform(get("/api/sellers")
+                        .param("name", "al")
+                        .param("registeredFrom", "2025-01-01T00:00:00")
+                        .param("sort", "-registrationDate")
+                        .param("limit", "1"))
+                .andExpect(request().asyncStarted())
+                .andReturn();
+
+        mockMvc.perform(asyncDispatch(mvcResult))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.items[0].name").value("Alice"))
+                .andExpect(jsonPath("$.nextCursor").value("next-token"));
+    }
+
+    @Test
+    void getSellersPage_invalidSort() throws Exception {
+        when(sellerService.getSellersPage(any(), eq("email"), any(), anyInt()))
+                .thenReturn(CompletableFuture.failedFuture(new SellerValidationException("Unsupported sort: email")));
+
+        MvcResult mvcResult = mockMvc.perform(get("/api/sellers").param("sort", "email"))
+                .andExpect(request().asyncStarted())
+                .andReturn();
+
+        mockMvc.perform(asyncDispatch(mvcResult))
+                .andExpect(status().isBadRequest());
+    }
+
     @Test
     void getSellerById_success() throws Exception {
         SellerResponseDTO dto = new SellerResponseDTO();
@@ -2,9 +2,12 @@ package com.simplecrm.api;
 
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.simplecrm.Controllers.TransactionController;
+import com.simplecrm.Exceptions.TransactionValidationException;
+import com.simplecrm.Projections.TransactionExportView;
 import com.simplecrm.Projections.TransactionFlatView;
 import com.simplecrm.RequestDTO.Transaction.TransactionCreateRequestDTO;
 import com.simplecrm.RequestDTO.Transaction.TransactionUpdateRequestDTO;
+import com.simplecrm.ResponseDTO.TransactionPageDTO;
 import com.simplecrm.ResponseDTO.TransactionResponseDTO;
 import com.simplecrm.ResultTypes.TransactionResult;
 import com.simplecrm.Models.Enums.PaymentType;
@@ -24,10 +27,12 @@ import java.math.BigDecimal;
 import java.time.LocalDateTime;
 import java.util.List;
 import java.util.concurrent.CompletableFuture;
+import java.util.function.Consumer;
 
 import static org.hamcrest.Matchers.hasSize;
+import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.mockito.ArgumentMatchers.*;
-import static org.mockito.Mockito.when;
+import static org.mockito.Mockito.*;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.*;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
 
@@ -62,7 +67,7 @@ class TransactionControllerAPITest {
         when(transactionService.getAllTransactions())
                 .thenReturn(CompletableFuture.completedFuture(List.of(t1, t2)));
 
-        MvcResult mvcResult = mockMvc.perform(get("/api/transactions"))
+        MvcResult mvcResult = mockMvc.perform(get("/api/transactions/all"))
                 .andExpect(request().asyncStarted())
                 .andReturn();
 
@@ -76,7 +81,7 @@ class TransactionControllerAPITest {
         when(transactionService.getAllTransactions())
                 .thenReturn(CompletableFuture.failedFuture(new RuntimeException("DB error")));
 
-        MvcResult mvcResult = mockMvc.perform(get("/api/transactions"))
+        MvcResult mvcResult = mockMvc.perform(get("/api/transactions/all"))
                 .andExpect(request().asyncStarted())
                 .andReturn();
 
@@ -84,6 +89,137 @@ class TransactionControllerAPITest {
                 .andExpect(status().isInternalServerError());
     }
 
+    @Test
+    void getTransactionsPage_success() throws Exception {
+        TransactionResponseDTO t1 = new TransactionResponseDTO();
+        t1.setId(1L);
+        TransactionPageDTO page = new TransactionPageDTO(List.of(t1), "next-token");
+
+        when(transactionService.getTransactionsPage(null, 1))
+                .thenReturn(CompletableFuture.completedFuture(page));
+
+        MvcResult mvcResult = mockMvc.perform(get("/api/transactions").param("limit", "1"))
+                .andExpect(request().asyncStarted())
+                .andReturn();
+
+        mockMvc.perform(asyncDispatch(mvcResult))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.items", hasSize(1)))
+                .andExpect(jsonPath("$.nextCursor").value("next-token"));
+    }
+
+    @Test
+    void getTransactionsPage_invalidCursor() throws Exception {
+        when(transactionService.getTransactionsPage("garbage", 100))
+                .thenReturn(CompletableFuture.failedFuture(new TransactionValidationException("Malformed cursor: garbage")));
+
+        MvcResult mvcResult = mockMvc.perform(get("/api/transactions").param("cursor", "garbage"))
+                .andExpect(request().asyncStarted())
+                .andReturn();
+
+        mockMvc.perform(asyncDispatch(mvcResult))
+                .andExpect(status().isBadRequest());
+    }
+
+    @Test
+    void createTransactions_returnsResultPerRow() throws Exception {
+        TransactionResponseDTO created = new TransactionResponseDTO();
+        created.setId(1L);
+        when(transactionService.createTransactions(anyList()))
+                .thenReturn(CompletableFuture.completedFuture(List.of(
+                        new TransactionResult.Success(created),
+                        new TransactionResult.SellerNotFoundError("Seller not found with id: 99"))));
+
+        TransactionCreateRequestDTO row = new TransactionCreateRequestDTO();
+        row.setSellerId(1L);
+        row.setAmount(new BigDecimal("10.00"));
+        row.setPaymentType(PaymentType.CASH);
+        row.setTransactionDate(LocalDateTime.now());
+
+        MvcResult mvcResult = mockMvc.perform(post("/api/transactions/batch")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(List.of(row, row))))
+                .andExpect(request().asyncStarted())
+                .andReturn();
+
+        mockMvc.perform(asyncDispatch(mvcResult))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$", hasSize(2)))
+                .andExpect(jsonPath("$[0].transaction.id").value(1))
+                .andExpect(jsonPath("$[1].errorType").value("SELLER_NOT_FOUND"));
+    }
+
+    @Test
+    void createTransactions_rejectsOversizedBatch() throws Exception {
+        when(transactionService.createTransactions(anyList()))
+                .thenReturn(CompletableFuture.failedFuture(
+                        new TransactionValidationException("Batch size must be between 1 and 10000")));
+
+        MvcResult mvcResult = mockMvc.perform(post("/api/transactions/batch")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("[]"))
+                .andExpect(request().asyncStarted())
+                .andReturn();
+
+        mockMvc.perform(asyncDispatch(mvcResult))
+                .andExpect(status().isBadRequest());
+    }
+
+    @Test
+    void exportTransactions_ndjson() throws Exception {
+        doAnswer(invocation -> {
+            Consumer<TransactionExportView> consumer = invocation.getArgument(0);
+            consumer.accept(new ExportRow(1L, "Alice"));
+            consumer.accept(new ExportRow(2L, "Bob"));
+            return null;
+        }).when(transactionService).exportTransactions(any());
+
+        MvcResult mvcResult = mockMvc.perform(get("/api/transactions/export"))
+                .andExpect(request().asyncStarted())
+                .andReturn();
+        mvcResult.getAsyncResult();
+
+        String body = mockMvc.perform(asyncDispatch(mvcResult))
+                .andExpect(status().isOk())
+                .andExpect(content().contentType("application/x-ndjson"))
+                .andReturn().getResponse().getContentAsString();
+
+        String[] lines = body.split("\n");
+        assertEquals(2, lines.length);
+        assertEquals(1L, objectMapper.readTree(lines[0]).get("id").asLong());
+        assertEquals("Bob", objectMapper.readTree(lines[1]).get("sellerName").asText());
+    }
+
+    @Test
+    void exportTransactions_csv() throws Exception {
+        doAnswer(invocation -> {
+            Consumer<TransactionExportView> consumer = invocation.getArgument(0);
+            consumer.accept(new ExportRow(1L, "Alice"));
+            return null;
+        }).when(transactionService).exportTransactions(any());
+
+        MvcResult mvcResult = mockMvc.perform(get("/api/transactions/export").param("format", "csv"))
+                .andExpect(request().asyncStarted())
+                .andReturn();
+        mvcResult.getAsyncResult();
+
+        String body = mockMvc.perform(asyncDispatch(mvcResult))
+                .andExpect(status().isOk())
+                .andExpect(content().contentType("text/csv"))
+                .andReturn().getResponse().getContentAsString();
+
+        assertEquals("id,sellerId,sellerName,amount,paymentType,transactionDate,version\n"
+                + "1,10,Alice,100.00,CASH,2024-01-01T10:00,1\n", body);
+    }
+
+    @Test
+    void exportTransactions_unknownFormat() throws Exception {
+        mockMvc.perform(get("/api/transactions/export").param("format", "xml"))
+                .andExpect(status().isBadRequest());
+
+        verify(transactionService, never()).exportTransactions(any());
+    }
+
     @Test
     void getTransactionById_success() throws Exception {
         TransactionResponseDTO dto = new TransactionResponseDTO();
@@ -398,4 +534,22 @@ class TransactionControllerAPITest {
         mockMvc.perform(asyncDispatch(mvcResult))
                 .andExpect(status().isInternalServerError());
     }
+
+    static class ExportRow implements TransactionExportView {
+        private final Long id;
+        private final String sellerName;
+
+        ExportRow(Long id, String sellerName) {
+            this.id = id;
+            this.sellerName = sellerName;
+        }
+
+        public Long getId() { return id; }
+        public Long getSellerId() { return 10L; }
+        public String getSellerName() { return sellerName; }
+        public BigDecimal getAmount() { return new BigDecimal("100.00"); }
+        public PaymentType getPaymentType() { return PaymentType.CASH; }
+        public LocalDateTime getTransactionDate() { return LocalDateTime.of(2024, 1, 1, 10, 0); }
+        public Long getVersion() { return 1L; }
+    }
 }
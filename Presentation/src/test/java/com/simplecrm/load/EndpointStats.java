@@ -0,0 +1,51 @@
+package com.simplecrm.load;
+
+import java.util.Arrays;
+
+/**
+ * Latency samples of one endpoint. Each load worker fills its own instance; they are merged
+ * once the run is over, so recording needs no synchronization.
+ */
+final class EndpointStats {
+
+    private long[] latencies = new long[1024];
+    private int count;
+    private int errors;
+
+    void record(long latencyNanos, boolean success) {
+        if (count == latencies.length) {
+            latencies = Arrays.copyOf(latencies, count * 2);
+        }
+        latencies[count++] = latencyNanos;
+        if (!success) {
+            errors++;
+        }
+    }
+
+    void merge(EndpointStats other) {
+        if (count + other.count > latencies.length) {
+            latencies = Arrays.copyOf(latencies, count + other.count);
+        }
+        System.arraycopy(other.latencies, 0, latencies, count, other.count);
+        count += other.count;
+        errors += other.errors;
+    }
+
+    int count() {
+        return count;
+    }
+
+    double errorRate() {
+        return count == 0 ? 0 : (double) errors / count;
+    }
+
+    /** Nearest-rank percentile in milliseconds; sorts the samples in place. */
+    double percentileMillis(double percentile) {
+        if (count == 0) {
+            return 0;
+        }
+        Arrays.sort(latencies, 0, count);
+        int rank = (int) Math.ceil(percentile / 100.0 * count);
+        return latencies[Math.max(0, Math.min(count - 1, rank - 1))] / 1_000_000.0;
+    }
+}
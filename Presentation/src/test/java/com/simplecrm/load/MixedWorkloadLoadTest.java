@@ -0,0 +1,311 @@
+package com.simplecrm.load;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.simplecrm.Application.Application;
+import com.simplecrm.Models.Enums.PaymentType;
+import com.simplecrm.RequestDTO.Seller.SellerCreateRequestDTO;
+import com.simplecrm.RequestDTO.Transaction.TransactionCreateRequestDTO;
+import com.simplecrm.ResultTypes.SellerResult;
+import com.simplecrm.ResultTypes.TransactionResult;
+import com.simplecrm.Services.Interfaces.SellerService;
+import com.simplecrm.Services.Interfaces.TransactionService;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.web.server.LocalServerPort;
+import org.springframework.jdbc.datasource.init.ScriptUtils;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+import org.testcontainers.containers.PostgreSQLContainer;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.math.BigDecimal;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Properties;
+import java.util.SplittableRandom;
+import java.util.TreeMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * End-to-end throughput and latency of the HTTP API under a mixed read/write workload, against
+ * the full application on a PostgreSQL container built from the {@code db/migration} scripts.
+ * Excluded from {@code test}; run with {@code ./gradlew :Presentation:loadTest} and tune it with
+ * {@code -Ploadtest.<name>=<value>} (sellers, transactions, concurrency, warmup, duration,
+ * max-regression, max-error-rate). Skipped without Docker.
+ * <p>
+ * Results go to {@code loadtest.results}. Every run fails if more than {@code max-error-rate} of
+ * an endpoint's requests fail. Latency and throughput are only compared when
+ * {@code loadtest.baseline} exists: the run then fails if any endpoint's p99 grows, or its
+ * throughput drops, by more than {@code max-regression}. Copy a results file from the same
+ * machine there to set a baseline.
+ */
+@Tag("load")
+@SpringBootTest(classes = Application.class, webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT, properties = {
+        "spring.jpa.show-sql=false",
+        "spring.jpa.properties.hibernate.format_sql=false",
+        "logging.level.org.hibernate.Transaction=info",
+        "logging.level.org.springframework.orm.jpa=info"
+})
+@Testcontainers(disabledWithoutDocker = true)
+class MixedWorkloadLoadTest {
+
+    private static final int SEED_BATCH = 5_000;
+
+    @Container
+    private static final PostgreSQLContainer<?> POSTGRES = new PostgreSQLContainer<>("postgres:12-alpine");
+
+    @DynamicPropertySource
+    static void postgres(DynamicPropertyRegistry registry) {
+        registry.add("spring.datasource.url", POSTGRES::getJdbcUrl);
+        registry.add("spring.datasource.username", POSTGRES::getUsername);
+        registry.add("spring.datasource.password", POSTGRES::getPassword);
+        registry.add("spring.jpa.hibernate.ddl-auto", () -> "none");
+        registry.add("spring.sql.init.mode", () -> "always");
+        registry.add("spring.sql.init.schema-locations", () -> "classpath:db/migration/V*__*.sql");
+        // one statement per script: the migrations contain PL/pgSQL bodies
+        registry.add("spring.sql.init.separator", () -> ScriptUtils.EOF_STATEMENT_SEPARATOR);
+    }
+
+    private final int sellerCount = Integer.getInteger("loadtest.sellers", 200);
+    private final int transactionCount = Integer.getInteger("loadtest.transactions", 20_000);
+    private final int concurrency = Integer.getInteger("loadtest.concurrency", 16);
+    private final Duration warmup = Duration.parse(System.getProperty("loadtest.warmup", "PT10S"));
+    private final Duration duration = Duration.parse(System.getProperty("loadtest.duration", "PT30S"));
+    private final double maxRegression = Double.parseDouble(System.getProperty("loadtest.max-regression", "0.2"));
+    private final double maxErrorRate = Double.parseDouble(System.getProperty("loadtest.max-error-rate", "0.01"));
+    private final Path baseline = Path.of(System.getProperty("loadtest.baseline", "loadtest-baseline.properties"));
+    private final Path results = Path.of(System.getProperty("loadtest.results", "build/loadtest/results.properties"));
+
+    @LocalServerPort
+    private int port;
+
+    @Autowired
+    private SellerService sellerService;
+
+    @Autowired
+    private TransactionService transactionService;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    private final HttpClient client = HttpClient.newBuilder().version(HttpClient.Version.HTTP_1_1).build();
+    private final List<Long> sellerIds = new ArrayList<>();
+    private final List<Long> transactionIds = new ArrayList<>();
+    private final LocalDateTime now = LocalDateTime.now().truncatedTo(ChronoUnit.SECONDS);
+
+    @Test
+    void mixedWorkload_staysWithinErrorRateAndBaseline() throws Exception {
+        seed();
+
+        run(warmup);
+        Map<String, EndpointStats> stats = run(duration);
+
+        Properties current = report(stats);
+        Files.createDirectories(results.toAbsolutePath().getParent());
+        try (OutputStream out = Files.newOutputStream(results)) {
+            current.store(out, "mixed workload, " + concurrency + " clients, " + duration);
+        }
+
+        List<String> failures = new ArrayList<>();
+        stats.forEach((endpoint, endpointStats) -> {
+            if (endpointStats.errorRate() > maxErrorRate) {
+                failures.add("%s: error rate %.2f%%".formatted(endpoint, endpointStats.errorRate() * 100));
+            }
+        });
+        if (Files.exists(baseline)) {
+            failures.addAll(regressions(loadProperties(baseline), current));
+        } else {
+            System.out.println("No baseline at " + baseline.toAbsolutePath() + "; copy " + results + " there to enable the regression check");
+        }
+        assertThat(failures).isEmpty();
+    }
+
+    private void seed() throws Exception {
+        for (int i = 0; i < sellerCount; i++) {
+            SellerCreateRequestDTO request = new SellerCreateRequestDTO();
+            request.setName("Load seller " + i);
+            request.setContactInfo("load" + i + "@example.com");
+            if (sellerService.createSeller(request).get() instanceof SellerResult.Success success) {
+                sellerIds.add(success.seller().getId());
+            }
+        }
+
+        SplittableRandom random = new SplittableRandom(7);
+        List<TransactionCreateRequestDTO> batch = new ArrayList<>(SEED_BATCH);
+        for (int i = 0; i < transactionCount; i++) {
+            batch.add(transactionRequest(random, now.minusMinutes(random.nextLong(0, Duration.ofDays(30).toMinutes()))));
+            if (batch.size() == SEED_BATCH || i == transactionCount - 1) {
+                for (TransactionResult result : transactionService.createTransactions(batch).get()) {
+                    if (result instanceof TransactionResult.Success success) {
+                        transactionIds.add(success.transaction().getId());
+                    }
+                }
+                batch = new ArrayList<>(SEED_BATCH);
+            }
+        }
+        assertThat(sellerIds).hasSize(sellerCount);
+        assertThat(transactionIds).hasSize(transactionCount);
+    }
+
+    private Map<String, EndpointStats> run(Duration length) throws Exception {
+        long deadline = System.nanoTime() + length.toNanos();
+        List<Future<Map<String, EndpointStats>>> workers = new ArrayList<>();
+        try (ExecutorService executor = Executors.newFixedThreadPool(concurrency)) {
+            for (int worker = 0; worker < concurrency; worker++) {
+                SplittableRandom random = new SplittableRandom(worker);
+                workers.add(executor.submit(() -> work(random, deadline)));
+            }
+            Map<String, EndpointStats> merged = new TreeMap<>();
+            for (Future<Map<String, EndpointStats>> worker : workers) {
+                worker.get().forEach((endpoint, stats) -> merged.computeIfAbsent(endpoint, key -> new EndpointStats()).merge(stats));
+            }
+            return merged;
+        }
+    }
+
+    private Map<String, EndpointStats> work(SplittableRandom random, long deadline) throws IOException, InterruptedException {
+        Map<String, EndpointStats> stats = new HashMap<>();
+        while (System.nanoTime() < deadline) {
+            Call call = nextCall(random);
+            long started = System.nanoTime();
+            HttpResponse<InputStream> response = client.send(call.request(), HttpResponse.BodyHandlers.ofInputStream());
+            try (InputStream body = response.body()) {
+                body.transferTo(OutputStream.nullOutputStream());
+            }
+            long elapsed = System.nanoTime() - started;
+            stats.computeIfAbsent(call.endpoint(), key -> new EndpointStats())
+                    .record(elapsed, response.statusCode() / 100 == 2);
+        }
+        return stats;
+    }
+
+    /** Roughly 80% reads and 20% writes, weighted towards single-row lookups. */
+    private Call nextCall(SplittableRandom random) throws IOException {
+        long sellerId = sellerIds.get(random.nextInt(sellerIds.size()));
+        long transactionId = transactionIds.get(random.nextInt(transactionIds.size()));
+        String period = "start=" + now.minusDays(7) + "&end=" + now;
+        int pick = random.nextInt(100);
+        if (pick < 15) {
+            return get("GET /api/sellers/{id}", "/api/sellers/" + sellerId);
+        } else if (pick < 30) {
+            return get("GET /api/transactions/{id}", "/api/transactions/" + transactionId);
+        } else if (pick < 40) {
+            return get("GET /api/transactions", "/api/transactions?limit=100");
+        } else if (pick < 48) {
+            return get("GET /api/transactions/seller/{sellerId}", "/api/transactions/seller/" + sellerId);
+        } else if (pick < 52) {
+            return get("GET /api/sellers", "/api/sellers?limit=100");
+        } else if (pick < 57) {
+            return get("GET /api/analytics/top-seller", "/api/analytics/top-seller?" + period);
+        } else if (pick < 62) {
+            return get("GET /api/analytics/top-sellers", "/api/analytics/top-sellers?n=10&" + period);
+        } else if (pick < 70) {
+            return get("GET /api/analytics/live-top-sellers", "/api/analytics/live-top-sellers?window=TODAY&n=10");
+        } else if (pick < 73) {
+            return get("GET /api/analytics/low-performers", "/api/analytics/low-performers?amount=1000&" + period);
+        } else if (pick < 80) {
+            return get("GET /api/analytics/best-period/{sellerId}", "/api/analytics/best-period/" + sellerId + "?window=DAY");
+        } else if (pick < 98) {
+            return post("POST /api/transactions", "/api/transactions", transactionRequest(random, LocalDateTime.now()));
+        } else {
+            SellerCreateRequestDTO seller = new SellerCreateRequestDTO();
+            seller.setName("Load seller " + random.nextInt());
+            seller.setContactInfo("load-" + random.nextInt(Integer.MAX_VALUE) + "@example.com");
+            return post("POST /api/sellers", "/api/sellers", seller);
+        }
+    }
+
+    private TransactionCreateRequestDTO transactionRequest(SplittableRandom random, LocalDateTime date) {
+        TransactionCreateRequestDTO request = new TransactionCreateRequestDTO();
+        request.setSellerId(sellerIds.get(random.nextInt(sellerIds.size())));
+        request.setAmount(BigDecimal.valueOf(random.nextLong(100, 1_000_000), 2));
+        request.setPaymentType(PaymentType.values()[random.nextInt(PaymentType.values().length)]);
+        request.setTransactionDate(date);
+        return request;
+    }
+
+    private Call get(String endpoint, String path) {
+        return new Call(endpoint, HttpRequest.newBuilder(uri(path)).GET().build());
+    }
+
+    private Call post(String endpoint, String path, Object body) throws IOException {
+        return new Call(endpoint, HttpRequest.newBuilder(uri(path))
+                .header("Content-Type", "application/json")
+                .POST(HttpRequest.BodyPublishers.ofByteArray(objectMapper.writeValueAsBytes(body)))
+                .build());
+    }
+
+    private URI uri(String path) {
+        return URI.create("http://localhost:" + port + path);
+    }
+
+    private Properties report(Map<String, EndpointStats> stats) {
+        double seconds = duration.toNanos() / 1_000_000_000.0;
+        Properties properties = new Properties();
+        System.out.printf("%-42s %9s %9s %9s %9s %8s%n", "endpoint", "req/s", "p50 ms", "p99 ms", "p999 ms", "errors");
+        stats.forEach((endpoint, endpointStats) -> {
+            double throughput = endpointStats.count() / seconds;
+            double p50 = endpointStats.percentileMillis(50);
+            double p99 = endpointStats.percentileMillis(99);
+            double p999 = endpointStats.percentileMillis(99.9);
+            System.out.printf("%-42s %9.1f %9.2f %9.2f %9.2f %7.2f%%%n",
+                    endpoint, throughput, p50, p99, p999, endpointStats.errorRate() * 100);
+            properties.setProperty(endpoint + ".rps", String.valueOf(throughput));
+            properties.setProperty(endpoint + ".p50", String.valueOf(p50));
+            properties.setProperty(endpoint + ".p99", String.valueOf(p99));
+            properties.setProperty(endpoint + ".p999", String.valueOf(p999));
+        });
+        return properties;
+    }
+
+    private List<String> regressions(Properties baseline, Properties current) {
+        List<String> failures = new ArrayList<>();
+        for (String key : baseline.stringPropertyNames()) {
+            String value = current.getProperty(key);
+            if (value == null || !(key.endsWith(".p99") || key.endsWith(".rps"))) {
+                continue;
+            }
+            double before = Double.parseDouble(baseline.getProperty(key));
+            double after = Double.parseDouble(value);
+            boolean regressed = key.endsWith(".p99")
+                    ? after > before * (1 + maxRegression)
+                    : after < before * (1 - maxRegression);
+            if (regressed) {
+                failures.add("%s: %.2f -> %.2f".formatted(key, before, after));
+            }
+        }
+        return failures;
+    }
+
+    private static Properties loadProperties(Path path) throws IOException {
+        Properties properties = new Properties();
+        try (InputStream in = Files.newInputStream(path)) {
+            properties.load(in);
+        }
+        return properties;
+    }
+
+    private record Call(String endpoint, HttpRequest request) {
+    }
+}
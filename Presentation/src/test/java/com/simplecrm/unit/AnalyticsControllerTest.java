@@ -1,6 +1,7 @@
 package com.simplecrm.unit;
 
 import com.simplecrm.AnalyticsDTO.BestPeriodResultDTO;
+import com.simplecrm.AnalyticsDTO.BestPeriodWindow;
 import com.simplecrm.Controllers.AnalyticsController;
 import com.simplecrm.ResponseDTO.SellerResponseDTO;
 import com.simplecrm.Services.Interfaces.AnalyticsService;
@@ -13,6 +14,7 @@ import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 
 import java.math.BigDecimal;
+import java.time.Duration;
 import java.time.LocalDateTime;
 import java.util.List;
 import java.util.Objects;
@@ -21,6 +23,8 @@ import java.util.concurrent.CompletableFuture;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertNull;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
 import static org.mockito.Mockito.when;
 
 class AnalyticsControllerTest {
@@ -96,11 +100,11 @@ class AnalyticsControllerTest {
     void testGetBestTransactionPeriodForSeller_Found() throws Exception {
         BestPeriodResultDTO dto = new BestPeriodResultDTO(LocalDateTime.now(),
                 LocalDateTime.now().plusDays(1), 5);
-        when(analyticsService.findBestTransactionPeriodForSeller(1L))
+        when(analyticsService.findBestTransactionPeriodForSeller(1L, null))
                 .thenReturn(CompletableFuture.completedFuture(dto));
 
         ResponseEntity<BestPeriodResultDTO> response = analyticsController
-                .getBestTransactionPeriodForSeller(1L).get();
+                .getBestTransactionPeriodForSeller(1L, null, null).get();
 
         assertEquals(HttpStatus.OK, response.getStatusCode());
         assertEquals(5, Objects.requireNonNull(response.getBody()).getTransactionCount());
@@ -109,11 +113,11 @@ class AnalyticsControllerTest {
     @Test
     void testGetBestTransactionPeriodForSeller_NotFound() throws Exception {
         BestPeriodResultDTO dto = new BestPeriodResultDTO();
-        when(analyticsService.findBestTransactionPeriodForSeller(1L))
+        when(analyticsService.findBestTransactionPeriodForSeller(1L, null))
                 .thenReturn(CompletableFuture.completedFuture(dto));
 
         ResponseEntity<BestPeriodResultDTO> response = analyticsController
-                .getBestTransactionPeriodForSeller(1L).get();
+                .getBestTransactionPeriodForSeller(1L, null, null).get();
 
         assertEquals(HttpStatus.NOT_FOUND, response.getStatusCode());
         assertEquals(0, Objects.requireNonNull(response.getBody()).getTransactionCount());
@@ -123,12 +127,49 @@ class AnalyticsControllerTest {
     void testGetBestTransactionPeriodForSeller_Exceptionally() throws Exception {
         CompletableFuture<BestPeriodResultDTO> future = new CompletableFuture<>();
         future.completeExceptionally(new RuntimeException("error"));
-        when(analyticsService.findBestTransactionPeriodForSeller(1L)).thenReturn(future);
+        when(analyticsService.findBestTransactionPeriodForSeller(1L, null)).thenReturn(future);
 
         ResponseEntity<BestPeriodResultDTO> response = analyticsController
-                .getBestTransactionPeriodForSeller(1L).get();
+                .getBestTransactionPeriodForSeller(1L, null, null).get();
 
         assertEquals(HttpStatus.INTERNAL_SERVER_ERROR, response.getStatusCode());
         assertEquals(0, Objects.requireNonNull(response.getBody()).getTransactionCount());
     }
+
+    @Test
+    void testGetBestTransactionPeriodForSeller_WindowPreset() throws Exception {
+        BestPeriodResultDTO dto = new BestPeriodResultDTO(LocalDateTime.now(),
+                LocalDateTime.now().plusHours(20), 3);
+        when(analyticsService.findBestTransactionPeriodForSeller(1L, Duration.ofDays(1)))
+                .thenReturn(CompletableFuture.completedFuture(dto));
+
+        ResponseEntity<BestPeriodResultDTO> response = analyticsController
+                .getBestTransactionPeriodForSeller(1L, BestPeriodWindow.DAY, null).get();
+
+        assertEquals(HttpStatus.OK, response.getStatusCode());
+        verify(analyticsService).findBestTransactionPeriodForSeller(1L, Duration.ofDays(1));
+    }
+
+    @Test
+    void testGetBestTransactionPeriodForSeller_CustomDurationOverridesPreset() throws Exception {
+        BestPeriodResultDTO dto = new BestPeriodResultDTO(LocalDateTime.now(),
+                LocalDateTime.now().plusMinutes(30), 2);
+        when(analyticsService.findBestTransactionPeriodForSeller(1L, Duration.ofMinutes(90)))
+                .thenReturn(CompletableFuture.completedFuture(dto));
+
+        ResponseEntity<BestPeriodResultDTO> response = analyticsController
+                .getBestTransactionPeriodForSeller(1L, BestPeriodWindow.WEEK, Duration.ofMinutes(90)).get();
+
+        assertEquals(HttpStatus.OK, response.getStatusCode());
+        assertEquals(2, Objects.requireNonNull(response.getBody()).getTransactionCount());
+    }
+
+    @Test
+    void testGetBestTransactionPeriodForSeller_NonPositiveDuration() throws Exception {
+        ResponseEntity<BestPeriodResultDTO> response = analyticsController
+                .getBestTransactionPeriodForSeller(1L, null, Duration.ZERO).get();
+
+        assertEquals(HttpStatus.BAD_REQUEST, response.getStatusCode());
+        verifyNoInteractions(analyticsService);
+    }
 }
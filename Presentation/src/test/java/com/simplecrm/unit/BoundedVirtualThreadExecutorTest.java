@@ -0,0 +1,79 @@
+package com.simplecrm.unit;
+
+import com.simplecrm.Configs.BoundedVirtualThreadExecutor;
+import com.simplecrm.Configs.MdcTaskDecorator;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.slf4j.MDC;
+import org.springframework.core.task.TaskRejectedException;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class BoundedVirtualThreadExecutorTest {
+
+    @AfterEach
+    void tearDown() {
+        MDC.clear();
+    }
+
+    @Test
+    void execute_runsTaskOnVirtualThread() throws Exception {
+        BoundedVirtualThreadExecutor executor = new BoundedVirtualThreadExecutor("test", 2, 0, null, () -> {
+        });
+
+        Boolean virtual = CompletableFuture.supplyAsync(() -> Thread.currentThread().isVirtual(), executor)
+                .get(5, TimeUnit.SECONDS);
+
+        assertTrue(virtual);
+    }
+
+    @Test
+    void execute_rejectsWhenRunningAndQueuedSlotsAreTaken() throws Exception {
+        AtomicInteger rejections = new AtomicInteger();
+        BoundedVirtualThreadExecutor executor = new BoundedVirtualThreadExecutor("test", 1, 1, null,
+                rejections::incrementAndGet);
+        CountDownLatch release = new CountDownLatch(1);
+        CountDownLatch started = new CountDownLatch(1);
+
+        executor.execute(() -> {
+            started.countDown();
+            await(release);
+        });
+        executor.execute(() -> await(release));
+        assertTrue(started.await(5, TimeUnit.SECONDS));
+
+        assertThrows(TaskRejectedException.class, () -> executor.execute(() -> {
+        }));
+        assertEquals(1, rejections.get());
+        assertEquals(1, executor.getActiveCount());
+        assertEquals(1, executor.getQueuedCount());
+
+        release.countDown();
+    }
+
+    @Test
+    void execute_propagatesCallerMdc() throws Exception {
+        BoundedVirtualThreadExecutor executor = new BoundedVirtualThreadExecutor("test", 1, 0,
+                new MdcTaskDecorator(), () -> {
+        });
+        MDC.put("requestId", "abc");
+
+        String requestId = CompletableFuture.supplyAsync(() -> MDC.get("requestId"), executor)
+                .get(5, TimeUnit.SECONDS);
+
+        assertEquals("abc", requestId);
+    }
+
+    private static void await(CountDownLatch latch) {
+        try {
+            latch.await(5, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
@@ -3,8 +3,11 @@ package com.simplecrm.unit;
 import com.simplecrm.Exceptions.*;
 import com.simplecrm.Handlers.GlobalExceptionHandler;
 import org.junit.jupiter.api.Test;
+import org.springframework.core.task.TaskRejectedException;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
+import org.springframework.mock.web.MockHttpServletRequest;
 
 import static org.junit.jupiter.api.Assertions.*;
 
@@ -227,4 +230,24 @@ class GlobalExceptionHandlerTest {
         assertEquals(HttpStatus.INTERNAL_SERVER_ERROR, response.getStatusCode());
         assertEquals("", response.getBody());
     }
-}
\ No newline at end of file
+
+    @Test
+    void handleTaskRejected_analyticsRequest_returnsTooManyRequests() {
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", "/api/analytics/low-performers");
+
+        ResponseEntity<String> response = handler.handleTaskRejected(new TaskRejectedException("full"), request);
+
+        assertEquals(HttpStatus.TOO_MANY_REQUESTS, response.getStatusCode());
+        assertEquals("5", response.getHeaders().getFirst(HttpHeaders.RETRY_AFTER));
+    }
+
+    @Test
+    void handleTaskRejected_crudRequest_returnsServiceUnavailable() {
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", "/api/sellers/1");
+
+        ResponseEntity<String> response = handler.handleTaskRejected(new TaskRejectedException("full"), request);
+
+        assertEquals(HttpStatus.SERVICE_UNAVAILABLE, response.getStatusCode());
+        assertEquals("1", response.getHeaders().getFirst(HttpHeaders.RETRY_AFTER));
+    }
+}
@@ -299,6 +299,50 @@ class TransactionControllerTest {
         assertEquals(HttpStatus.INTERNAL_SERVER_ERROR, response.getStatusCode());
     }
 
+    @Test
+    void testRestoreTransaction_Success() throws Exception {
+        TransactionResult.Success success = new TransactionResult.Success(new TransactionResponseDTO());
+        when(transactionService.restoreTransactionById(1L)).thenReturn(CompletableFuture.completedFuture(success));
+
+        ResponseEntity<TransactionResult> response = transactionController.restoreTransaction(1L).get();
+
+        assertEquals(HttpStatus.OK, response.getStatusCode());
+        assertEquals(success, response.getBody());
+    }
+
+    @Test
+    void testRestoreTransaction_NotFound() throws Exception {
+        TransactionResult.NotFoundError notFound = new TransactionResult.NotFoundError("Missing");
+        when(transactionService.restoreTransactionById(1L)).thenReturn(CompletableFuture.completedFuture(notFound));
+
+        ResponseEntity<TransactionResult> response = transactionController.restoreTransaction(1L).get();
+
+        assertEquals(HttpStatus.NOT_FOUND, response.getStatusCode());
+    }
+
+    @Test
+    void testRestoreTransaction_SellerNotFound() throws Exception {
+        TransactionResult.SellerNotFoundError snf = new TransactionResult.SellerNotFoundError("Seller missing");
+        when(transactionService.restoreTransactionById(1L)).thenReturn(CompletableFuture.completedFuture(snf));
+
+        ResponseEntity<TransactionResult> response = transactionController.restoreTransaction(1L).get();
+
+        assertEquals(HttpStatus.NOT_FOUND, response.getStatusCode());
+        assertEquals(snf, response.getBody());
+    }
+
+    @Test
+    void testRestoreTransaction_Exceptionally() throws Exception {
+        CompletableFuture<TransactionResult> future = new CompletableFuture<>();
+        future.completeExceptionally(new RuntimeException("Unexpected"));
+        when(transactionService.restoreTransactionById(1L)).thenReturn(future);
+
+        ResponseEntity<TransactionResult> response = transactionController.restoreTransaction(1L).get();
+
+        assertEquals(HttpStatus.INTERNAL_SERVER_ERROR, response.getStatusCode());
+        assertInstanceOf(TransactionResult.GenericError.class, response.getBody());
+    }
+
     @Test
     void testGetTransactionsBySellerId_Success() throws Exception {
         TransactionFlatView view = mock(TransactionFlatView.class);